@@ -0,0 +1,65 @@
+package com.aol.cyclops.jmh;
+
+import java.io.File;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cold start cost of the Comprehender registry.
+ *
+ * Each invocation loads Comprehenders in a fresh ClassLoader and resolves the Comprehender for Optional, either via
+ * the indexed lookup (only the selected Comprehender is loaded) or by loading every registered Comprehender.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 10)
+@Measurement(iterations = 20)
+@Fork(1)
+public class ComprehenderStartupBenchmark {
+
+	private static final String COMPREHENDERS = "com.aol.cyclops.internal.comprehensions.comprehenders.Comprehenders";
+
+	@Benchmark
+	public Object indexedLookup() throws Exception {
+		return load("getRegisteredComprehender",Optional.class);
+	}
+	@Benchmark
+	public Object loadAll() throws Exception {
+		return load("getRegisteredComprehenders");
+	}
+
+	private Object load(String method,Object... args) throws Exception{
+		Thread thread = Thread.currentThread();
+		ClassLoader previous = thread.getContextClassLoader();
+		try(URLClassLoader loader = new URLClassLoader(classpath(),null)){
+			thread.setContextClassLoader(loader);
+			Class<?> type = loader.loadClass(COMPREHENDERS);
+			Object comprehenders = type.newInstance();
+			Method m = args.length==0 ? type.getMethod(method) : type.getMethod(method,Class.class);
+			return m.invoke(comprehenders,args).toString();
+		}finally{
+			thread.setContextClassLoader(previous);
+		}
+	}
+	private static URL[] classpath() throws Exception{
+		String[] entries = System.getProperty("java.class.path").split(File.pathSeparator);
+		URL[] urls = new URL[entries.length];
+		for(int i=0;i<entries.length;i++)
+			urls[i] = new File(entries[i]).toURI().toURL();
+		return urls;
+	}
+}
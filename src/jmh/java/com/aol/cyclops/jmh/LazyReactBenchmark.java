@@ -0,0 +1,104 @@
+package com.aol.cyclops.jmh;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.aol.cyclops.control.LazyReact;
+
+/**
+ * Throughput of LazyFutureStream pipelines (map / flatMap / filter) built by LazyReact
+ * with autoOptimize and object pooling switched on and off.
+ *
+ * Run with the gc profiler (configured in build.gradle) to report gc.alloc.rate.norm
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class LazyReactBenchmark {
+
+	@Param({ "1000", "100000" })
+	int size;
+	@Param({ "true", "false" })
+	boolean autoOptimize;
+	@Param({ "true", "false" })
+	boolean pooling;
+
+	private ExecutorService executor;
+	private LazyReact react;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+		LazyReact base = new LazyReact(executor).withAutoOptimize(autoOptimize);
+		react = pooling ? base.objectPoolingOn() : base.objectPoolingOff();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		executor.shutdown();
+	}
+
+	@Benchmark
+	public List<Integer> map() {
+		return react.range(0, size)
+					.map(i -> i + 1)
+					.map(i -> i * 2)
+					.toList();
+	}
+
+	/**
+	 * Drains through a Queue, the path on which pooled futures are recycled
+	 */
+	@Benchmark
+	public long mapToQueue() {
+		return react.range(0, size)
+					.map(i -> i + 1)
+					.toQueue()
+					.stream()
+					.count();
+	}
+
+	@Benchmark
+	public List<Integer> filter() {
+		return react.range(0, size)
+					.filter(i -> i % 2 == 0)
+					.map(i -> i + 1)
+					.toList();
+	}
+
+	@Benchmark
+	public List<Integer> flatMap() {
+		return react.range(0, size / 10)
+					.flatMap(i -> java.util.stream.Stream.of(i, i + 1, i + 2, i + 3, i + 4, i + 5, i + 6, i + 7, i + 8, i + 9))
+					.toList();
+	}
+
+	@Benchmark
+	public List<Integer> mapFlatMapFilter() {
+		return react.range(0, size / 10)
+					.map(i -> i * 10)
+					.flatMap(i -> java.util.stream.Stream.of(i, i + 1, i + 2, i + 3, i + 4, i + 5, i + 6, i + 7, i + 8, i + 9))
+					.filter(i -> i % 3 != 0)
+					.toList();
+	}
+
+}
@@ -0,0 +1,111 @@
+package com.aol.cyclops.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.aol.cyclops.control.ReactiveSeq;
+import com.aol.cyclops.data.collections.extensions.persistent.PMapX;
+import com.aol.cyclops.data.collections.extensions.persistent.PStackX;
+import com.aol.cyclops.data.collections.extensions.persistent.PVectorX;
+
+/**
+ * Build and read paths for the persistent collection extensions PVectorX, PStackX and PMapX
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class PersistentCollectionsBenchmark {
+
+	@Param({ "100", "10000" })
+	int size;
+
+	private PVectorX<Integer> vector;
+	private PStackX<Integer> stack;
+	private PMapX<Integer, Integer> map;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		vector = buildVector();
+		stack = buildStack();
+		map = buildMap();
+	}
+
+	@Benchmark
+	public PVectorX<Integer> buildVector() {
+		PVectorX<Integer> v = PVectorX.empty();
+		for (int i = 0; i < size; i++)
+			v = v.plus(i);
+		return v;
+	}
+
+	@Benchmark
+	public PVectorX<Integer> buildVectorFromStream() {
+		return ReactiveSeq.range(0, size).toPVectorX();
+	}
+
+	@Benchmark
+	public PStackX<Integer> buildStack() {
+		PStackX<Integer> s = PStackX.empty();
+		for (int i = 0; i < size; i++)
+			s = s.plus(i);
+		return s;
+	}
+
+	@Benchmark
+	public PMapX<Integer, Integer> buildMap() {
+		PMapX<Integer, Integer> m = PMapX.empty();
+		for (int i = 0; i < size; i++)
+			m = m.plus(i, i);
+		return m;
+	}
+
+	@Benchmark
+	public void readVectorIndexed(Blackhole bh) {
+		for (int i = 0; i < size; i++)
+			bh.consume(vector.get(i));
+	}
+
+	@Benchmark
+	public void readVectorIterator(Blackhole bh) {
+		for (Integer next : vector)
+			bh.consume(next);
+	}
+
+	@Benchmark
+	public void readStackIterator(Blackhole bh) {
+		for (Integer next : stack)
+			bh.consume(next);
+	}
+
+	@Benchmark
+	public void readMap(Blackhole bh) {
+		for (int i = 0; i < size; i++)
+			bh.consume(map.get(i));
+	}
+
+	@Benchmark
+	public PVectorX<Integer> mapVector() {
+		return vector.map(i -> i + 1);
+	}
+
+	@Benchmark
+	public PStackX<Integer> mapStack() {
+		return stack.map(i -> i + 1);
+	}
+}
@@ -0,0 +1,110 @@
+package com.aol.cyclops.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.aol.cyclops.data.async.Queue;
+import com.aol.cyclops.data.async.QueueFactories;
+import com.aol.cyclops.data.async.QueueFactory;
+import com.aol.cyclops.data.async.wait.WaitStrategy;
+
+/**
+ * Offer / poll cost of async.Queue for each QueueFactories variant and WaitStrategy.
+ *
+ * Each invocation offers a batch of elements and then polls them back on the same thread,
+ * so the SynchronousQueue variant (which requires a rendezvous between threads) is not included.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class QueueBenchmark {
+
+	static final int BATCH = 1000;
+
+	@Param({ "boundedQueue", "unboundedQueue", "unboundedNonBlockingQueue", "boundedNonBlockingQueue",
+			"singleWriterboundedNonBlockingQueue" })
+	String factory;
+	@Param({ "noWaitRetry", "spinWait", "yieldWait", "exponentialBackOff", "direct" })
+	String waitStrategy;
+
+	private Queue<Integer> queue;
+
+	@Setup(Level.Iteration)
+	public void setup() {
+		queue = QueueBenchmark.<Integer> factory(factory, waitStrategy(waitStrategy)).build();
+	}
+
+	@TearDown(Level.Iteration)
+	public void tearDown() {
+		queue.close();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(BATCH)
+	public void offerPoll(Blackhole bh) {
+		for (int i = 0; i < BATCH; i++)
+			queue.offer(i);
+		for (int i = 0; i < BATCH; i++)
+			bh.consume(queue.get());
+	}
+
+	@Benchmark
+	public Integer offerPollSingle() {
+		queue.offer(1);
+		return queue.get();
+	}
+
+	static <T> QueueFactory<T> factory(String name, WaitStrategy<T> strategy) {
+		switch (name) {
+		case "boundedQueue":
+			return () -> QueueFactories.<T> boundedQueue(BATCH * 2).build()
+										.withConsumerWait(strategy).withProducerWait(strategy);
+		case "unboundedQueue":
+			return () -> QueueFactories.<T> unboundedQueue().build()
+										.withConsumerWait(strategy).withProducerWait(strategy);
+		case "unboundedNonBlockingQueue":
+			return QueueFactories.unboundedNonBlockingQueue(strategy);
+		case "boundedNonBlockingQueue":
+			return QueueFactories.boundedNonBlockingQueue(BATCH * 2, strategy);
+		case "singleWriterboundedNonBlockingQueue":
+			return QueueFactories.singleWriterboundedNonBlockingQueue(BATCH * 2, strategy);
+		default:
+			throw new IllegalArgumentException("Unknown QueueFactory " + name);
+		}
+	}
+
+	static <T> WaitStrategy<T> waitStrategy(String name) {
+		switch (name) {
+		case "noWaitRetry":
+			return WaitStrategy.noWaitRetry();
+		case "spinWait":
+			return WaitStrategy.spinWait();
+		case "yieldWait":
+			return WaitStrategy.yieldWait();
+		case "exponentialBackOff":
+			return WaitStrategy.exponentialBackOff();
+		case "direct":
+			return WaitStrategy.direct();
+		default:
+			throw new IllegalArgumentException("Unknown WaitStrategy " + name);
+		}
+	}
+}
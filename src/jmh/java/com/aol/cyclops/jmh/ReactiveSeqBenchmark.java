@@ -0,0 +1,94 @@
+package com.aol.cyclops.jmh;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jooq.lambda.tuple.Tuple2;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.aol.cyclops.control.ReactiveSeq;
+import com.aol.cyclops.data.collections.extensions.standard.ListX;
+
+/**
+ * Throughput and allocation of ReactiveSeq operators : sliding, grouped, zip,
+ * groupedBySizeAndTime (batchBySizeAndTime) and duplicate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ReactiveSeqBenchmark {
+
+	@Param({ "10000", "1000000" })
+	int size;
+	@Param({ "2", "100" })
+	int window;
+
+	@Benchmark
+	public long sliding() {
+		return ReactiveSeq.range(0, size)
+						  .sliding(window)
+						  .count();
+	}
+
+	@Benchmark
+	public long slidingWithIncrement() {
+		return ReactiveSeq.range(0, size)
+						  .sliding(window, Math.max(1, window / 2))
+						  .count();
+	}
+
+	@Benchmark
+	public long grouped() {
+		return ReactiveSeq.range(0, size)
+						  .grouped(window)
+						  .count();
+	}
+
+	@Benchmark
+	public long groupedBySizeAndTime() {
+		return ReactiveSeq.range(0, size)
+						  .groupedBySizeAndTime(window, 1, TimeUnit.SECONDS)
+						  .count();
+	}
+
+	@Benchmark
+	public long zip() {
+		return ReactiveSeq.range(0, size)
+						  .zip(ReactiveSeq.range(0, size), (a, b) -> a + b)
+						  .count();
+	}
+
+	@Benchmark
+	public List<Tuple2<Integer, Integer>> zipToList() {
+		return ReactiveSeq.range(0, size)
+						  .zip(ReactiveSeq.range(0, size))
+						  .toList();
+	}
+
+	@Benchmark
+	public long duplicate() {
+		Tuple2<ReactiveSeq<Integer>, ReactiveSeq<Integer>> copies = ReactiveSeq.range(0, size)
+																			   .duplicateSequence();
+		return copies.v1.count() + copies.v2.count();
+	}
+
+	@Benchmark
+	public int slidingSum() {
+		return ReactiveSeq.range(0, size)
+						  .sliding(window)
+						  .map(ListX::size)
+						  .reduce(0, (a, b) -> a + b);
+	}
+}
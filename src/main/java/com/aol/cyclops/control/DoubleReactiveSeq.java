@@ -0,0 +1,241 @@
+package com.aol.cyclops.control;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleSupplier;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.stream.DoubleStream;
+
+import org.jooq.lambda.tuple.Tuple2;
+
+import com.aol.cyclops.internal.stream.DoubleReactiveSeqImpl;
+
+/**
+ * A primitive specialisation of ReactiveSeq for doubles.
+ *
+ * Values remain unboxed through the cyclops operators defined here (sliding, grouped, scanLeft, limitWhile, onePer etc),
+ * crossing back into a ReactiveSeq of Objects only at explicit boundaries (boxed(), mapToObj(), zipWithIndex()).
+ *
+ * <pre>
+ * {@code
+ *   DoubleReactiveSeq.of(1.5,2.5,3.5)
+ *                    .scanLeft(0,(a,b)->a+b)
+ *                    .max();
+ * }
+ * </pre>
+ */
+public interface DoubleReactiveSeq extends DoubleStream {
+
+	/**
+	 * @param values doubles to construct DoubleReactiveSeq from
+	 * @return DoubleReactiveSeq of the supplied values
+	 */
+	public static DoubleReactiveSeq of(double... values){
+		return fromDoubleStream(DoubleStream.of(values));
+	}
+	/**
+	 * @param stream DoubleStream to wrap
+	 * @return DoubleReactiveSeq backed by the supplied DoubleStream
+	 */
+	public static DoubleReactiveSeq fromDoubleStream(DoubleStream stream){
+		Objects.requireNonNull(stream);
+		if(stream instanceof DoubleReactiveSeq)
+			return (DoubleReactiveSeq)stream;
+		return new DoubleReactiveSeqImpl(stream,Optional.empty());
+	}
+	/**
+	 * @see DoubleStream#iterate(double, DoubleUnaryOperator)
+	 */
+	public static DoubleReactiveSeq iterate(double seed, DoubleUnaryOperator f){
+		return fromDoubleStream(DoubleStream.iterate(seed, f));
+	}
+	/**
+	 * @see DoubleStream#generate(DoubleSupplier)
+	 */
+	public static DoubleReactiveSeq generate(DoubleSupplier s){
+		return fromDoubleStream(DoubleStream.generate(s));
+	}
+
+	/**
+	 * @return A ReactiveSeq of boxed Doubles
+	 */
+	@Override
+	ReactiveSeq<Double> boxed();
+
+	@Override
+	<U> ReactiveSeq<U> mapToObj(DoubleFunction<? extends U> mapper);
+
+	@Override
+	DoubleReactiveSeq filter(DoublePredicate predicate);
+
+	@Override
+	DoubleReactiveSeq map(DoubleUnaryOperator mapper);
+
+	@Override
+	IntReactiveSeq mapToInt(DoubleToIntFunction mapper);
+
+	@Override
+	LongReactiveSeq mapToLong(DoubleToLongFunction mapper);
+
+	@Override
+	DoubleReactiveSeq flatMap(DoubleFunction<? extends DoubleStream> mapper);
+
+	@Override
+	DoubleReactiveSeq distinct();
+
+	@Override
+	DoubleReactiveSeq sorted();
+
+	@Override
+	DoubleReactiveSeq peek(DoubleConsumer action);
+
+	@Override
+	DoubleReactiveSeq limit(long maxSize);
+
+	@Override
+	DoubleReactiveSeq skip(long n);
+
+	@Override
+	DoubleReactiveSeq sequential();
+
+	@Override
+	DoubleReactiveSeq parallel();
+
+	@Override
+	DoubleReactiveSeq unordered();
+
+	@Override
+	DoubleReactiveSeq onClose(Runnable closeHandler);
+
+	/**
+	 * Reverse this DoubleReactiveSeq, buffering the remaining elements into a double[].
+	 *
+	 * @return Reversed DoubleReactiveSeq
+	 */
+	DoubleReactiveSeq reverse();
+
+	/**
+	 * Take elements from this DoubleReactiveSeq while the predicate holds
+	 * <pre>
+	 * {@code
+	 *   DoubleReactiveSeq.of(4,3,6,7).limitWhile(i->i<6).toArray();
+	 *   //[4,3]
+	 * }
+	 * </pre>
+	 * @param predicate Limit while predicate is true
+	 * @return DoubleReactiveSeq limited by predicate
+	 */
+	DoubleReactiveSeq limitWhile(DoublePredicate predicate);
+
+	/**
+	 * Take elements from this DoubleReactiveSeq until the predicate holds
+	 *
+	 * @param predicate Limit until predicate is true
+	 * @return DoubleReactiveSeq limited by predicate
+	 */
+	default DoubleReactiveSeq limitUntil(DoublePredicate predicate){
+		return limitWhile(predicate.negate());
+	}
+
+	/**
+	 * Drop elements from this DoubleReactiveSeq while the predicate holds
+	 *
+	 * @param predicate Skip while predicate is true
+	 * @return DoubleReactiveSeq with the leading matching elements removed
+	 */
+	DoubleReactiveSeq skipWhile(DoublePredicate predicate);
+
+	/**
+	 * Drop elements from this DoubleReactiveSeq until the predicate holds
+	 *
+	 * @param predicate Skip until predicate is true
+	 * @return DoubleReactiveSeq with the leading non-matching elements removed
+	 */
+	default DoubleReactiveSeq skipUntil(DoublePredicate predicate){
+		return skipWhile(predicate.negate());
+	}
+
+	/**
+	 * Scan left from the supplied identity, emitting each intermediate result (including the identity)
+	 * <pre>
+	 * {@code
+	 *   DoubleReactiveSeq.of(1,2,3).scanLeft(0,(a,b)->a+b).toArray();
+	 *   //[0,1,3,6]
+	 * }
+	 * </pre>
+	 * @param identity Starting value
+	 * @param function Accumulation function
+	 * @return DoubleReactiveSeq of intermediate results
+	 */
+	DoubleReactiveSeq scanLeft(double identity, DoubleBinaryOperator function);
+
+	/**
+	 * Create a sliding view over this DoubleReactiveSeq, each window is a newly allocated double[]
+	 * <pre>
+	 * {@code
+	 *   DoubleReactiveSeq.of(1,2,3,4).sliding(2).toList();
+	 *   //[[1,2],[2,3],[3,4]]
+	 * }
+	 * </pre>
+	 * @param windowSize Size of sliding window
+	 * @return ReactiveSeq of double[] windows
+	 */
+	default ReactiveSeq<double[]> sliding(int windowSize){
+		return sliding(windowSize,1);
+	}
+
+	/**
+	 * Create a sliding view over this DoubleReactiveSeq, each window is a newly allocated double[]
+	 *
+	 * @param windowSize Size of sliding window
+	 * @param increment Number of elements to move forward for each window
+	 * @return ReactiveSeq of double[] windows
+	 */
+	ReactiveSeq<double[]> sliding(int windowSize, int increment);
+
+	/**
+	 * Group elements into double[] batches of up to groupSize elements
+	 * <pre>
+	 * {@code
+	 *   DoubleReactiveSeq.of(1,2,3,4,5).grouped(2).toList();
+	 *   //[[1,2],[3,4],[5]]
+	 * }
+	 * </pre>
+	 * @param groupSize Max size of each group
+	 * @return ReactiveSeq of double[] groups
+	 */
+	ReactiveSeq<double[]> grouped(int groupSize);
+
+	/**
+	 * Zip this DoubleReactiveSeq with another DoubleStream, without boxing
+	 *
+	 * @param other DoubleStream to zip with
+	 * @param zipper Function to combine elements at the same position
+	 * @return Zipped DoubleReactiveSeq, as long as the shortest input
+	 */
+	DoubleReactiveSeq zip(DoubleStream other, DoubleBinaryOperator zipper);
+
+	/**
+	 * Pair each element with its index. This is a boxing boundary into ReactiveSeq.
+	 *
+	 * @return ReactiveSeq of value / index pairs
+	 */
+	ReactiveSeq<Tuple2<Double, Long>> zipWithIndex();
+
+	/**
+	 * Emit one element per time period
+	 *
+	 * @param time Time period
+	 * @param t Time unit
+	 * @return DoubleReactiveSeq that emits one element per time period
+	 */
+	DoubleReactiveSeq onePer(long time, TimeUnit t);
+
+}
@@ -2,11 +2,15 @@ package com.aol.cyclops.control;
 
 import static com.aol.cyclops.control.For.Values.each2;
 
+import java.util.ArrayDeque;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
+import java.util.ListIterator;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -21,7 +25,6 @@ import com.aol.cyclops.Reducer;
 import com.aol.cyclops.Semigroup;
 import com.aol.cyclops.data.collections.extensions.CollectionX;
 import com.aol.cyclops.data.collections.extensions.persistent.PVectorX;
-import com.aol.cyclops.data.collections.extensions.standard.DequeX;
 import com.aol.cyclops.data.collections.extensions.standard.ListX;
 import com.aol.cyclops.types.Filterable;
 import com.aol.cyclops.types.Functor;
@@ -29,7 +32,6 @@ import com.aol.cyclops.types.MonadicValue;
 import com.aol.cyclops.types.Value;
 import com.aol.cyclops.types.applicative.ApplicativeFunctor;
 import com.aol.cyclops.types.stream.reactive.ValueSubscriber;
-import com.aol.cyclops.util.function.Memoize;
 
 /**
  * Represents a computation that can be defered (always), cached (later) or immediate(now).
@@ -252,28 +254,112 @@ public interface Eval<T> extends Supplier<T>,
     
 	static class Module{
 	    
-	    public static class Later<T> extends Rec<T> implements Eval<T>{
+	    /**
+	     * Memoised Eval. Each Later is a single step linked to the Later it was mapped from, on first access the steps back to the
+	     * nearest evaluated Later (or the initial supplier) are flattened into an array and replayed, evaluating each Later passed through.
+	     * 
+	     * The initial supplier and map steps run under the lock of their own Later (at most once, while no other lock is held), 
+	     * so Laters sharing a parent on different threads share a single evaluation of it. flatMap steps are expanded in place by the 
+	     * trampoline (so recursion through flatMap is stack safe) and their result is published with a compare and set, 
+	     * every thread continues with the winning value. Once evaluated, the link to the previous Later and the step are released.
+	     */
+	    public static class Later<T> implements Eval<T>{
+	        private static final Object UNSET = new Object();
+	        private static final AtomicReferenceFieldUpdater<Later,Object> RESULT = AtomicReferenceFieldUpdater.newUpdater(Later.class, Object.class, "result");
 	        
+	        private volatile Object result = UNSET;
+	        private volatile Link link; //null once evaluated (always written after result)
 	        
 	        Later(Function <Object,? extends T> s){
-	            super(PVectorX.of(Rec.raw(Memoize.memoizeFunction(s))));    
+	            this(null,Rec.raw(s));    
 	        }
-	        Later(PVectorX<Function<Object,Object>> s){
-	            super(s);
-	          
+	        private Later(Later<?> previous,Function<Object,Object> step){
+	            this.link = new Link(previous,step);
 	        }
 	        public <R> Eval<R> map(Function<? super T, ? extends R> mapper){
 	            
-	            return new Later<R>(super.fns.plus(Rec.raw(Memoize.memoizeFunction(mapper))));
+	            return new Later<R>(this,Rec.raw(mapper));
 	        }
 	        public <R>  Eval<R> flatMap(Function<? super T, ? extends Eval<? extends R>> mapper){
-	            RecFunction s = __ -> mapper.apply(super.apply()).steps();
-	            return  new Later<R>(PVectorX.of(s));
+	            Rec.RecFunction s = in -> Rec.steps(mapper.apply((T)in));
+	            return  new Later<R>(this,s);
 	            
 	        }
 	        @Override
 	        public T get() {
-	            return super.get();
+	            Object r = result;
+	            if(r==UNSET)
+	                return (T)Rec.run(Rec.VOID,Arrays.asList(unevaluated()));
+	            return (T)r;
+	        }
+	        @Override
+	        public PVectorX<Function<Object,Object>> steps(){
+	            return PVectorX.fromCollection(stepList());
+	        }
+	        private List<Function<Object,Object>> stepList(){
+	            Object r = result;
+	            if(r!=UNSET){
+	                Function<Object,Object> value = __->r;
+	                return Arrays.asList(value);
+	            }
+	            return Arrays.asList(unevaluated());
+	        }
+	        /*
+	         * Steps from the nearest evaluated Later (or the initial supplier) to this one
+	         */
+	        private Function<Object,Object>[] unevaluated(){
+	            ArrayDeque<Function<Object,Object>> steps = new ArrayDeque<>();
+	            for(Later<?> next = this; next!=null;){
+	                Link l = next.link;
+	                if(l==null){ //evaluated
+	                    Object value = next.result;
+	                    steps.push(__ -> value);
+	                    break;
+	                }
+	                Later<?> current = next;
+	                if(l.step instanceof Rec.RecFunction){
+	                    steps.push(current::publish);
+	                    steps.push(l.step);
+	                }else{
+	                    steps.push(in -> current.evaluate(l.step,in));
+	                }
+	                next = l.previous;
+	            }
+	            return steps.toArray(new Function[steps.size()]);
+	        }
+	        /*
+	         * Apply a supplier or map step at most once
+	         */
+	        private Object evaluate(Function<Object,Object> step,Object in){
+	            Object r = result;
+	            if(r!=UNSET)
+	                return r;
+	            synchronized(this){
+	                r = result;
+	                if(r==UNSET){
+	                    result = r = step.apply(in);
+	                    link = null;
+	                }
+	            }
+	            return r;
+	        }
+	        /*
+	         * Publish the result of a flatMap step, returning the value that won
+	         */
+	        private Object publish(Object value){
+	            if(RESULT.compareAndSet(this, UNSET, value)){
+	                link = null;
+	                return value;
+	            }
+	            return result;
+	        }
+	        private static final class Link{
+	            final Later<?> previous;
+	            final Function<Object,Object> step; //applied to the previous value (ignores its input if previous is null)
+	            Link(Later<?> previous,Function<Object,Object> step){
+	                this.previous = previous;
+	                this.step = step;
+	            }
 	        }
 	        /* (non-Javadoc)
 	         * @see com.aol.cyclops.lambda.monads.Unit#unit(java.lang.Object)
@@ -328,7 +414,7 @@ public interface Eval<T> extends Supplier<T>,
 	            
 	        }
 	        public <R>  Eval<R> flatMap(Function<? super T, ? extends Eval<? extends R>> mapper){
-	            RecFunction s = __ -> mapper.apply(apply()).steps();
+	            RecFunction s = __ -> Rec.steps(mapper.apply(apply()));
 	            return  new Always<R>(PVectorX.of(s));
 	        }
 	        @Override
@@ -370,7 +456,7 @@ public interface Eval<T> extends Supplier<T>,
 	    }
 	private static class Rec<T> {
         final PVectorX<Function<Object,Object>> fns;
-        private final static Object VOID = new Object();
+        final static Object VOID = new Object();
        
         Rec(PVectorX<Function<Object,Object>> s){
            fns =s;
@@ -386,20 +472,39 @@ public interface Eval<T> extends Supplier<T>,
             return fns;
         }
         T apply(){
-            Object input = VOID;
+            return (T)run(VOID,fns);
+        }
+        /*
+         * Apply each function to the output of the last, expanding RecFunctions in place (without recursion)
+         */
+        static Object run(Object input,List<Function<Object,Object>> fns){
+            ArrayDeque<Function<Object,Object>> pending = null; //only needed once a RecFunction is expanded
             for(Function<Object,Object> n : fns){
-                DequeX<Function<Object,Object>> newFns = DequeX.of(n);
-                while(newFns.size()>0){
-                    Function<Object,Object> next =newFns.pop();
+                Function<Object,Object> next = n;
+                while(next!=null){
                     if(next instanceof RecFunction){
-                        newFns.plusAll((List)((RecFunction)next).apply(VOID));
+                        List<Function<Object,Object>> expanded = (List)((RecFunction)next).apply(input);
+                        if(pending==null)
+                            pending = new ArrayDeque<>();
+                        for(ListIterator<Function<Object,Object>> it = expanded.listIterator(expanded.size());it.hasPrevious();)
+                            pending.push(it.previous());
                     }
                     else 
                         input = next.apply(input);
-                    
+                    next = pending==null ? null : pending.poll();
                 }    
             }
-            return (T)input;
+            return input;
+        }
+        /*
+         * Steps of an Eval, read directly (without copying into a PVectorX) where possible
+         */
+        static List<Function<Object,Object>> steps(Eval<?> eval){
+            if(eval instanceof Module.Later)
+                return ((Module.Later<?>)eval).stepList();
+            if(eval instanceof Rec)
+                return ((Rec<?>)eval).fns;
+            return eval.steps();
         }
        
         public T get() {
@@ -3,6 +3,7 @@ package com.aol.cyclops.control;
 
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.function.BiConsumer;
@@ -34,6 +35,8 @@ import com.aol.cyclops.util.function.QuadConsumer;
 import com.aol.cyclops.util.function.TriConsumer;
 import com.aol.cyclops.util.function.TriFunction;
 
+import com.nurkiewicz.asyncretry.RetryExecutor;
+
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.experimental.Wither;
@@ -392,6 +395,17 @@ public class FluentFunctions {
 			});
 			
 		}
+		/**
+		 * Asynchronous retry, each backoff is scheduled on the RetryExecutor's ScheduledExecutorService rather than
+		 * blocking the calling thread. Backoff, jitter, max retries and which Exceptions to retry on
+		 * are configured on the RetryExecutor (e.g. an AsyncRetryExecutor).
+		 * 
+		 * @param retrier RetryExecutor to run (and retry) this Supplier on
+		 * @return Supplier that returns a FutureW completed with the first successful result, or the last failure
+		 */
+		public FluentSupplier<FutureW<R>> retryAsync(RetryExecutor retrier){
+			return FluentFunctions.of(() -> FutureW.of(retrier.getWithRetry((Callable<R>)()->fn.get())));
+		}
 		
 		public <R1 >FluentSupplier<R1> matches(Function<CheckValue1<R,R1>,CheckValue1<R,R1>> case1,Supplier<? extends R1> otherwise){
 			return FluentFunctions.of(()->Matchable.of(fn.get()).matches(case1,otherwise).get());
@@ -541,6 +555,15 @@ public class FluentFunctions {
 			});
 			
 		}
+		/**
+		 * @see FluentSupplier#retryAsync(RetryExecutor)
+		 * 
+		 * @param retrier RetryExecutor to run (and retry) this Function on
+		 * @return Function that returns a FutureW completed with the first successful result, or the last failure
+		 */
+		public FluentFunction<T,FutureW<R>> retryAsync(RetryExecutor retrier){
+			return FluentFunctions.of(t -> FutureW.of(retrier.getWithRetry((Callable<R>)()->fn.apply(t))));
+		}
 		public <R1> FluentFunction<T,R1> matches(Function<CheckValue1<R,R1>,CheckValue1<R,R1>> case1, Supplier<? extends R1> otherwise){
 		
 			return FluentFunctions.of(t->Matchable.of(fn.apply(t)).matches(case1,otherwise).get());
@@ -726,6 +749,15 @@ public class FluentFunctions {
 			});
 			
 		}
+		/**
+		 * @see FluentSupplier#retryAsync(RetryExecutor)
+		 * 
+		 * @param retrier RetryExecutor to run (and retry) this BiFunction on
+		 * @return BiFunction that returns a FutureW completed with the first successful result, or the last failure
+		 */
+		public FluentBiFunction<T1,T2,FutureW<R>> retryAsync(RetryExecutor retrier){
+			return FluentFunctions.of((t1,t2) -> FutureW.of(retrier.getWithRetry((Callable<R>)()->fn.apply(t1,t2))));
+		}
 		public <R1> FluentBiFunction<T1,T2,R1> matches(Function<CheckValue1<R,R1>,CheckValue1<R,R1>> case1, Supplier<? extends R1> otherwise){
 			return FluentFunctions.of((t1,t2)->Matchable.of(fn.apply(t1,t2)).matches(case1,otherwise).get());
 		}
@@ -883,6 +915,15 @@ public class FluentFunctions {
 			});
 			
 		}
+		/**
+		 * @see FluentSupplier#retryAsync(RetryExecutor)
+		 * 
+		 * @param retrier RetryExecutor to run (and retry) this TriFunction on
+		 * @return TriFunction that returns a FutureW completed with the first successful result, or the last failure
+		 */
+		public FluentTriFunction<T1,T2,T3,FutureW<R>> retryAsync(RetryExecutor retrier){
+			return FluentFunctions.of((t1,t2,t3) -> FutureW.of(retrier.getWithRetry((Callable<R>)()->fn.apply(t1,t2,t3))));
+		}
 		public <R1> FluentTriFunction<T1,T2,T3,R1> matches(Function<CheckValue1<R,R1>,CheckValue1<R,R1>> case1, Supplier<? extends R1> otherwise){
 			return FluentFunctions.of((t1,t2,t3)->Matchable.of(fn.apply(t1,t2,t3)).matches(case1,otherwise).get());
 		}
@@ -0,0 +1,261 @@
+package com.aol.cyclops.control;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntSupplier;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+import org.jooq.lambda.tuple.Tuple2;
+
+import com.aol.cyclops.internal.stream.IntReactiveSeqImpl;
+import com.aol.cyclops.internal.stream.spliterators.ReversingRangeIntSpliterator;
+
+/**
+ * A primitive specialisation of ReactiveSeq for ints.
+ *
+ * Values remain unboxed through the cyclops operators defined here (sliding, grouped, scanLeft, limitWhile, onePer etc),
+ * crossing back into a ReactiveSeq of Objects only at explicit boundaries (boxed(), mapToObj(), zipWithIndex()).
+ *
+ * <pre>
+ * {@code
+ *   IntReactiveSeq.range(0,1_000_000)
+ *                 .filter(i->i%2==0)
+ *                 .scanLeft(0,(a,b)->a+b)
+ *                 .max();
+ * }
+ * </pre>
+ */
+public interface IntReactiveSeq extends IntStream {
+
+	/**
+	 * Create an efficiently reversable IntReactiveSeq that produces the ints between start (inclusive) and end (exclusive)
+	 *
+	 * @param start Number of range to start from
+	 * @param end Number for range to end at
+	 * @return Range IntReactiveSeq
+	 */
+	public static IntReactiveSeq range(int start, int end){
+		ReversingRangeIntSpliterator range = new ReversingRangeIntSpliterator(start, end, false);
+		return new IntReactiveSeqImpl(StreamSupport.intStream(range, false),Optional.of(range));
+	}
+	/**
+	 * @param values ints to construct IntReactiveSeq from
+	 * @return IntReactiveSeq of the supplied values
+	 */
+	public static IntReactiveSeq of(int... values){
+		return fromIntStream(IntStream.of(values));
+	}
+	/**
+	 * @param stream IntStream to wrap
+	 * @return IntReactiveSeq backed by the supplied IntStream
+	 */
+	public static IntReactiveSeq fromIntStream(IntStream stream){
+		Objects.requireNonNull(stream);
+		if(stream instanceof IntReactiveSeq)
+			return (IntReactiveSeq)stream;
+		return new IntReactiveSeqImpl(stream,Optional.empty());
+	}
+	/**
+	 * @see IntStream#iterate(int, IntUnaryOperator)
+	 */
+	public static IntReactiveSeq iterate(int seed, IntUnaryOperator f){
+		return fromIntStream(IntStream.iterate(seed, f));
+	}
+	/**
+	 * @see IntStream#generate(IntSupplier)
+	 */
+	public static IntReactiveSeq generate(IntSupplier s){
+		return fromIntStream(IntStream.generate(s));
+	}
+
+	/**
+	 * @return A ReactiveSeq of boxed Integers
+	 */
+	@Override
+	ReactiveSeq<Integer> boxed();
+
+	@Override
+	<U> ReactiveSeq<U> mapToObj(IntFunction<? extends U> mapper);
+
+	@Override
+	IntReactiveSeq filter(IntPredicate predicate);
+
+	@Override
+	IntReactiveSeq map(IntUnaryOperator mapper);
+
+	@Override
+	LongReactiveSeq mapToLong(IntToLongFunction mapper);
+
+	@Override
+	DoubleReactiveSeq mapToDouble(IntToDoubleFunction mapper);
+
+	@Override
+	IntReactiveSeq flatMap(IntFunction<? extends IntStream> mapper);
+
+	@Override
+	IntReactiveSeq distinct();
+
+	@Override
+	IntReactiveSeq sorted();
+
+	@Override
+	IntReactiveSeq peek(IntConsumer action);
+
+	@Override
+	IntReactiveSeq limit(long maxSize);
+
+	@Override
+	IntReactiveSeq skip(long n);
+
+	@Override
+	LongReactiveSeq asLongStream();
+
+	@Override
+	DoubleReactiveSeq asDoubleStream();
+
+	@Override
+	IntReactiveSeq sequential();
+
+	@Override
+	IntReactiveSeq parallel();
+
+	@Override
+	IntReactiveSeq unordered();
+
+	@Override
+	IntReactiveSeq onClose(Runnable closeHandler);
+
+	/**
+	 * Reverse this IntReactiveSeq. Ranges are reversed in place, other sources are buffered into an int[].
+	 *
+	 * @return Reversed IntReactiveSeq
+	 */
+	IntReactiveSeq reverse();
+
+	/**
+	 * Take elements from this IntReactiveSeq while the predicate holds
+	 * <pre>
+	 * {@code
+	 *   IntReactiveSeq.of(4,3,6,7).limitWhile(i->i<6).toArray();
+	 *   //[4,3]
+	 * }
+	 * </pre>
+	 * @param predicate Limit while predicate is true
+	 * @return IntReactiveSeq limited by predicate
+	 */
+	IntReactiveSeq limitWhile(IntPredicate predicate);
+
+	/**
+	 * Take elements from this IntReactiveSeq until the predicate holds
+	 *
+	 * @param predicate Limit until predicate is true
+	 * @return IntReactiveSeq limited by predicate
+	 */
+	default IntReactiveSeq limitUntil(IntPredicate predicate){
+		return limitWhile(predicate.negate());
+	}
+
+	/**
+	 * Drop elements from this IntReactiveSeq while the predicate holds
+	 *
+	 * @param predicate Skip while predicate is true
+	 * @return IntReactiveSeq with the leading matching elements removed
+	 */
+	IntReactiveSeq skipWhile(IntPredicate predicate);
+
+	/**
+	 * Drop elements from this IntReactiveSeq until the predicate holds
+	 *
+	 * @param predicate Skip until predicate is true
+	 * @return IntReactiveSeq with the leading non-matching elements removed
+	 */
+	default IntReactiveSeq skipUntil(IntPredicate predicate){
+		return skipWhile(predicate.negate());
+	}
+
+	/**
+	 * Scan left from the supplied identity, emitting each intermediate result (including the identity)
+	 * <pre>
+	 * {@code
+	 *   IntReactiveSeq.of(1,2,3).scanLeft(0,(a,b)->a+b).toArray();
+	 *   //[0,1,3,6]
+	 * }
+	 * </pre>
+	 * @param identity Starting value
+	 * @param function Accumulation function
+	 * @return IntReactiveSeq of intermediate results
+	 */
+	IntReactiveSeq scanLeft(int identity, IntBinaryOperator function);
+
+	/**
+	 * Create a sliding view over this IntReactiveSeq, each window is a newly allocated int[]
+	 * <pre>
+	 * {@code
+	 *   IntReactiveSeq.of(1,2,3,4).sliding(2).toList();
+	 *   //[[1,2],[2,3],[3,4]]
+	 * }
+	 * </pre>
+	 * @param windowSize Size of sliding window
+	 * @return ReactiveSeq of int[] windows
+	 */
+	default ReactiveSeq<int[]> sliding(int windowSize){
+		return sliding(windowSize,1);
+	}
+
+	/**
+	 * Create a sliding view over this IntReactiveSeq, each window is a newly allocated int[]
+	 *
+	 * @param windowSize Size of sliding window
+	 * @param increment Number of elements to move forward for each window
+	 * @return ReactiveSeq of int[] windows
+	 */
+	ReactiveSeq<int[]> sliding(int windowSize, int increment);
+
+	/**
+	 * Group elements into int[] batches of up to groupSize elements
+	 * <pre>
+	 * {@code
+	 *   IntReactiveSeq.of(1,2,3,4,5).grouped(2).toList();
+	 *   //[[1,2],[3,4],[5]]
+	 * }
+	 * </pre>
+	 * @param groupSize Max size of each group
+	 * @return ReactiveSeq of int[] groups
+	 */
+	ReactiveSeq<int[]> grouped(int groupSize);
+
+	/**
+	 * Zip this IntReactiveSeq with another IntStream, without boxing
+	 *
+	 * @param other IntStream to zip with
+	 * @param zipper Function to combine elements at the same position
+	 * @return Zipped IntReactiveSeq, as long as the shortest input
+	 */
+	IntReactiveSeq zip(IntStream other, IntBinaryOperator zipper);
+
+	/**
+	 * Pair each element with its index. This is a boxing boundary into ReactiveSeq.
+	 *
+	 * @return ReactiveSeq of value / index pairs
+	 */
+	ReactiveSeq<Tuple2<Integer, Long>> zipWithIndex();
+
+	/**
+	 * Emit one element per time period
+	 *
+	 * @param time Time period
+	 * @param t Time unit
+	 * @return IntReactiveSeq that emits one element per time period
+	 */
+	IntReactiveSeq onePer(long time, TimeUnit t);
+
+}
@@ -30,9 +30,11 @@ import com.aol.cyclops.internal.react.stream.ReactBuilder;
 import com.aol.cyclops.react.RetryBuilder;
 import com.aol.cyclops.react.ThreadPools;
 import com.aol.cyclops.react.async.subscription.Subscription;
+import com.aol.cyclops.react.collectors.lazy.AdaptiveMaxActive;
 import com.aol.cyclops.react.collectors.lazy.MaxActive;
 import com.aol.cyclops.types.futurestream.LazyFutureStream;
 import com.aol.cyclops.types.stream.reactive.SeqSubscriber;
+import com.aol.cyclops.util.function.BoundedCache;
 import com.aol.cyclops.util.function.Cacheable;
 import com.nurkiewicz.asyncretry.AsyncRetryExecutor;
 import com.nurkiewicz.asyncretry.RetryExecutor;
@@ -83,9 +85,37 @@ public class LazyReact implements ReactBuilder {
 	private final boolean autoMemoize;
 	@Getter
 	private final Cacheable memoizeCache;
+	/**
+	 * Number of times a blocked join re-checks the future it is waiting on before parking, 0 (the default) parks straight away.
+	 * A short spin can reduce latency when tasks typically complete within microseconds.
+	 */
+	@Getter
+	private final int spinBeforePark;
 	
 	
 	
+	/**
+	 * Memoize the functions applied at every stage of Streams created by the returned LazyReact builder, with results stored in the supplied
+	 * cache. The cache is shared by all stages (entries are keyed on both stage and input), use a {@link BoundedCache} to bound it.
+	 * The stage key is the function instance applied at that stage : cached entries keep those functions reachable, and results are
+	 * only shared between Streams that apply the same function instance (not between separate lambda instances with the same code).
+	 *
+	 * <pre>
+	 * {@code
+	 *  BoundedCache cache = BoundedCache.builder()
+	 *                                   .maximumSize(10_000)
+	 *                                   .expireAfterWrite(10, TimeUnit.MINUTES)
+	 *                                   .build();
+	 *  new LazyReact().autoMemoizeOn(cache)
+	 *                 .of(1,1,1,1)
+	 *                 .map(this::expensive)
+	 *                 .toList();
+	 * }
+	 * </pre>
+	 *
+	 * @param memoizeCache Cache to store results in
+	 * @return New LazyReact builder with auto memoization on
+	 */
 	public LazyReact autoMemoizeOn( Cacheable memoizeCache){
 		return this.withAutoMemoize(true).withMemoizeCache(memoizeCache);
 	}
@@ -127,6 +157,7 @@ public class LazyReact implements ReactBuilder {
 		this.autoOptimize=true;
 		this.autoMemoize =false;
 		this.memoizeCache=null;
+		this.spinBeforePark=0;
 	}
 	public LazyReact(int maxActive,Executor executor) {
         
@@ -140,6 +171,7 @@ public class LazyReact implements ReactBuilder {
         this.autoOptimize=true;
         this.autoMemoize =false;
         this.memoizeCache=null;
+        this.spinBeforePark=0;
     }
 	
 	/**
@@ -161,6 +193,7 @@ public class LazyReact implements ReactBuilder {
 		this.autoOptimize=true;
 		this.autoMemoize =false;
 		this.memoizeCache=null;
+		this.spinBeforePark=0;
 	}
 	
 	public <U> LazyFutureStream<U> from(CompletableFuture<U> cf){
@@ -232,6 +265,29 @@ public class LazyReact implements ReactBuilder {
 	public LazyReact objectPoolingOff(){
 		return this.withPoolingActive(false);
 	}
+	/**
+	 * Adapt the maximum number of active tasks to observed task latency, for any Streams created by the returned LazyReact builder.
+	 * The limit grows while latency stays close to its baseline and shrinks as latency rises or tasks fail.
+	 * Streams created by the returned builder share the same limit.
+	 *
+	 * <pre>
+	 * {@code
+	 *  LazyReact react = new LazyReact().adaptiveMaxActive();
+	 *
+	 *  react.from(urls)
+	 *       .map(this::callRemoteService)
+	 *       .forEach(System.out::println);
+	 *
+	 *  ((AdaptiveMaxActive)react.getMaxActive()).getMaxActive(); //current limit
+	 * }
+	 * </pre>
+	 *
+	 * @return New LazyReact builder with an adaptive MaxActive
+	 * @see AdaptiveMaxActive
+	 */
+	public LazyReact adaptiveMaxActive(){
+		return this.withMaxActive(MaxActive.adaptive());
+	}
 	/**
 	 * Turn on automatic threading optimization. Tasks will be 'fanned' out across threads initially
 	 * and subsequent task completion events will trigger further processing on the same thread. Where
@@ -393,6 +449,19 @@ public class LazyReact implements ReactBuilder {
 			boolean objectPoolingActive,
 			boolean autoOptimize,
 			boolean autoMemoize, Cacheable memoizeCache) {
+		this(executor,retrier,async,maxActive,streamOfFutures,objectPoolingActive,autoOptimize,autoMemoize,memoizeCache,0);
+	}
+	/**
+	 * @param executor Task Executor for concurrent tasks
+	 * @param retrier Async Retrier
+	 * @param async If true each task will be submitted to an executor service
+	 * @param spinBeforePark Number of completion checks a blocked join makes before parking
+	 */
+	public LazyReact(Executor executor, RetryExecutor retrier,
+			Boolean async, MaxActive maxActive,boolean streamOfFutures, 
+			boolean objectPoolingActive,
+			boolean autoOptimize,
+			boolean autoMemoize, Cacheable memoizeCache,int spinBeforePark) {
 		super();
 		this.executor = executor;
 		this.retrier = retrier;
@@ -404,6 +473,7 @@ public class LazyReact implements ReactBuilder {
 		this.autoOptimize = autoOptimize;
 		this.autoMemoize =autoMemoize;
 		this.memoizeCache=memoizeCache;
+		this.spinBeforePark=spinBeforePark;
 	}
 
 	public LazyReact(Executor currentThreadExecutor,
@@ -0,0 +1,258 @@
+package com.aol.cyclops.control;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongSupplier;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+import org.jooq.lambda.tuple.Tuple2;
+
+import com.aol.cyclops.internal.stream.LongReactiveSeqImpl;
+import com.aol.cyclops.internal.stream.spliterators.ReversingRangeLongSpliterator;
+
+/**
+ * A primitive specialisation of ReactiveSeq for longs.
+ *
+ * Values remain unboxed through the cyclops operators defined here (sliding, grouped, scanLeft, limitWhile, onePer etc),
+ * crossing back into a ReactiveSeq of Objects only at explicit boundaries (boxed(), mapToObj(), zipWithIndex()).
+ *
+ * <pre>
+ * {@code
+ *   LongReactiveSeq.range(0,1_000_000)
+ *                  .filter(i->i%2==0)
+ *                  .scanLeft(0,(a,b)->a+b)
+ *                  .max();
+ * }
+ * </pre>
+ */
+public interface LongReactiveSeq extends LongStream {
+
+	/**
+	 * Create an efficiently reversable LongReactiveSeq that produces the longs between start (inclusive) and end (exclusive)
+	 *
+	 * @param start Number of range to start from
+	 * @param end Number for range to end at
+	 * @return Range LongReactiveSeq
+	 */
+	public static LongReactiveSeq range(long start, long end){
+		ReversingRangeLongSpliterator range = new ReversingRangeLongSpliterator(start, end, false);
+		return new LongReactiveSeqImpl(StreamSupport.longStream(range, false),Optional.of(range));
+	}
+	/**
+	 * @param values longs to construct LongReactiveSeq from
+	 * @return LongReactiveSeq of the supplied values
+	 */
+	public static LongReactiveSeq of(long... values){
+		return fromLongStream(LongStream.of(values));
+	}
+	/**
+	 * @param stream LongStream to wrap
+	 * @return LongReactiveSeq backed by the supplied LongStream
+	 */
+	public static LongReactiveSeq fromLongStream(LongStream stream){
+		Objects.requireNonNull(stream);
+		if(stream instanceof LongReactiveSeq)
+			return (LongReactiveSeq)stream;
+		return new LongReactiveSeqImpl(stream,Optional.empty());
+	}
+	/**
+	 * @see LongStream#iterate(long, LongUnaryOperator)
+	 */
+	public static LongReactiveSeq iterate(long seed, LongUnaryOperator f){
+		return fromLongStream(LongStream.iterate(seed, f));
+	}
+	/**
+	 * @see LongStream#generate(LongSupplier)
+	 */
+	public static LongReactiveSeq generate(LongSupplier s){
+		return fromLongStream(LongStream.generate(s));
+	}
+
+	/**
+	 * @return A ReactiveSeq of boxed Longs
+	 */
+	@Override
+	ReactiveSeq<Long> boxed();
+
+	@Override
+	<U> ReactiveSeq<U> mapToObj(LongFunction<? extends U> mapper);
+
+	@Override
+	LongReactiveSeq filter(LongPredicate predicate);
+
+	@Override
+	LongReactiveSeq map(LongUnaryOperator mapper);
+
+	@Override
+	IntReactiveSeq mapToInt(LongToIntFunction mapper);
+
+	@Override
+	DoubleReactiveSeq mapToDouble(LongToDoubleFunction mapper);
+
+	@Override
+	LongReactiveSeq flatMap(LongFunction<? extends LongStream> mapper);
+
+	@Override
+	LongReactiveSeq distinct();
+
+	@Override
+	LongReactiveSeq sorted();
+
+	@Override
+	LongReactiveSeq peek(LongConsumer action);
+
+	@Override
+	LongReactiveSeq limit(long maxSize);
+
+	@Override
+	LongReactiveSeq skip(long n);
+
+	@Override
+	DoubleReactiveSeq asDoubleStream();
+
+	@Override
+	LongReactiveSeq sequential();
+
+	@Override
+	LongReactiveSeq parallel();
+
+	@Override
+	LongReactiveSeq unordered();
+
+	@Override
+	LongReactiveSeq onClose(Runnable closeHandler);
+
+	/**
+	 * Reverse this LongReactiveSeq. Ranges are reversed in place, other sources are buffered into a long[].
+	 *
+	 * @return Reversed LongReactiveSeq
+	 */
+	LongReactiveSeq reverse();
+
+	/**
+	 * Take elements from this LongReactiveSeq while the predicate holds
+	 * <pre>
+	 * {@code
+	 *   LongReactiveSeq.of(4,3,6,7).limitWhile(i->i<6).toArray();
+	 *   //[4,3]
+	 * }
+	 * </pre>
+	 * @param predicate Limit while predicate is true
+	 * @return LongReactiveSeq limited by predicate
+	 */
+	LongReactiveSeq limitWhile(LongPredicate predicate);
+
+	/**
+	 * Take elements from this LongReactiveSeq until the predicate holds
+	 *
+	 * @param predicate Limit until predicate is true
+	 * @return LongReactiveSeq limited by predicate
+	 */
+	default LongReactiveSeq limitUntil(LongPredicate predicate){
+		return limitWhile(predicate.negate());
+	}
+
+	/**
+	 * Drop elements from this LongReactiveSeq while the predicate holds
+	 *
+	 * @param predicate Skip while predicate is true
+	 * @return LongReactiveSeq with the leading matching elements removed
+	 */
+	LongReactiveSeq skipWhile(LongPredicate predicate);
+
+	/**
+	 * Drop elements from this LongReactiveSeq until the predicate holds
+	 *
+	 * @param predicate Skip until predicate is true
+	 * @return LongReactiveSeq with the leading non-matching elements removed
+	 */
+	default LongReactiveSeq skipUntil(LongPredicate predicate){
+		return skipWhile(predicate.negate());
+	}
+
+	/**
+	 * Scan left from the supplied identity, emitting each intermediate result (including the identity)
+	 * <pre>
+	 * {@code
+	 *   LongReactiveSeq.of(1,2,3).scanLeft(0,(a,b)->a+b).toArray();
+	 *   //[0,1,3,6]
+	 * }
+	 * </pre>
+	 * @param identity Starting value
+	 * @param function Accumulation function
+	 * @return LongReactiveSeq of intermediate results
+	 */
+	LongReactiveSeq scanLeft(long identity, LongBinaryOperator function);
+
+	/**
+	 * Create a sliding view over this LongReactiveSeq, each window is a newly allocated long[]
+	 * <pre>
+	 * {@code
+	 *   LongReactiveSeq.of(1,2,3,4).sliding(2).toList();
+	 *   //[[1,2],[2,3],[3,4]]
+	 * }
+	 * </pre>
+	 * @param windowSize Size of sliding window
+	 * @return ReactiveSeq of long[] windows
+	 */
+	default ReactiveSeq<long[]> sliding(int windowSize){
+		return sliding(windowSize,1);
+	}
+
+	/**
+	 * Create a sliding view over this LongReactiveSeq, each window is a newly allocated long[]
+	 *
+	 * @param windowSize Size of sliding window
+	 * @param increment Number of elements to move forward for each window
+	 * @return ReactiveSeq of long[] windows
+	 */
+	ReactiveSeq<long[]> sliding(int windowSize, int increment);
+
+	/**
+	 * Group elements into long[] batches of up to groupSize elements
+	 * <pre>
+	 * {@code
+	 *   LongReactiveSeq.of(1,2,3,4,5).grouped(2).toList();
+	 *   //[[1,2],[3,4],[5]]
+	 * }
+	 * </pre>
+	 * @param groupSize Max size of each group
+	 * @return ReactiveSeq of long[] groups
+	 */
+	ReactiveSeq<long[]> grouped(int groupSize);
+
+	/**
+	 * Zip this LongReactiveSeq with another LongStream, without boxing
+	 *
+	 * @param other LongStream to zip with
+	 * @param zipper Function to combine elements at the same position
+	 * @return Zipped LongReactiveSeq, as long as the shortest input
+	 */
+	LongReactiveSeq zip(LongStream other, LongBinaryOperator zipper);
+
+	/**
+	 * Pair each element with its index. This is a boxing boundary into ReactiveSeq.
+	 *
+	 * @return ReactiveSeq of value / index pairs
+	 */
+	ReactiveSeq<Tuple2<Long, Long>> zipWithIndex();
+
+	/**
+	 * Emit one element per time period
+	 *
+	 * @param time Time period
+	 * @param t Time unit
+	 * @return LongReactiveSeq that emits one element per time period
+	 */
+	LongReactiveSeq onePer(long time, TimeUnit t);
+
+}
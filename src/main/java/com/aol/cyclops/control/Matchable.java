@@ -28,6 +28,7 @@ import com.aol.cyclops.internal.matcher2.MatchableCase;
 import com.aol.cyclops.internal.matcher2.MatchingInstance;
 import com.aol.cyclops.internal.matcher2.PatternMatcher;
 import com.aol.cyclops.internal.matcher2.SeqUtils;
+import com.aol.cyclops.internal.matcher2.TypedPredicate;
 import com.aol.cyclops.types.Value;
 import com.aol.cyclops.util.function.Predicates;
 import com.aol.cyclops.util.function.QuadFunction;
@@ -932,9 +933,7 @@ public interface Matchable<TYPE>{
         @SuppressWarnings({ "rawtypes", "unchecked" })
         public final <V> CheckValueOpt<T,R> isEmpty(Supplier<? extends R> then) {
 
-            Predicate predicate = it -> Maybe.ofNullable(it)
-                    .map(v -> v.getClass().isAssignableFrom(clazz))
-                    .orElse(false);
+            Predicate predicate = TypedPredicate.superTypeOf(clazz);
             // add wildcard support
             
             Predicate<V>[] predicates = new Predicate[]{i->i==SeqUtils.EMPTY};
@@ -950,9 +949,7 @@ public interface Matchable<TYPE>{
         
          @SuppressWarnings({ "rawtypes", "unchecked" })
         private final  CheckValueOpt<T,R> isWhere(Supplier<? extends R> result,Predicate<? super T> value){
-            Predicate predicate = it -> it!=null && Optional.of(it)
-                    .map(v -> v.getClass().isAssignableFrom(clazz))
-                    .orElse(false);
+            Predicate predicate = TypedPredicate.superTypeOf(clazz);
             // add wildcard support
             
             Predicate<T>[] predicates = ReactiveSeq.of(value)
@@ -983,9 +980,7 @@ public interface Matchable<TYPE>{
 		
 		 @SuppressWarnings({ "rawtypes", "unchecked" })
 		private final  CheckValue1<T,R> isWhere(Supplier<? extends R> result,Predicate<? super T> value){
-			Predicate predicate = it -> Optional.of(it)
-					.map(v -> v.getClass().isAssignableFrom(clazz))
-					.orElse(false);
+			Predicate predicate = TypedPredicate.superTypeOf(clazz);
 			// add wildcard support
 			
 			Predicate<T>[] predicates = ReactiveSeq.of(value)
@@ -1017,9 +1012,7 @@ public interface Matchable<TYPE>{
 		
 		 @SuppressWarnings({ "rawtypes", "unchecked" })
 		private final  CheckValue2<T1,T2,R> isWhere(Supplier<? extends R> result,Predicate<? super T1> value1,Predicate<? super T2> value2){
-			Predicate predicate = it -> Optional.of(it)
-					.map(v -> v.getClass().isAssignableFrom(clazz))
-					.orElse(false);
+			Predicate predicate = TypedPredicate.superTypeOf(clazz);
 			// add wildcard support
 			
 			Predicate[] predicates = ReactiveSeq.of(value1,value2)
@@ -1036,9 +1029,7 @@ public interface Matchable<TYPE>{
 		@SuppressWarnings({ "rawtypes", "unchecked" })
 		public final CheckValue2<T1,T2,R> isEmpty(Supplier<? extends R> then) {
 
-			Predicate predicate = it -> Maybe.ofNullable(it)
-					.map(v -> v.getClass().isAssignableFrom(clazz))
-					.orElse(false);
+			Predicate predicate = TypedPredicate.superTypeOf(clazz);
 			// add wildcard support
 			
 			Predicate[] predicates = new Predicate[]{i->i==SeqUtils.EMPTY};
@@ -1064,9 +1055,7 @@ public interface Matchable<TYPE>{
 		
 		 @SuppressWarnings({ "rawtypes", "unchecked" })
 		private final  CheckValue3<T1,T2,T3,R> isWhere(Supplier<? extends R> result,Predicate<? super T1> value1,Predicate<? super T2> value2,Predicate<? super T3> value3){
-			Predicate predicate = it -> Optional.of(it)
-					.map(v -> v.getClass().isAssignableFrom(clazz))
-					.orElse(false);
+			Predicate predicate = TypedPredicate.superTypeOf(clazz);
 			// add wildcard support
 			
 			Predicate[] predicates = ReactiveSeq.of(value1,value2,value3)
@@ -1081,9 +1070,7 @@ public interface Matchable<TYPE>{
 		@SuppressWarnings({ "rawtypes", "unchecked" })
 		public final CheckValue3<T1,T2,T3,R> isEmpty(Supplier<? extends R> then) {
 
-			Predicate predicate = it -> Maybe.ofNullable(it)
-					.map(v -> v.getClass().isAssignableFrom(clazz))
-					.orElse(false);
+			Predicate predicate = TypedPredicate.superTypeOf(clazz);
 			// add wildcard support
 			
 			Predicate[] predicates = new Predicate[]{i->i==SeqUtils.EMPTY};
@@ -1112,9 +1099,7 @@ public interface Matchable<TYPE>{
 																								Predicate<? super T2> value2,
 																								Predicate<? super T3> value3,
 																								Predicate<? super T4> value4){
-			Predicate predicate = it -> Optional.of(it)
-					.map(v -> v.getClass().isAssignableFrom(clazz))
-					.orElse(false);
+			Predicate predicate = TypedPredicate.superTypeOf(clazz);
 			// add wildcard support
 			
 			Predicate[] predicates = ReactiveSeq.of(value1,value2,value3,value4)
@@ -1130,9 +1115,7 @@ public interface Matchable<TYPE>{
 		@SuppressWarnings({ "rawtypes", "unchecked" })
 		public final CheckValue4<T1,T2,T3,T4,R> isEmpty(Supplier<? extends R> then) {
 
-			Predicate predicate = it -> Maybe.ofNullable(it)
-					.map(v -> v.getClass().isAssignableFrom(clazz))
-					.orElse(false);
+			Predicate predicate = TypedPredicate.superTypeOf(clazz);
 			// add wildcard support
 			
 			Predicate[] predicates = new Predicate[]{i->i==SeqUtils.EMPTY};
@@ -1164,9 +1147,7 @@ public interface Matchable<TYPE>{
 																								Predicate<? super T3> value3,
 																								Predicate<? super T4> value4,
 																								Predicate<? super T5> value5){
-			Predicate predicate = it -> Optional.of(it)
-					.map(v -> v.getClass().isAssignableFrom(clazz))
-					.orElse(false);
+			Predicate predicate = TypedPredicate.superTypeOf(clazz);
 			// add wildcard support
 			
 			Predicate[] predicates = ReactiveSeq.of(value1,value2,value3,value4)
@@ -1182,9 +1163,7 @@ public interface Matchable<TYPE>{
 		@SuppressWarnings({ "rawtypes", "unchecked" })
 		public final CheckValue4<T1,T2,T3,T4,R> isEmpty(Supplier<? extends R> then) {
 
-			Predicate predicate = it -> Maybe.ofNullable(it)
-					.map(v -> v.getClass().isAssignableFrom(clazz))
-					.orElse(false);
+			Predicate predicate = TypedPredicate.superTypeOf(clazz);
 			// add wildcard support
 			
 			Predicate[] predicates = new Predicate[]{i->i==SeqUtils.EMPTY};
@@ -1248,9 +1227,7 @@ public interface Matchable<TYPE>{
 		
 		 @SuppressWarnings({ "rawtypes", "unchecked" })
 		private final  CheckValues<T,R> isWhere(Supplier<? extends R> result,Iterable<Predicate<? super T>> values){
-			Predicate predicate = it -> Optional.of(it)
-					.map(v -> v.getClass().isAssignableFrom(clazz))
-					.orElse(false);
+			Predicate predicate = TypedPredicate.superTypeOf(clazz);
 			// add wildcard support
 			
 			Predicate<T>[] predicates = ReactiveSeq.fromIterable(values)
@@ -1264,9 +1241,7 @@ public interface Matchable<TYPE>{
 		 @SuppressWarnings({ "rawtypes", "unchecked" })
 		private final <V> CheckValues<T,R> hasWhere(Supplier<? extends R> result,Iterable<Predicate<? super T>> values) {
 		
-			Predicate predicate = it -> Optional.of(it)
-					.map(v -> v.getClass().isAssignableFrom(clazz))
-					.orElse(false);
+			Predicate predicate = TypedPredicate.superTypeOf(clazz);
 			// add wildcard support
 			
 			Predicate<V>[] predicates = ReactiveSeq.fromIterable(values)
@@ -1280,9 +1255,7 @@ public interface Matchable<TYPE>{
 		@SuppressWarnings({ "rawtypes", "unchecked" })
 		public final <V> CheckValues<T,R> isEmpty(Supplier<? extends R> then) {
 
-			Predicate predicate = it -> Maybe.ofNullable(it)
-					.map(v -> v.getClass().isAssignableFrom(clazz))
-					.orElse(false);
+			Predicate predicate = TypedPredicate.superTypeOf(clazz);
 			// add wildcard support
 			
 			Predicate<V>[] predicates = new Predicate[]{i->i==SeqUtils.EMPTY};
@@ -1080,6 +1080,36 @@ public interface ReactiveSeq<T> extends Unwrapable,
 	 */
 	ReactiveSeq<T> parallel();
 
+	/**
+	 * Map to an unboxed IntReactiveSeq
+	 * <pre>
+	 * {@code
+	 *   ReactiveSeq.of("a","bb","ccc")
+	 *              .mapToInt(String::length)
+	 *              .scanLeft(0,(a,b)->a+b)
+	 *              .toArray();
+	 *   //[0,1,3,6]
+	 * }
+	 * </pre>
+	 * @see java.util.stream.Stream#mapToInt(ToIntFunction)
+	 */
+	@Override
+	IntReactiveSeq mapToInt(ToIntFunction<? super T> mapper);
+
+	/**
+	 * Map to an unboxed LongReactiveSeq
+	 * @see java.util.stream.Stream#mapToLong(ToLongFunction)
+	 */
+	@Override
+	LongReactiveSeq mapToLong(ToLongFunction<? super T> mapper);
+
+	/**
+	 * Map to an unboxed DoubleReactiveSeq
+	 * @see java.util.stream.Stream#mapToDouble(ToDoubleFunction)
+	 */
+	@Override
+	DoubleReactiveSeq mapToDouble(ToDoubleFunction<? super T> mapper);
+
 	/**
 	 * True if predicate matches all elements when Monad converted to a Stream
 	 * 
@@ -2315,6 +2345,7 @@ public interface ReactiveSeq<T> extends Unwrapable,
 	 * @param end
 	 *            Number for range to end at
 	 * @return Range ReactiveSeq
+	 * @see IntReactiveSeq#range(int, int) for an unboxed range
 	 */
 	public static ReactiveSeq<Integer> range(int start, int end) {
 		ReversingRangeIntSpliterator range = new ReversingRangeIntSpliterator(start, end, false);
@@ -2331,6 +2362,7 @@ public interface ReactiveSeq<T> extends Unwrapable,
 	 * @param end
 	 *            Number for range to end at
 	 * @return Range ReactiveSeq
+	 * @see LongReactiveSeq#range(long, long) for an unboxed range
 	 */
 	public static ReactiveSeq<Long> rangeLong(long start, long end) {
 		ReversingRangeLongSpliterator range = new ReversingRangeLongSpliterator(start, end, false);
@@ -2358,6 +2390,7 @@ public interface ReactiveSeq<T> extends Unwrapable,
 	 * @param stream
 	 *            Stream to construct Sequence from
 	 * @return
+	 * @see IntReactiveSeq#fromIntStream(IntStream) to keep values unboxed
 	 */
 	public static ReactiveSeq<Integer> fromIntStream(IntStream stream) {
 		Objects.requireNonNull(stream);
@@ -2371,6 +2404,7 @@ public interface ReactiveSeq<T> extends Unwrapable,
 	 * @param stream
 	 *            Stream to construct Sequence from
 	 * @return
+	 * @see LongReactiveSeq#fromLongStream(LongStream) to keep values unboxed
 	 */
 	public static ReactiveSeq<Long> fromLongStream(LongStream stream) {
 		Objects.requireNonNull(stream);
@@ -2383,6 +2417,7 @@ public interface ReactiveSeq<T> extends Unwrapable,
 	 * @param stream
 	 *            Stream to construct Sequence from
 	 * @return
+	 * @see DoubleReactiveSeq#fromDoubleStream(DoubleStream) to keep values unboxed
 	 */
 	public static ReactiveSeq<Double> fromDoubleStream(DoubleStream stream) {
 		Objects.requireNonNull(stream);
@@ -3384,7 +3419,7 @@ public interface ReactiveSeq<T> extends Unwrapable,
 	@Override
 	default int sumInt(ToIntFunction<? super T> function) {
 		
-		return CyclopsCollectable.super.sumInt(function);
+		return mapToInt(function).sum();
 	}
 
 	/* (non-Javadoc)
@@ -3393,7 +3428,7 @@ public interface ReactiveSeq<T> extends Unwrapable,
 	@Override
 	default long sumLong(ToLongFunction<? super T> function) {
 		
-		return CyclopsCollectable.super.sumLong(function);
+		return mapToLong(function).sum();
 	}
 
 	/* (non-Javadoc)
@@ -3402,7 +3437,7 @@ public interface ReactiveSeq<T> extends Unwrapable,
 	@Override
 	default double sumDouble(ToDoubleFunction<? super T> function) {
 		
-		return CyclopsCollectable.super.sumDouble(function);
+		return mapToDouble(function).sum();
 	}
 
 	/* (non-Javadoc)
@@ -3429,7 +3464,7 @@ public interface ReactiveSeq<T> extends Unwrapable,
 	@Override
 	default double avgInt(ToIntFunction<? super T> function) {
 		
-		return CyclopsCollectable.super.avgInt(function);
+		return mapToInt(function).average().orElse(0.0);
 	}
 
 	/* (non-Javadoc)
@@ -3438,7 +3473,7 @@ public interface ReactiveSeq<T> extends Unwrapable,
 	@Override
 	default double avgLong(ToLongFunction<? super T> function) {
 		
-		return CyclopsCollectable.super.avgLong(function);
+		return mapToLong(function).average().orElse(0.0);
 	}
 
 	/* (non-Javadoc)
@@ -3447,7 +3482,7 @@ public interface ReactiveSeq<T> extends Unwrapable,
 	@Override
 	default double avgDouble(ToDoubleFunction<? super T> function) {
 		
-		return CyclopsCollectable.super.avgDouble(function);
+		return mapToDouble(function).average().orElse(0.0);
 	}
 
 	/* (non-Javadoc)
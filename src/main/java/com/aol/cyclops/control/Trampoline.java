@@ -3,7 +3,6 @@ package com.aol.cyclops.control;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.function.Supplier;
-import java.util.stream.Stream;
 
 import com.aol.cyclops.types.Convertable;
 import com.aol.cyclops.types.Value;
@@ -83,12 +82,10 @@ public interface Trampoline<T> extends Supplier<T>, Value<T>{
 
 			T trampoline(Trampoline<T> trampoline) {
 				
-				return Stream.iterate(trampoline,Trampoline::bounce)
-							.filter(Trampoline::complete)
-							.findFirst()
-							.get()
-							.result();
-				
+				Trampoline<T> next = trampoline;
+				while(!next.complete())
+					next = next.bounce();
+				return next.result();
 
 			}
 		};
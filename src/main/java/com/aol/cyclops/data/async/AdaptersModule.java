@@ -226,13 +226,18 @@ static class QueueToBlockingQueueWrapper implements BlockingQueue{
         @Override
         public int drainTo(Collection c) {
             
-            return 0;
+            return drainTo(c,Integer.MAX_VALUE);
         }
 
         @Override
         public int drainTo(Collection c, int maxElements) {
-            
-            return 0;
+            int count = 0;
+            Object next;
+            while(count<maxElements && (next=queue.poll())!=null){
+                c.add(next);
+                count++;
+            }
+            return count;
         }
         
     }
@@ -0,0 +1,425 @@
+package com.aol.cyclops.data.async;
+
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+import com.aol.cyclops.data.async.wait.DirectWaitStrategy;
+
+import lombok.AllArgsConstructor;
+
+/**
+ * A bounded ring buffer shared by every subscriber of a multicast Topic (Disruptor style).
+ *
+ * Each value is written once into the ring, each subscriber reads it via its own sequence cursor.
+ * Producers claim sequences without locking and only wait when the ring is full - i.e. when the
+ * slowest subscriber is a full ring behind (backpressure). Subscribers wait only when they have
+ * caught up with the producers. Waiting threads spin briefly, then block until signalled by the other
+ * side (a publish wakes waiting subscribers, a subscriber advancing or disconnecting wakes waiting producers).
+ *
+ * Subscribers are exposed as Queues, so the standard Queue streaming / closing machinery applies. Close
+ * signals sent to a subscriber Queue are held on a side channel for that subscriber only and are delivered
+ * in order relative to the values published before them. Once a subscriber has received a close signal
+ * (or is disconnected) it no longer holds back producers.
+ *
+ * @see QueueFactories#multicastRingBuffer(int)
+ *
+ * @param <T> Data type of elements in the ring
+ */
+class MulticastRingBuffer<T> {
+
+	private static final Cursor[] NO_CURSORS = new Cursor[0];
+
+	private final int capacity;
+	private final int mask;
+	private final int shift;
+	private final Object[] buffer;
+	/**
+	 * (sequence >>> shift) of the value last published into each slot
+	 */
+	private final AtomicIntegerArray published;
+	/**
+	 * Next sequence to be claimed by a producer
+	 */
+	private final AtomicLong claimed = new AtomicLong(0);
+	private volatile long gatingCache = 0;
+	private volatile Cursor[] cursors = NO_CURSORS;
+	private volatile boolean closed = false;
+	private final Object lock = new Object();
+	private final WaitSignal producers = new WaitSignal();
+	private final WaitSignal consumers = new WaitSignal();
+
+	MulticastRingBuffer(int capacity){
+		if(capacity<1)
+			throw new IllegalArgumentException("Ring buffer capacity must be 1 or more");
+		int size = Integer.highestOneBit(capacity);
+		if(size<capacity)
+			size = size << 1;
+		this.capacity = size;
+		this.mask = size-1;
+		this.shift = Integer.numberOfTrailingZeros(size);
+		this.buffer = new Object[size];
+		this.published = new AtomicIntegerArray(size);
+		for(int i=0;i<size;i++)
+			published.set(i, -1);
+	}
+
+	/**
+	 * @return A new Queue that receives every value published after this call
+	 */
+	Queue<T> subscribe(){
+		return new Queue<T>(new Subscriber(),new DirectWaitStrategy<>(),new DirectWaitStrategy<>());
+	}
+
+	/**
+	 * Publish a value to all current subscribers, waiting only if the slowest subscriber is a full ring behind
+	 *
+	 * @param value Value to publish (non-null)
+	 * @return true once published
+	 * @throws Queue.ClosedQueueException if the ring is closed, including while waiting for space
+	 */
+	boolean publish(Object value){
+		if(closed)
+			throw new Queue.ClosedQueueException();
+		long sequence = claimed.getAndIncrement();
+		long wrapPoint = sequence - capacity;
+		if(wrapPoint >= gatingCache){
+			int attempt = 0;
+			long min;
+			while(wrapPoint >= (min = minimumCursor(sequence))){
+				if(closed)
+					throw new Queue.ClosedQueueException();
+				if(attempt<SPIN_TRIES)
+					spin(attempt++);
+				else
+					producers.awaitUninterruptibly(()->closed || wrapPoint < minimumCursor(sequence),MAX_WAIT_NANOS);
+			}
+			gatingCache = min;
+		}
+		int slot = (int)sequence & mask;
+		buffer[slot] = value;
+		published.set(slot, (int)(sequence >>> shift)); //full fence, so a subscriber registering to wait either sees it or is signalled
+		consumers.signal();
+		return true;
+	}
+
+	/**
+	 * Stop the supplied Queue (if it is a ring subscriber) from receiving values or holding back producers
+	 */
+	static void unsubscribe(Queue<?> queue){
+		if(queue!=null && queue.getQueue() instanceof MulticastRingBuffer.Subscriber)
+			((MulticastRingBuffer.Subscriber)queue.getQueue()).disconnect();
+	}
+
+	void close(){
+		closed = true;
+		producers.signal();
+		consumers.signal();
+	}
+
+	private long minimumCursor(long upperBound){
+		long min = upperBound;
+		for(Cursor next : cursors){
+			min = Math.min(min, next.sequence.get());
+		}
+		return min;
+	}
+
+	private Cursor attach(){
+		synchronized(lock){
+			Cursor cursor = new Cursor(claimed.get());
+			Cursor[] current = cursors;
+			Cursor[] next = Arrays.copyOf(current, current.length+1);
+			next[current.length] = cursor;
+			cursors = next;
+			//producers claiming from here on see the new cursor, so it is safe to start from the current claim
+			cursor.sequence.set(claimed.get());
+			return cursor;
+		}
+	}
+	private void detach(Cursor cursor){
+		synchronized(lock){
+			Cursor[] current = cursors;
+			int index = -1;
+			for(int i=0;i<current.length;i++){
+				if(current[i]==cursor)
+					index = i;
+			}
+			if(index<0)
+				return;
+			Cursor[] next = new Cursor[current.length-1];
+			System.arraycopy(current, 0, next, 0, index);
+			System.arraycopy(current, index+1, next, index, current.length-index-1);
+			cursors = next;
+		}
+		producers.signal();
+	}
+
+	private static final int SPIN_TRIES = 200;
+	/**
+	 * Upper bound on a single blocking wait, waiters are signalled so this only limits the cost of a missed wake up
+	 */
+	private static final long MAX_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+	private static void spin(int attempt){
+		if(attempt>=100)
+			Thread.yield();
+	}
+
+	/**
+	 * Blocking wait with signalling. A waiter registers under the monitor and re-checks its condition before waiting,
+	 * a signaller publishes its state change (volatile write) before checking for waiters, so a wake up is never missed.
+	 */
+	private static final class WaitSignal {
+		private volatile int waiting = 0;
+
+		void signal(){
+			if(waiting>0){
+				synchronized(this){
+					notifyAll();
+				}
+			}
+		}
+		void await(BooleanSupplier ready,long nanos) throws InterruptedException{
+			synchronized(this){
+				waiting++;
+				try{
+					if(!ready.getAsBoolean())
+						TimeUnit.NANOSECONDS.timedWait(this, nanos);
+				}finally{
+					waiting--;
+				}
+			}
+		}
+		void awaitUninterruptibly(BooleanSupplier ready,long nanos){
+			try {
+				await(ready,nanos);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	/**
+	 * Builds Queues backed by a ring buffer. Used standalone, each Queue has its own ring; a Topic
+	 * constructed from this factory shares one ring between all of its subscribers.
+	 */
+	@AllArgsConstructor
+	static class Factory<T> implements QueueFactory<T> {
+		private final int capacity;
+
+		MulticastRingBuffer<T> ring(){
+			return new MulticastRingBuffer<>(capacity);
+		}
+		@Override
+		public Queue<T> build() {
+			return this.ring().subscribe();
+		}
+	}
+
+	private static class Cursor {
+		final AtomicLong sequence;
+		Cursor(long start){
+			sequence = new AtomicLong(start);
+		}
+	}
+	@AllArgsConstructor
+	private static class CloseSignal {
+		final Object value;
+		final long sequence;
+	}
+
+	/**
+	 * BlockingQueue view of the ring for a single subscriber
+	 */
+	class Subscriber extends AbstractQueue<T> implements BlockingQueue<T> {
+		private final Cursor cursor = attach();
+		private final ConcurrentLinkedQueue<CloseSignal> signals = new ConcurrentLinkedQueue<>();
+		private volatile boolean detached = false;
+
+		/**
+		 * Close signals (Queue poison pills) are held for this subscriber only, everything else is published
+		 * to all subscribers
+		 */
+		@Override
+		public boolean offer(T e) {
+			if(Queue.isControlSignal(e)){
+				signals.add(new CloseSignal(e,claimed.get()));
+				consumers.signal();
+				return true;
+			}
+			return publish(e);
+		}
+
+		@Override
+		public T poll() {
+			CloseSignal signal = signals.peek();
+			if(signal!=null && (detached || cursor.sequence.get()>=signal.sequence)){
+				signals.poll();
+				disconnect();
+				return (T)signal.value;
+			}
+			if(detached)
+				return null;
+			while(true){
+				long sequence = cursor.sequence.get();
+				int slot = (int)sequence & mask;
+				if(published.get(slot)!=(int)(sequence >>> shift)){
+					if(signal!=null && closed){
+						//a producer waiting for space gave up when the ring was closed, its sequence will never be published
+						signals.poll();
+						disconnect();
+						return (T)signal.value;
+					}
+					return null;
+				}
+				Object value = buffer[slot];
+				if(cursor.sequence.compareAndSet(sequence, sequence+1)){
+					producers.signal();
+					return (T)value;
+				}
+			}
+		}
+
+		@Override
+		public T peek() {
+			CloseSignal signal = signals.peek();
+			if(signal!=null && (detached || cursor.sequence.get()>=signal.sequence))
+				return (T)signal.value;
+			if(detached)
+				return null;
+			long sequence = cursor.sequence.get();
+			int slot = (int)sequence & mask;
+			if(published.get(slot)!=(int)(sequence >>> shift))
+				return null;
+			return (T)buffer[slot];
+		}
+
+		@Override
+		public void put(T e) throws InterruptedException {
+			offer(e);
+		}
+
+		@Override
+		public boolean offer(T e, long timeout, TimeUnit unit) throws InterruptedException {
+			return offer(e);
+		}
+
+		@Override
+		public T take() throws InterruptedException {
+			T result;
+			int attempt = 0;
+			while((result=poll())==null){
+				if(Thread.interrupted())
+					throw new InterruptedException();
+				if(attempt<SPIN_TRIES)
+					spin(attempt++);
+				else
+					consumers.await(this::readable,MAX_WAIT_NANOS);
+			}
+			return result;
+		}
+
+		@Override
+		public T poll(long timeout, TimeUnit unit) throws InterruptedException {
+			long deadline = System.nanoTime() + unit.toNanos(timeout);
+			T result;
+			int attempt = 0;
+			while((result=poll())==null){
+				if(Thread.interrupted())
+					throw new InterruptedException();
+				long remaining = deadline-System.nanoTime();
+				if(remaining<=0)
+					return null;
+				if(attempt<SPIN_TRIES)
+					spin(attempt++);
+				else
+					consumers.await(this::readable,Math.min(remaining,MAX_WAIT_NANOS));
+			}
+			return result;
+		}
+
+		/**
+		 * @return true if poll may return a value or close signal
+		 */
+		private boolean readable(){
+			if(!signals.isEmpty() || detached)
+				return true;
+			long sequence = cursor.sequence.get();
+			return published.get((int)sequence & mask)==(int)(sequence >>> shift);
+		}
+
+		/**
+		 * Close signals never occupy ring capacity
+		 */
+		@Override
+		public int remainingCapacity() {
+			return Integer.MAX_VALUE;
+		}
+
+		@Override
+		public int drainTo(Collection<? super T> c) {
+			return drainTo(c,Integer.MAX_VALUE);
+		}
+
+		@Override
+		public int drainTo(Collection<? super T> c, int maxElements) {
+			int count = 0;
+			T next;
+			while(count<maxElements && (next=poll())!=null){
+				c.add(next);
+				count++;
+			}
+			return count;
+		}
+
+		@Override
+		public void clear() {
+			disconnect();
+			signals.clear();
+		}
+
+		@Override
+		public int size() {
+			int pending = detached ? 0 : (int)Math.min(Integer.MAX_VALUE, Math.max(0, claimed.get()-cursor.sequence.get()));
+			return pending + signals.size();
+		}
+
+		/**
+		 * @return Iterator over a snapshot of the published values not yet read by this subscriber
+		 */
+		@Override
+		public Iterator<T> iterator() {
+			List<T> pending = new ArrayList<>();
+			if(!detached){
+				long start = cursor.sequence.get();
+				for(long sequence=start;sequence<start+capacity;sequence++){
+					int slot = (int)sequence & mask;
+					if(published.get(slot)!=(int)(sequence >>> shift))
+						break;
+					pending.add((T)buffer[slot]);
+				}
+			}
+			return pending.iterator();
+		}
+
+		/**
+		 * Stop receiving values, this subscriber no longer holds back producers
+		 */
+		void disconnect(){
+			if(!detached){
+				detached = true;
+				detach(cursor);
+			}
+		}
+	}
+}
@@ -1,5 +1,6 @@
 package com.aol.cyclops.data.async;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
@@ -152,6 +153,27 @@ public class Queue<T> implements Adapter<T> {
 		return ReactiveSeq.fromStream(closingStream(this::get,s));
 	}
 	
+	/**
+	 * Stream that drains up to maxBatch available elements from the underlying BlockingQueue per read, and only
+	 * waits (via the configured WaitStrategy) once they have all been consumed. Cuts per element overhead
+	 * for high throughput consumers.
+	 * 
+	 * Drained elements are held by the Stream, if it is short-circuited (e.g. via limit) they are not returned 
+	 * to this Queue, so this Stream should be the only consumer of this Queue. On close only the remaining
+	 * poison pills in a drained batch are handed back to the Queue for other Streams.
+	 * 
+	 * @param maxBatch Maximum number of elements to drain at once
+	 * @return Sequential Infinite (until Queue is closed) Stream of data from this Queue
+	 */
+	public ReactiveSeq<T> streamDraining(int maxBatch) {
+		return streamDraining(new AlwaysContinue(),maxBatch);
+	}
+	public ReactiveSeq<T> streamDraining(Continueable s,int maxBatch) {
+		this.sub=s;
+		listeningStreams.incrementAndGet(); //assumes all Streams that ever connected, remain connected
+		return ReactiveSeq.fromStream(closingStream(new DrainingReader(maxBatch),s));
+	}
+	
 	public ReactiveSeq<Collection<T>> streamBatchNoTimeout(Continueable s,Function<Supplier<T>,Supplier<Collection<T>>> batcher) {
 		this.sub=s;
 		listeningStreams.incrementAndGet(); //assumes all Streams that ever connected, remain connected
@@ -268,6 +290,52 @@ public class Queue<T> implements Adapter<T> {
 		
 	}
 
+	/**
+	 * Reads from a local batch, refilled via drainTo, falling back to ensureOpen when the Queue is empty
+	 */
+	private class DrainingReader implements Supplier<T>{
+		private final int maxBatch;
+		private final ArrayDeque<T> batch = new ArrayDeque<>();
+		
+		DrainingReader(int maxBatch){
+			if(maxBatch<1)
+				throw new IllegalArgumentException("maxBatch must be 1 or more");
+			this.maxBatch = maxBatch;
+		}
+		
+		@Override
+		public T get() {
+			if(batch.isEmpty()){
+				if(queue.drainTo(batch,maxBatch)==0)
+					return ensureOpen(timeout,timeUnit);
+				if(sizeSignal!=null)
+					sizeSignal.set(queue.size());
+			}
+			T data = batch.poll();
+			if(data==CLEAR_PILL){
+				batch.clear();
+				queue.clear();
+				return get();
+			}
+			if(data instanceof PoisonPill){
+				//remaining poison pills belong to other Streams, data drained with the pill is emitted (in order) on close
+				List<T> remaining = new ArrayList<>(batch.size());
+				for(T next : batch){
+					if(next instanceof PoisonPill)
+						queue.offer(next);
+					else
+						remaining.add((T)nillSafe(next));
+				}
+				batch.clear();
+				if(remaining.isEmpty())
+					throw new ClosedQueueException();
+				throw new ClosedQueueException(remaining);
+			}
+			return (T)nillSafe(data);
+		}
+		
+	}
+
 	private void handleTimeout(SimpleTimer timer, long timeout) {
 		if(timer.getElapsedNanoseconds()>timeout){
 			
@@ -344,6 +412,13 @@ public class Queue<T> implements Adapter<T> {
 
 	private static class PoisonPill { }
 
+	/**
+	 * @return true if data is an internal close signal rather than a value
+	 */
+	static boolean isControlSignal(Object data){
+		return data instanceof PoisonPill;
+	}
+
 
 	public T poll(long time, TimeUnit unit) throws QueueTimeoutException{
 		return this.ensureOpen(time, unit);
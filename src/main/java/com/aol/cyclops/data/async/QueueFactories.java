@@ -87,6 +87,28 @@ public class QueueFactories {
         
     }
 	
+	/**
+	 * Creates async.Queues backed by a bounded, lock-free ring buffer (rounded up to a power of 2).
+	 * 
+	 * Passed to a Topic, a single ring buffer is shared by all subscribers (multicast) : each published
+	 * data point is written once, every subscriber reads it via its own sequence, and publishers only wait
+	 * when the slowest subscriber is a full ring behind.
+	 * <pre>
+	 * {@code
+	 *    Topic<String> topic = new Topic<>(QueueFactories.multicastRingBuffer(1024));
+	 * }</pre>
+	 * 
+	 * Used elsewhere, each Queue built has a ring buffer of its own.
+	 * 
+	 * @param capacity upper bound on data held for subscribers
+	 * @return QueueFactory for ring buffer backed Queues
+	 */
+	public static<T> QueueFactory<T> multicastRingBuffer(int capacity){
+		if(capacity<1)
+			throw new IllegalArgumentException("Ring buffer capacity must be 1 or more");
+		return new MulticastRingBuffer.Factory<>(capacity);
+	}
+	
 	/**
 	 * @return async.Queue backed by a Synchronous Queue
 	 */
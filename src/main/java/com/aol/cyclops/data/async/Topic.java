@@ -32,7 +32,8 @@ public class Topic<T> implements Adapter<T> {
 	
 	
 	@Getter(AccessLevel.PACKAGE) 
-	private final DistributingCollection<T> distributor = new DistributingCollection<T>();
+	private final DistributingCollection<T> distributor;
+	private final QueueFactory<T> factory;
 	@Getter(AccessLevel.PACKAGE) 
 	private volatile PMap<Seq,Queue<T>> streamToQueue = HashTreePMap.empty();
 	private final Object lock = new Object();
@@ -42,9 +43,7 @@ public class Topic<T> implements Adapter<T> {
 	 * Construct a new Topic
 	 */
 	public Topic() {
-		Queue<T> q = new Queue<T>();
-		
-		distributor.addQueue(q);	
+		this(QueueFactories.unboundedQueue());
 	}
 	
 	/**
@@ -52,10 +51,32 @@ public class Topic<T> implements Adapter<T> {
 	 * @param q Queue to back this Topic with
 	 */
 	public Topic(Queue<T> q) {
-		
+		this.factory = QueueFactories.unboundedQueue();
+		this.distributor = new DistributingCollection<T>(null);
 		distributor.addQueue(q);		
 	}
 	
+	/**
+	 * Construct a Topic that creates a Queue for each subscriber with the supplied factory.
+	 * 
+	 * With {@link QueueFactories#multicastRingBuffer(int)} all subscribers share a single bounded ring buffer,
+	 * each data point is written once and publishers wait only for the slowest subscriber.
+	 * 
+	 * <pre>
+	 * {@code
+	 *   Topic<Integer> topic = new Topic<>(QueueFactories.multicastRingBuffer(1024));
+	 * }
+	 * </pre>
+	 * 
+	 * @param factory QueueFactory for subscriber Queues
+	 */
+	public Topic(QueueFactory<T> factory) {
+		this.factory = factory;
+		this.distributor = new DistributingCollection<T>(factory instanceof MulticastRingBuffer.Factory ? 
+													((MulticastRingBuffer.Factory<T>)factory).ring() : null);
+		distributor.addQueue(distributor.newQueue(factory));
+	}
+	
 	
 	
 	/**
@@ -124,7 +145,7 @@ public class Topic<T> implements Adapter<T> {
 	
 		if(index >= this.distributor.getSubscribers().size()){
 			
-			this.distributor.addQueue(new Queue());
+			this.distributor.addQueue(distributor.newQueue(factory));
 			
 			
 		}
@@ -139,6 +160,7 @@ public class Topic<T> implements Adapter<T> {
 	 */
 	public boolean close() {
 		this.distributor.getSubscribers().forEach(it -> it.close());
+		this.distributor.close();
 		return true;
 		
 	}
@@ -151,6 +173,8 @@ public class Topic<T> implements Adapter<T> {
 	}
 	public void setSizeSignal(int index,Signal<Integer> s){
 		this.distributor.getSubscribers().get(index).setSizeSignal(s);
+		if(s!=null)
+			this.distributor.sizeSignalsEnabled();
 	}
 	
 	/**
@@ -172,8 +196,26 @@ public class Topic<T> implements Adapter<T> {
 		private static final long serialVersionUID = 1L;
 		@Getter
 		private volatile PVector<Queue<T>> subscribers = TreePVector.empty();
+		/**
+		 * Shared by all subscribers in multicast mode, otherwise null
+		 */
+		private final MulticastRingBuffer<T> ring;
 		
 		private final Object lock = new Object();
+		/**
+		 * Set once a size signal is configured via the Topic, until then publishing skips the per subscriber size updates
+		 */
+		private volatile boolean sizeSignals = false;
+		
+		DistributingCollection(MulticastRingBuffer<T> ring){
+			this.ring = ring;
+		}
+		
+		Queue<T> newQueue(QueueFactory<T> factory){
+			if(ring!=null)
+				return ring.subscribe();
+			return factory.build();
+		}
 		
 		@Synchronized("lock")
 		public void addQueue(Queue<T> q){
@@ -183,20 +225,48 @@ public class Topic<T> implements Adapter<T> {
 		@Synchronized("lock")
 		public void removeQueue(Queue<T> q){
 			 subscribers = subscribers.minus(q);
+			 MulticastRingBuffer.unsubscribe(q);
 					
 		}
 		
+		void sizeSignalsEnabled(){
+			sizeSignals = true;
+		}
+		
+		void close(){
+			if(ring!=null)
+				ring.close();
+		}
+		
 		@Override
 		public boolean add(T e) {
+			if(ring!=null){
+				ring.publish(e==null ? Queue.NILL : e);
+				if(sizeSignals)
+					signalSizes();
+				return true;
+			}
 			subscribers.forEach(it -> it.offer(e));
 			return true;
 		}
 
 		@Override
 		public boolean addAll(Collection<? extends T> c) {
+			if(ring!=null){
+				c.forEach(this::add);
+				return true;
+			}
 			subscribers.forEach(it -> c.forEach(next -> it.offer(next)));
 			return true;
 		}
+		
+		private void signalSizes(){
+			for(Queue<T> next : subscribers){
+				Signal<Integer> size = next.getSizeSignal();
+				if(size!=null)
+					size.set(next.size());
+			}
+		}
 
 		
 		
@@ -332,10 +332,8 @@ public interface ComprehensionsModule {
 		private Optional<Tuple2<Comprehender, Object>> selectComprehender(final Object structure) {
 			if (structure == null)
 				return Optional.empty();
-			return new Comprehenders().getRegisteredComprehenders().stream()
-					.filter(e -> e.getKey().isAssignableFrom(structure.getClass()))
-					.map(e -> e.getValue())
-					.map(v -> new Tuple2<Comprehender, Object>(v, structure)).findFirst();
+			return new Comprehenders().getRegisteredComprehender(structure.getClass())
+					.map(v -> new Tuple2<Comprehender, Object>(v, structure));
 		}
 
 	}
@@ -0,0 +1,134 @@
+package com.aol.cyclops.internal.comprehensions.comprehenders;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.io.Reader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.aol.cyclops.types.extensability.Comprehender;
+import com.aol.cyclops.util.ExceptionSoftener;
+
+import lombok.AllArgsConstructor;
+
+/**
+ * Index of Comprehender implementations, recording the target class name and priority of each Comprehender
+ * so that Comprehenders can be matched to types without loading or instantiating them.
+ *
+ * The index for cyclops-react's own Comprehenders is generated at build time (see the comprehenderIndex task in build.gradle)
+ * by running main with the Comprehender services file and the index file to write.
+ * Index file format, one Comprehender per line : priority target-class-name comprehender-class-name
+ */
+public final class ComprehenderIndex {
+
+	static final String SERVICES = "META-INF/services/" + Comprehender.class.getName();
+	static final String INDEX = "META-INF/cyclops/comprehenders.index";
+
+	private ComprehenderIndex(){}
+
+	/**
+	 * Generate an index file
+	 *
+	 * @param args Path to a Comprehender services file, path of the index file to write
+	 * @throws IOException
+	 */
+	public static void main(String[] args) throws IOException {
+		List<String> providers;
+		try(Reader reader = Files.newBufferedReader(Paths.get(args[0]),StandardCharsets.UTF_8)){
+			providers = new ArrayList<>(readProviderNames(reader));
+		}
+		Path index = Paths.get(args[1]);
+		Files.createDirectories(index.getParent());
+		try(PrintWriter writer = new PrintWriter(Files.newBufferedWriter(index,StandardCharsets.UTF_8))){
+			for(String name : providers){
+				Comprehender comprehender = instantiate(name,ComprehenderIndex.class.getClassLoader());
+				writer.println(comprehender.priority() + " " + comprehender.getTargetClass().getName() + " " + name);
+			}
+		}
+	}
+
+	/**
+	 * @param loader ClassLoader to search
+	 * @return Names of all Comprehenders registered via META-INF/services, in ServiceLoader order
+	 */
+	static Set<String> providerNames(ClassLoader loader){
+		Set<String> names = new LinkedHashSet<>();
+		for(URL url : resources(loader,SERVICES)){
+			try(Reader reader = new InputStreamReader(url.openStream(),StandardCharsets.UTF_8)){
+				names.addAll(readProviderNames(reader));
+			}catch(IOException e){
+				throw ExceptionSoftener.throwSoftenedException(e);
+			}
+		}
+		return names;
+	}
+	/**
+	 * @param loader ClassLoader to search
+	 * @return Indexed Comprehenders by Comprehender class name
+	 */
+	static Map<String,Indexed> read(ClassLoader loader){
+		Map<String,Indexed> indexed = new HashMap<>();
+		for(URL url : resources(loader,INDEX)){
+			try(BufferedReader reader = new BufferedReader(new InputStreamReader(url.openStream(),StandardCharsets.UTF_8))){
+				String line;
+				while((line=reader.readLine())!=null){
+					String[] fields = line.trim().split("\\s+");
+					if(fields.length==3)
+						indexed.putIfAbsent(fields[2], new Indexed(Integer.parseInt(fields[0]),fields[1]));
+				}
+			}catch(IOException e){
+				throw ExceptionSoftener.throwSoftenedException(e);
+			}
+		}
+		return indexed;
+	}
+	static Comprehender instantiate(String name,ClassLoader loader){
+		try {
+			return (Comprehender)Class.forName(name, true, loader).newInstance();
+		} catch (ReflectiveOperationException e) {
+			throw ExceptionSoftener.throwSoftenedException(e);
+		}
+	}
+
+	private static List<String> readProviderNames(Reader in) throws IOException{
+		List<String> names = new ArrayList<>();
+		BufferedReader reader = new BufferedReader(in);
+		String line;
+		while((line=reader.readLine())!=null){
+			int comment = line.indexOf('#');
+			String name = (comment>=0 ? line.substring(0, comment) : line).trim();
+			if(name.length()>0)
+				names.add(name);
+		}
+		return names;
+	}
+	private static List<URL> resources(ClassLoader loader,String name){
+		List<URL> urls = new ArrayList<>();
+		try {
+			Enumeration<URL> found = loader.getResources(name);
+			while(found.hasMoreElements())
+				urls.add(found.nextElement());
+		} catch (IOException e) {
+			throw ExceptionSoftener.throwSoftenedException(e);
+		}
+		return urls;
+	}
+
+	@AllArgsConstructor
+	static final class Indexed{
+		final int priority;
+		final String targetClass;
+	}
+}
@@ -1,41 +1,135 @@
 package com.aol.cyclops.internal.comprehensions.comprehenders;
 
 import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
-import java.util.ServiceLoader;
-import java.util.stream.Stream;
+import java.util.Optional;
+import java.util.Set;
 
-import org.jooq.lambda.Seq;
+import org.pcollections.ConsPStack;
 import org.pcollections.PStack;
 
-import com.aol.cyclops.Reducers;
+import com.aol.cyclops.internal.comprehensions.comprehenders.ComprehenderIndex.Indexed;
 import com.aol.cyclops.types.extensability.Comprehender;
 
 /**
  * Registered Comprehenders
- * 
+ *
+ * Comprehenders are registered via META-INF/services. Comprehenders listed in a META-INF/cyclops/comprehenders.index file
+ * (see ComprehenderIndex) are matched to types by target class name, and only loaded and instantiated when first selected.
+ * Any other registered Comprehenders are instantiated when the registry is first used.
+ * The Comprehender selected for each class is cached in a ClassValue.
+ *
  * @author johnmcclean
  *
  */
 public class Comprehenders {
-	
-	private final static PStack<Map.Entry<Class,Comprehender>> comprehenders;
-	static {	
-		ServiceLoader<Comprehender> loader  = ServiceLoader.load(Comprehender.class);
-		
-
-		comprehenders = Reducers.<Map.Entry<Class,Comprehender>>toPStack().mapReduce((Stream)Seq.seq(loader.iterator())
-													.sorted((a,b) ->  b.priority()-a.priority())
-													.map(comp->new AbstractMap.SimpleEntry(comp.getTargetClass(),comp)));
-	
+
+	private final static List<Registration> registrations;
+	static {
+		ClassLoader loader = Thread.currentThread().getContextClassLoader();
+		if(loader==null)
+			loader = ClassLoader.getSystemClassLoader();
+		Map<String,Indexed> index = ComprehenderIndex.read(loader);
+		List<Registration> found = new ArrayList<>();
+		for(String name : ComprehenderIndex.providerNames(loader)){
+			Indexed indexed = index.get(name);
+			found.add(indexed!=null ? new Registration(name,loader,indexed.priority,indexed.targetClass) : new Registration(ComprehenderIndex.instantiate(name,loader)));
+		}
+		found.sort((a,b) ->  b.priority-a.priority); //stable, equal priorities stay in registration order
+		registrations = Collections.unmodifiableList(found);
 	}
-	
-	
+
+	private final static ClassValue<Optional<Comprehender>> byClass = new ClassValue<Optional<Comprehender>>(){
+		@Override
+		protected Optional<Comprehender> computeValue(Class<?> type) {
+			Set<String> hierarchy = new HashSet<>();
+			addHierarchy(type,hierarchy);
+			for(Registration next : registrations){
+				if(next.matches(type,hierarchy))
+					return Optional.of(next.get());
+			}
+			return Optional.empty();
+		}
+	};
+
+	/**
+	 * @param type Class of a monadic type
+	 * @return The first (highest priority) registered Comprehender that can handle the supplied type, cached per class
+	 */
+	public Optional<Comprehender> getRegisteredComprehender(Class type){
+		return byClass.get(type);
+	}
+
 	/**
+	 * Note this loads all registered Comprehenders, prefer {@link #getRegisteredComprehender(Class)}
+	 *
 	 * @return Registered Comprehenders
 	 */
 	public PStack<Map.Entry<Class,Comprehender>> getRegisteredComprehenders(){
-		return comprehenders;
+		return All.comprehenders;
 	}
-	
+
+	private static void addHierarchy(Class<?> type,Set<String> hierarchy){
+		if(type==null || !hierarchy.add(type.getName()))
+			return;
+		addHierarchy(type.getSuperclass(),hierarchy);
+		for(Class<?> next : type.getInterfaces())
+			addHierarchy(next,hierarchy);
+	}
+
+	private static final class All{
+		static final PStack<Map.Entry<Class,Comprehender>> comprehenders;
+		static {
+			PStack<Map.Entry<Class,Comprehender>> all = ConsPStack.empty();
+			for(Registration next : registrations){
+				Comprehender comp = next.get();
+				all = all.plus(all.size(),new AbstractMap.SimpleEntry<>(comp.getTargetClass(),comp));
+			}
+			comprehenders = all;
+		}
+	}
+
+	private static final class Registration{
+		private final String name;
+		private final ClassLoader loader;
+		private final int priority;
+		private final String targetClass;
+		private volatile Comprehender comprehender;
+
+		Registration(String name,ClassLoader loader,int priority,String targetClass){
+			this.name = name;
+			this.loader = loader;
+			this.priority = priority;
+			this.targetClass = targetClass;
+		}
+		Registration(Comprehender comprehender){
+			this.name = comprehender.getClass().getName();
+			this.loader = null;
+			this.priority = comprehender.priority();
+			this.targetClass = null;
+			this.comprehender = comprehender;
+		}
+
+		boolean matches(Class<?> type,Set<String> hierarchy){
+			if(targetClass!=null)
+				return hierarchy.contains(targetClass);
+			return comprehender.getTargetClass().isAssignableFrom(type);
+		}
+		Comprehender get(){
+			Comprehender result = comprehender;
+			if(result==null){
+				synchronized(this){
+					result = comprehender;
+					if(result==null)
+						comprehender = result = ComprehenderIndex.instantiate(name, loader);
+				}
+			}
+			return result;
+		}
+	}
+
 }
@@ -1,20 +1,23 @@
 package com.aol.cyclops.internal.comprehensions.comprehenders;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
 import java.util.Arrays;
-import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
-import com.aol.cyclops.control.ReactiveSeq;
-import com.aol.cyclops.data.collections.extensions.standard.ListX;
 import com.aol.cyclops.internal.invokedynamic.InvokeDynamic;
 import com.aol.cyclops.types.extensability.Comprehender;
 import com.aol.cyclops.types.extensability.ValueComprehender;
+import com.aol.cyclops.util.ExceptionSoftener;
 
 import lombok.AllArgsConstructor;
 
@@ -28,91 +31,110 @@ public class InvokeDynamicComprehender implements ValueComprehender {
     
     
    
-    private static volatile Map<Class,Method> mapMethod = new ConcurrentHashMap<>();
-    private static volatile Map<Class,Method> flatMapMethod = new ConcurrentHashMap<>();
-    private static volatile Map<Class,ListX<Method>> filterMethod = new ConcurrentHashMap<>();
-
+    private static final MethodType INVOKE = MethodType.methodType(Object.class,Object.class,Object.class);
+    private static final MethodType PROXY = MethodType.methodType(Object.class,InvocationHandler.class);
+    private static final ClassValue<Dispatch> dispatch = new ClassValue<Dispatch>(){
+        @Override
+        protected Dispatch computeValue(Class<?> type) {
+            return new Dispatch(type);
+        }
+    };
    
     
    
     @Override
     public Object filter(Object t, Predicate p) {
-        Class clazz = t.getClass();
-        ListX<Method> m = filterMethod.computeIfAbsent(clazz, c->ReactiveSeq.of(c.getMethods())
-                                                   .filter(method -> "filter".equals(method.getName()))
-                                                   .filter(method -> method.getParameterCount()==1).toListX()
-                                                   .map(m2->{ m2.setAccessible(true); return m2;})
-                                                   );
-        if(m.size()==0)
+        Dispatcher filter = dispatch.get(t.getClass()).filter;
+        if(filter==null)
             return ValueComprehender.super.filter(t, p);
-        for(Method next : m) {
-            
-            Class z = next.getParameterTypes()[0];
-            if(z.isInterface()){
-               
-                Object target = p;
-                if(!z.isAssignableFrom(Predicate.class)){
-                    target = Proxy.newProxyInstance(InvokeDynamicComprehender.class.getClassLoader(),
-                                    new Class[]{z},new FunctionExecutionInvocationHandler(input ->p.test(input)));
-                }
-                
-                
-                return new InvokeDynamic().executeMethod(next,t,target);
-            }
-        }
-        return ValueComprehender.super.filter(t, p);
+        return filter.invoke(t,p,input ->p.test(input));
 
     }
 
     @Override
     public Object map(Object t, Function fn) {
-        
-        Class clazz = t.getClass();
-    
-        
-        Method m = mapMethod.computeIfAbsent(clazz, c->Stream.of(c.getMethods())
-                .filter(method -> "map".equals(method.getName()) || "transform".equals(method.getName()))
-                .filter(method -> method.getParameterCount()==1).findFirst()
-                .map(m2->{ m2.setAccessible(true); return m2;})
-                .get());
-        
-        return execute(t, fn, m);
-        
+        Dispatcher map = dispatch.get(t.getClass()).map;
+        if(map==null)
+            throw new NoSuchElementException("No map or transform method found on " + t.getClass());
+        return map.invoke(t,fn,fn);
         
     }
 
-    private Object execute(Object t, Function fn, Method m) {
-        Class z = m.getParameterTypes()[0];
-        Object target = fn;
-        if(!z.isAssignableFrom(Function.class)){
-            target = Proxy.newProxyInstance(InvokeDynamicComprehender.class.getClassLoader(),
-                            new Class[]{z},new FunctionExecutionInvocationHandler(input ->fn.apply(input)));
-        }
-        
-        
-        return new InvokeDynamic().execute(m.getName(),t,target).get();
-    }
-    
-
-
     @Override
     public Object flatMap(Object t, Function fn) {
-        Class clazz = t.getClass();
-        Method m = flatMapMethod.computeIfAbsent(clazz, c->Stream.of(c.getMethods())
-                .filter(method -> "flatMap".equals(method.getName()) 
+        Dispatcher flatMap = dispatch.get(t.getClass()).flatMap;
+        if(flatMap==null)
+            throw new NoSuchElementException("No flatMap, bind or transformAndConcat method found on " + t.getClass());
+        return flatMap.invoke(t,fn,fn);
+    }
+     
+    /*
+     * map / flatMap / filter methods of a class, resolved once per class
+     */
+    private static final class Dispatch{
+        final Dispatcher map;
+        final Dispatcher flatMap;
+        final Dispatcher filter;
+        
+        Dispatch(Class<?> type){
+            Method[] methods = type.getMethods();
+            map = Stream.of(methods)
+                        .filter(method -> "map".equals(method.getName()) || "transform".equals(method.getName()))
+                        .filter(method -> method.getParameterCount()==1).findFirst()
+                        .map(m->new Dispatcher(m,Function.class))
+                        .orElse(null);
+            flatMap = Stream.of(methods)
+                        .filter(method -> "flatMap".equals(method.getName()) 
                                 || "bind".equals(method.getName())
                                 || "transformAndConcat".equals(method.getName()))
-                .filter(method -> method.getParameterCount()==1).findFirst()
-                .get());
+                        .filter(method -> method.getParameterCount()==1).findFirst()
+                        .map(m->new Dispatcher(m,Function.class))
+                        .orElse(null);
+            filter = Stream.of(methods)
+                        .filter(method -> "filter".equals(method.getName()))
+                        .filter(method -> method.getParameterCount()==1)
+                        .filter(method -> method.getParameterTypes()[0].isInterface()).findFirst()
+                        .map(m->new Dispatcher(m,Predicate.class))
+                        .orElse(null);
+        }
+    }
+    /*
+     * A single argument method, as a MethodHandle of type (Object,Object)Object. If the method doesn't accept the cyclops
+     * functional type, the function is passed via a Proxy of the parameter type (with the Proxy constructor resolved once). 
+     */
+    private static final class Dispatcher{
+        private final MethodHandle method;
+        private final MethodHandle proxy;
         
+        Dispatcher(Method m,Class<?> functionalType){
+            try {
+                m.setAccessible(true);
+                method = MethodHandles.lookup().unreflect(m).asType(INVOKE);
+                Class<?> z = m.getParameterTypes()[0];
+                if(z.isAssignableFrom(functionalType) || !z.isInterface()){
+                    proxy = null;
+                }else{
+                    Constructor<?> c = Proxy.getProxyClass(InvokeDynamicComprehender.class.getClassLoader(), z)
+                                            .getConstructor(InvocationHandler.class);
+                    c.setAccessible(true);
+                    proxy = MethodHandles.lookup().unreflectConstructor(c).asType(PROXY);
+                }
+            } catch (ReflectiveOperationException e) {
+                throw ExceptionSoftener.throwSoftenedException(e);
+            }
+        }
         
-       
-        return execute(t, fn, m);
+        Object invoke(Object t,Object fn,Function adapted){
+            try {
+                if(proxy==null)
+                    return method.invokeExact(t,fn);
+                Object target = proxy.invokeExact((InvocationHandler)new FunctionExecutionInvocationHandler(adapted));
+                return method.invokeExact(t,target);
+            } catch (Throwable e) {
+                throw ExceptionSoftener.throwSoftenedException(e);
+            }
+        }
     }
-     
-      
-     
-    
 
     private boolean isAssignableFrom(Class t,Object apply){
         if(apply.getClass().isAssignableFrom(t))
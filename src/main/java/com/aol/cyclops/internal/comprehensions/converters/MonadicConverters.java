@@ -5,7 +5,6 @@ import java.util.Spliterator;
 import java.util.Spliterators;
 import java.util.stream.StreamSupport;
 
-import lombok.Getter;
 import lombok.val;
 
 import org.pcollections.PStack;
@@ -19,22 +18,27 @@ public class MonadicConverters {
 
 	private final  StreamUpscaler upscaler =  stream -> ReactiveSeq.fromStream(stream);
 	
-	@Getter
-	private final static PStack<MonadicConverter> converters;
-	
-	
-	static {
-		val loader  = ServiceLoader.load(MonadicConverter.class);
-		converters = Reducers.<MonadicConverter>toPStackReversed().mapReduce(StreamSupport.stream(Spliterators.spliteratorUnknownSize(loader.iterator(), Spliterator.ORDERED),
-				false).sorted((a,b) ->  b.priority()-a.priority()));
-		
+	/**
+	 * @return Registered MonadicConverters, loaded on first use
+	 */
+	public static PStack<MonadicConverter> getConverters(){
+		return Registered.converters;
 	}
 	
 	
 	public Object convertToMonadicForm(Object o){
-		return upscaler.upscaleIfStream(converters.stream()
+		return upscaler.upscaleIfStream(getConverters().stream()
 												  .filter(t-> t.accept(o))
 												  .map(m -> m.convertToMonadicForm(o)).findFirst().orElse(o));
 	}
 	
+	private static final class Registered{
+		static final PStack<MonadicConverter> converters;
+		static {
+			val loader  = ServiceLoader.load(MonadicConverter.class);
+			converters = Reducers.<MonadicConverter>toPStackReversed().mapReduce(StreamSupport.stream(Spliterators.spliteratorUnknownSize(loader.iterator(), Spliterator.ORDERED),
+					false).sorted((a,b) ->  b.priority()-a.priority()));
+		}
+	}
+	
 }
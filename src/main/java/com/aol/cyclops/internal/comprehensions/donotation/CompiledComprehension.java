@@ -0,0 +1,124 @@
+package com.aol.cyclops.internal.comprehensions.donotation;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.pcollections.PStack;
+
+import com.aol.cyclops.internal.comprehensions.comprehenders.Comprehenders;
+import com.aol.cyclops.internal.comprehensions.comprehenders.InvokeDynamicComprehender;
+import com.aol.cyclops.internal.comprehensions.comprehenders.MaterializedList;
+import com.aol.cyclops.internal.comprehensions.converters.MonadicConverters;
+import com.aol.cyclops.internal.comprehensions.donotation.DoBuilderModule.Assignment;
+import com.aol.cyclops.internal.comprehensions.donotation.DoBuilderModule.Entry;
+import com.aol.cyclops.internal.comprehensions.donotation.DoBuilderModule.Guard;
+import com.aol.cyclops.types.Unwrapable;
+import com.aol.cyclops.types.extensability.Comprehender;
+
+/**
+ * A Do comprehension compiled into nested flatMap / filter / map calls.
+ *
+ * Values bound by each generator are held positionally in an array (one slot per generator, in declaration order), and
+ * the curried generator, guard and yield functions are applied directly to them.
+ */
+final class CompiledComprehension {
+
+	private static final Comprehenders comprehenders = new Comprehenders();
+	private static final MonadicConverters converters = new MonadicConverters();
+	private static final Object[] EMPTY = new Object[0];
+
+	private final Object first;
+	private final Entry[] stages;
+	private final Function yield;
+
+	private CompiledComprehension(Object first,Entry[] stages,Function yield){
+		this.first = first;
+		this.stages = stages;
+		this.yield = yield;
+	}
+
+	static CompiledComprehension compile(PStack<Entry> assigned,Function yield){
+		Entry[] entries = assigned.toArray(new Entry[assigned.size()]);
+		return new CompiledComprehension(entries[0].getValue(),Arrays.copyOfRange(entries, 1, entries.length),yield);
+	}
+
+	<T> T run(){
+		return (T)process(EMPTY,generate(first,EMPTY),0);
+	}
+
+	/*
+	 * bound holds the values of the generators before the current one, the current generator's values are bound
+	 * (at position bound.length) inside each filter / flatMap / map
+	 */
+	private Object process(Object[] bound,Object current,int index){
+		Comprehender found = registered(current);
+		Object converted = found==null ? converters.convertToMonadicForm(current) : current;
+		if(found==null)
+			found = registered(converted);
+		Comprehender comp = found!=null ? found : new InvokeDynamicComprehender(Optional.ofNullable(current).map(Object::getClass));
+		Object structure = found!=null ? converted : current;
+
+		if(index==stages.length)
+			return comp.map(structure, it -> apply(yield,bind(bound,it)));
+
+		Object head = stages[index].getValue();
+		if(head instanceof Guard){
+			Function guard = ((Guard)head).getF();
+			Object filtered = comp.filter(structure, it -> (boolean)apply(guard,bind(bound,it)));
+			return process(bound,filtered,index+1);
+		}
+		Object result = comp.executeflatMap(structure, it -> {
+			Object[] next = bind(bound,it);
+			return process(next,generate(head,next),index+1);
+		});
+		return comp.executeflatMap(result, a->takeFirst(comp,a));
+	}
+
+	private static Object generate(Object generator,Object[] bound){
+		if(generator instanceof Assignment)
+			return apply(((Assignment)generator).getF(),bound);
+		if(generator instanceof Unwrapable)
+			return ((Unwrapable)generator).unwrap();
+		return generator;
+	}
+
+	private static Object[] bind(Object[] bound,Object value){
+		Object[] next = Arrays.copyOf(bound, bound.length+1);
+		next[bound.length] = value;
+		return next;
+	}
+
+	/*
+	 * Apply a curried function to each bound value in turn
+	 */
+	private static Object apply(Function f,Object[] bound){
+		Function next = f;
+		Object result = null;
+		for(Object value : bound){
+			result = next.apply(value);
+			if(result instanceof Function)
+				next = (Function)result;
+		}
+		if(result instanceof Unwrapable)
+			return ((Unwrapable)result).unwrap();
+		return result;
+	}
+
+	private static Comprehender registered(Object structure){
+		if(structure==null)
+			return null;
+		return comprehenders.getRegisteredComprehender(structure.getClass()).orElse(null);
+	}
+
+	private static Object takeFirst(Comprehender comp,Object o) {
+		if (o instanceof MaterializedList) {
+			if (((List) o).size() == 0)
+				return comp.empty();
+
+			return comp.of(((List) o).get(0));
+		}
+		return comp.of(o);
+	}
+}
@@ -2,18 +2,27 @@ package com.aol.cyclops.internal.invokedynamic;
 
 
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.AbstractList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.RandomAccess;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.jooq.lambda.Seq;
 
+import com.aol.cyclops.util.ExceptionSoftener;
+
+import lombok.AllArgsConstructor;
+
 
 
 public class ReflectionCache {
@@ -21,6 +30,37 @@ public class ReflectionCache {
 
 	private final static Map<Class,Optional<Method>> unapplyMethods =new ConcurrentHashMap<>();
 	
+	private final static MethodType GETTER = MethodType.methodType(Object.class,Object.class);
+	
+	private final static ClassValue<MethodHandle[]> fieldGetters = new ClassValue<MethodHandle[]>(){
+		@Override
+		protected MethodHandle[] computeValue(Class<?> type) {
+			List<Field> data = getFieldData(type);
+			MethodHandle[] getters = new MethodHandle[data.size()];
+			for(int i=0;i<getters.length;i++){
+				try {
+					getters[i] = MethodHandles.lookup().unreflectGetter(data.get(i)).asType(GETTER);
+				} catch (IllegalAccessException e) {
+					throw ExceptionSoftener.throwSoftenedException(e);
+				}
+			}
+			return getters;
+		}
+	};
+	private final static ClassValue<Optional<MethodHandle>> unapplyHandles = new ClassValue<Optional<MethodHandle>>(){
+		@Override
+		protected Optional<MethodHandle> computeValue(Class<?> type) {
+			return getUnapplyMethod(type).map(m->{
+				try {
+					m.setAccessible(true);
+					return MethodHandles.lookup().unreflect(m).asType(GETTER);
+				} catch (IllegalAccessException e) {
+					throw ExceptionSoftener.throwSoftenedException(e);
+				}
+			});
+		}
+	};
+	
 	public static List<Field> getFields(
 			Class class1) {
 		return getFieldData(class1).stream().collect(Collectors.<Field>toList());
@@ -45,6 +85,32 @@ public class ReflectionCache {
 		
 	}
 	
+	/**
+	 * Read the values of all instance fields of the supplied Object (super class fields first), via MethodHandles
+	 * created once per class
+	 * 
+	 * @param o Object to read fields from
+	 * @return Fixed size, immutable List of field values
+	 */
+	public static List<Object> getFieldValues(Object o){
+		MethodHandle[] getters = fieldGetters.get(o.getClass());
+		Object[] values = new Object[getters.length];
+		try {
+			for(int i=0;i<getters.length;i++)
+				values[i] = (Object)getters[i].invokeExact(o);
+		} catch (Throwable t) {
+			throw ExceptionSoftener.throwSoftenedException(t);
+		}
+		return new FieldValues(values);
+	}
+	/**
+	 * @param c Class to find a public no-args unapply method on
+	 * @return MethodHandle (of type (Object)Object) for the unapply method, if present
+	 */
+	public static Optional<MethodHandle> getUnapplyHandle(Class c){
+		return unapplyHandles.get(c);
+	}
+	
 	public static Optional<Method> getUnapplyMethod(Class c) {
 	
 			return unapplyMethods.computeIfAbsent(c, cl -> {
@@ -58,4 +124,18 @@ public class ReflectionCache {
 	}
 	
 	
+	@AllArgsConstructor
+	private static final class FieldValues extends AbstractList<Object> implements RandomAccess{
+		private final Object[] values;
+		
+		@Override
+		public Object get(int index) {
+			return values[index];
+		}
+		@Override
+		public int size() {
+			return values.length;
+		}
+	}
+	
 }
@@ -1,7 +1,5 @@
 package com.aol.cyclops.internal.matcher2;
 
-import java.util.Objects;
-import java.util.Optional;
 import java.util.function.Predicate;
 
 import org.jooq.lambda.tuple.Tuple;
@@ -33,9 +31,8 @@ public class ADTPredicateBuilder<T> {
         final public <V> Predicate<V> hasWhere(Predicate<V>... values) {
             ReactiveSeq<Predicate> predicates = ReactiveSeq.of(values).map(nextValue -> convertToPredicate(nextValue));
 
-            return t -> builder.toPredicate().test(t)
-                    && SeqUtils.seq(Extractors.decomposeCoerced().apply(t)).zip(predicates, (a, b) -> Tuple.tuple(a, b))
-                            .map(tuple -> tuple.v2.test(tuple.v1)).allMatch(v -> v == true);
+            return builder.toPredicate().and(t -> SeqUtils.seq(Extractors.decomposeCoerced().apply(t)).zip(predicates, (a, b) -> Tuple.tuple(a, b))
+                            .map(tuple -> tuple.v2.test(tuple.v1)).allMatch(v -> v == true));
         }
 
         @SafeVarargs
@@ -45,17 +42,15 @@ public class ADTPredicateBuilder<T> {
                     .concat(p);
             ;
 
-            return t -> builder.toPredicate().test(t)
-
-            && SeqUtils.seq(Extractors.decomposeCoerced().apply(t)).zip(predicates, (a, b) -> Tuple.tuple(a, b))
-                    .map(tuple -> tuple.v2.test(tuple.v1)).allMatch(v -> v == true);
+            return builder.toPredicate().and(t -> SeqUtils.seq(Extractors.decomposeCoerced().apply(t)).zip(predicates, (a, b) -> Tuple.tuple(a, b))
+                    .map(tuple -> tuple.v2.test(tuple.v1)).allMatch(v -> v == true));
         }
 
     }
 
-    Predicate toPredicate() {
+    TypedPredicate toPredicate() {
 
-        return t -> Optional.ofNullable(t).map(v -> type.isAssignableFrom(v.getClass())).orElse(false);
+        return TypedPredicate.instanceOf(type);
     }
 
     final public <V> Predicate<V> anyValues() {
@@ -89,9 +84,8 @@ public class ADTPredicateBuilder<T> {
     final public <V> Predicate<V> hasGuard(V... values) {
         ReactiveSeq<Predicate> predicates = ReactiveSeq.of(values).map(nextValue -> convertToPredicate(nextValue));
 
-        return t -> toPredicate().test(t)
-                && SeqUtils.seq(Extractors.decomposeCoerced().apply(t)).zip(predicates, (a, b) -> Tuple.tuple(a, b))
-                        .map(tuple -> tuple.v2.test(tuple.v1)).allMatch(v -> v == true);
+        return toPredicate().and(t -> SeqUtils.seq(Extractors.decomposeCoerced().apply(t)).zip(predicates, (a, b) -> Tuple.tuple(a, b))
+                        .map(tuple -> tuple.v2.test(tuple.v1)).allMatch(v -> v == true));
     }
 
     @SafeVarargs
@@ -100,13 +94,8 @@ public class ADTPredicateBuilder<T> {
         ReactiveSeq<Predicate> predicates = ReactiveSeq.of(values).map(nextValue -> convertToPredicate(nextValue))
                 .concat(p);
 
-        return t -> {
-
-            return toPredicate().test(t)
-
-            && SeqUtils.seq(Extractors.decomposeCoerced().apply(t)).zip(predicates, (a, b) -> Tuple.tuple(a, b))
-                    .map(tuple -> tuple.v2.test(tuple.v1)).allMatch(v -> v == true);
-        };
+        return toPredicate().and(t -> SeqUtils.seq(Extractors.decomposeCoerced().apply(t)).zip(predicates, (a, b) -> Tuple.tuple(a, b))
+                    .map(tuple -> tuple.v2.test(tuple.v1)).allMatch(v -> v == true));
 
     }
 
@@ -118,10 +107,7 @@ public class ADTPredicateBuilder<T> {
         if (o instanceof Predicate)
             return (Predicate) o;
 
-        return test -> {
-
-            return Objects.equals(test, o);
-        };
+        return new EqualsPredicate<>(o);
     }
 
 }
\ No newline at end of file
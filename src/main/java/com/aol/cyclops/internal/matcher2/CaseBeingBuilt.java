@@ -1,6 +1,5 @@
 package com.aol.cyclops.internal.matcher2;
 
-import java.util.Objects;
 import java.util.function.Predicate;
 
 public abstract class CaseBeingBuilt {
@@ -14,6 +13,6 @@ public abstract class CaseBeingBuilt {
 		if(o instanceof ADTPredicateBuilder)
 			return ((ADTPredicateBuilder)o).toPredicate();
 			
-		return test -> Objects.equals(test,o);
+		return new EqualsPredicate<>(o);
 	}
 }
@@ -2,9 +2,10 @@ package com.aol.cyclops.internal.matcher2;
 
 import java.util.Arrays;
 import java.util.List;
-import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -38,6 +39,9 @@ public class Cases<T,R> implements Function<T,Maybe<R>>{
 	private final PStack<Case<T,R>> cases;
 	@Wither(AccessLevel.PRIVATE)
 	private final boolean sequential;
+	
+	private final AtomicBoolean matched = new AtomicBoolean(false);
+	private final AtomicReference<CompiledCases<T,R>> compiled = new AtomicReference<>(null);
 
 	 Cases() {
 		cases = ConsPStack.empty();
@@ -249,16 +253,31 @@ public class Cases<T,R> implements Function<T,Maybe<R>>{
 	}
 
 	/**
+	 * The first match against a Cases instance tests each case in turn, Cases that are matched against again are compiled
+	 * into a class indexed dispatch table (see TypedPredicate) with a hash lookup for equality cases (see EqualsPredicate).
+	 * 
 	 * @param t
 	 *            Object to match against supplied cases
 	 * @return Value returned from matched case (if present) otherwise
 	 *         Optional.empty()
 	 */
 	public <R> Maybe<R> match(T t) {
+		CompiledCases compiled = this.compiled.get();
+		if(compiled==null){
+			if(!matched.get() && matched.compareAndSet(false, true))
+				return (Maybe)matchEach(t);
+			compiled = CompiledCases.compile(cases);
+			this.compiled.lazySet(compiled);
+		}
+		return compiled.match(t);
 
-		return Maybe.fromOptional((Optional)stream().map(pattern -> pattern.match(t))
-				.filter(Optional::isPresent).map(Optional::get).findFirst());
-
+	}
+	private Maybe<R> matchEach(T t){
+		for(Case<T,R> next : cases){
+			if(!next.isEmpty() && next.getPredicate().test(t))
+				return Maybe.of(next.getAction().apply(t));
+		}
+		return Maybe.none();
 	}
 	public Stream<Case<T,R>> stream(){
 		return this.cases.stream();
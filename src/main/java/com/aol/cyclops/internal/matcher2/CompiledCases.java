@@ -0,0 +1,108 @@
+package com.aol.cyclops.internal.matcher2;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.pcollections.PStack;
+
+import com.aol.cyclops.control.Maybe;
+
+/**
+ * Cases compiled into flat arrays for repeated matching.
+ *
+ * Cases whose predicate is a TypedPredicate are only tested against values of a runtime class that passes the type test, the
+ * ordered list of candidate cases for each runtime class is computed once and cached in a ClassValue. Cases whose predicate
+ * is an EqualsPredicate are looked up by value in a HashMap. All other cases are candidates for every value.
+ * Candidates from the class index and the value lookup are merged in case order, so the first matching case still wins.
+ *
+ * @param <T> Input type
+ * @param <R> Return type
+ */
+final class CompiledCases<T,R> {
+
+	private static final int[] NONE = new int[0];
+
+	private final Predicate[] tests;
+	private final Function[] actions;
+	private final int[] untyped;
+	private final Map<Object,int[]> byValue;
+	private final ClassValue<int[]> byClass;
+
+	private CompiledCases(Predicate[] tests,Function[] actions,int[] untyped,TypedPredicate[] typed,Map<Object,int[]> byValue){
+		this.tests = tests;
+		this.actions = actions;
+		this.untyped = untyped;
+		this.byValue = byValue;
+		this.byClass = new ClassValue<int[]>(){
+			@Override
+			protected int[] computeValue(Class<?> type) {
+				int[] candidates = new int[tests.length];
+				int size =0;
+				for(int i=0;i<tests.length;i++){
+					if(typed[i]==null ? Arrays.binarySearch(untyped, i)>=0 : typed[i].testType(type))
+						candidates[size++]=i;
+				}
+				return Arrays.copyOf(candidates, size);
+			}
+		};
+	}
+
+	static <T,R> CompiledCases<T,R> compile(PStack<Case<T,R>> cases){
+		int size = cases.size();
+		Predicate[] tests = new Predicate[size];
+		Function[] actions = new Function[size];
+		TypedPredicate[] typed = new TypedPredicate[size];
+		int[] untyped = new int[size];
+		int untypedSize =0;
+		Map<Object,int[]> byValue = new HashMap<>();
+		int index =0;
+		for(Case<T,R> next : cases){
+			int i = index++;
+			if(next.isEmpty())
+				continue;
+			Predicate predicate = next.getPredicate();
+			actions[i] = next.getAction();
+			if(predicate instanceof TypedPredicate){
+				typed[i] = (TypedPredicate)predicate;
+				tests[i] = typed[i].getValueTest();
+			}else if(predicate instanceof EqualsPredicate){
+				tests[i] = predicate;
+				byValue.merge(((EqualsPredicate)predicate).getValue(),new int[]{i},CompiledCases::concat);
+			}else{
+				tests[i] = predicate;
+				untyped[untypedSize++]=i;
+			}
+		}
+		return new CompiledCases<>(tests,actions,Arrays.copyOf(untyped, untypedSize),typed,byValue.isEmpty() ? null : byValue);
+	}
+
+	/**
+	 * @param t Value to match
+	 * @return Result of the action of the first matching case, or Maybe.none if no case matches
+	 */
+	Maybe<R> match(T t){
+		int[] candidates = t==null ? untyped : byClass.get(t.getClass());
+		int[] equal = byValue==null ? NONE : byValue.getOrDefault(t, NONE);
+		int i=0;
+		int j=0;
+		while(i<candidates.length || j<equal.length){
+			int next;
+			if(j==equal.length || (i<candidates.length && candidates[i]<equal[j]))
+				next = candidates[i++];
+			else
+				next = equal[j++];
+			if(tests[next].test(t))
+				return Maybe.of((R)actions[next].apply(t));
+		}
+		return Maybe.none();
+	}
+
+	private static int[] concat(int[] a,int[] b){
+		int[] result = Arrays.copyOf(a, a.length+b.length);
+		System.arraycopy(b, 0, result, a.length, b.length);
+		return result;
+	}
+}
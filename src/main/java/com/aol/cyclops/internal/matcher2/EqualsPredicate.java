@@ -0,0 +1,25 @@
+package com.aol.cyclops.internal.matcher2;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * A Predicate that tests for equality (Object#equals) with a constant value.
+ * 
+ * Cases that use an EqualsPredicate are placed in a hash lookup when Cases are compiled.
+ * 
+ * @param <T> Input type
+ */
+@AllArgsConstructor
+public final class EqualsPredicate<T> implements Predicate<T> {
+	@Getter
+	private final Object value;
+	
+	@Override
+	public boolean test(T t){
+		return Objects.equals(t, value);
+	}
+}
@@ -122,11 +122,13 @@ public class PatternMatcher implements Function{
 			Predicate<V>... predicates) {
 
 		ReactiveSeq<Predicate<V>> pred = ReactiveSeq.of(predicates);
-
-		return inCaseOf(it -> master.test(it)
-				&& seq(Extractors.decompose().apply(it))
+		Predicate values = it -> seq(Extractors.decompose().apply(it))
 											.zip(pred, (a1, b1) -> Tuple.tuple(a1, b1))
-						.map(t -> t.v2.test((V) t.v1)).allMatch(v -> v == true),
+						.map(t -> t.v2.test((V) t.v1)).allMatch(v -> v == true);
+		if(master instanceof TypedPredicate)
+			return inCaseOf(((TypedPredicate)master).and(values),a);
+		
+		return inCaseOf(it -> master.test(it) && values.test(it),
 				a);
 
 	}
@@ -0,0 +1,71 @@
+package com.aol.cyclops.internal.matcher2;
+
+import java.util.function.Predicate;
+
+/**
+ * A Predicate that first tests the runtime type of it's input, then (optionally) the input value itself.
+ * Null inputs never match.
+ * 
+ * Cases that use a TypedPredicate are indexed by runtime class when Cases are compiled, so the type test runs once per class
+ * rather than once per match.
+ * 
+ * @param <T> Input type
+ */
+public final class TypedPredicate<T> implements Predicate<T> {
+
+	private static final Predicate<Object> ANY = t->true;
+	
+	private final Predicate<Class<?>> typeTest;
+	private final Predicate<? super T> valueTest;
+	
+	private TypedPredicate(Predicate<Class<?>> typeTest,Predicate<? super T> valueTest){
+		this.typeTest = typeTest;
+		this.valueTest = valueTest;
+	}
+	/**
+	 * @param type Type to check against
+	 * @return Predicate that matches instances of type (or it's subtypes)
+	 */
+	public static <T> TypedPredicate<T> instanceOf(Class<?> type){
+		return new TypedPredicate<>(c->type.isAssignableFrom(c),ANY);
+	}
+	/**
+	 * @param type Type to check against
+	 * @return Predicate that matches values whose runtime class is type or one of it's super types
+	 */
+	public static <T> TypedPredicate<T> superTypeOf(Class<?> type){
+		return new TypedPredicate<>(c->c.isAssignableFrom(type),ANY);
+	}
+	
+	/**
+	 * @param c Runtime class of a value
+	 * @return true if values of this class pass the type test
+	 */
+	public boolean testType(Class<?> c){
+		return typeTest.test(c);
+	}
+	/**
+	 * @return Test to apply to values that have passed the type test
+	 */
+	Predicate<? super T> getValueTest(){
+		return valueTest;
+	}
+	
+	@Override
+	public boolean test(T t){
+		return t!=null && typeTest.test(t.getClass()) && valueTest.test(t);
+	}
+	
+	/* 
+	 * The type test is retained, so the combined Predicate can still be indexed by runtime class
+	 * 
+	 * @see java.util.function.Predicate#and(java.util.function.Predicate)
+	 */
+	@Override
+	public TypedPredicate<T> and(Predicate<? super T> other){
+		if(valueTest==ANY)
+			return new TypedPredicate<>(typeTest,other);
+		Predicate<? super T> current = valueTest;
+		return new TypedPredicate<>(typeTest,t->current.test(t) && other.test(t));
+	}
+}
@@ -17,20 +17,14 @@ public class ComprehenderSelector {
 	@SuppressWarnings({ "unchecked", "rawtypes" })
 	public Comprehender selectComprehender(Class structure) {
 		
-		return cache.computeIfAbsent(structure, st->comprehenders.getRegisteredComprehenders().stream()
-																 .filter(e -> e.getKey().isAssignableFrom(structure))
-																 .map(e->e.getValue())
-																 .findFirst()
-																 .orElse(new InvokeDynamicComprehender(Optional.of(structure))));
+		return cache.computeIfAbsent(structure, st->comprehenders.getRegisteredComprehender(structure)
+																 .orElseGet(()->new InvokeDynamicComprehender(Optional.of(structure))));
 	}
 	@SuppressWarnings({ "unchecked", "rawtypes" })
 	public Comprehender selectComprehender(Object structure) {
 
-		return cache.computeIfAbsent(structure.getClass(), st-> comprehenders.getRegisteredComprehenders().stream()
-		                                                           .filter(e -> e.getKey().isAssignableFrom(structure.getClass()))
-																	.map(e->e.getValue())
-																	.findFirst()
-																	.orElse(new InvokeDynamicComprehender(Optional.ofNullable(structure)
+		return cache.computeIfAbsent(structure.getClass(), st-> comprehenders.getRegisteredComprehender(structure.getClass())
+																	.orElseGet(()->new InvokeDynamicComprehender(Optional.ofNullable(structure)
 																	.map(Object::getClass))));
 		
 	}
@@ -0,0 +1,93 @@
+package com.aol.cyclops.internal.react.async.future;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import com.aol.cyclops.util.ExceptionSoftener;
+
+import lombok.AllArgsConstructor;
+
+/**
+ * The result of a thenCompose / thenComposeAsync stage : a CompletableFuture that has not yet completed, plus
+ * any synchronous steps (fused thenApply / exceptionally / whenComplete functions) that follow it.
+ *
+ * FastFuture resumes the remaining pipeline stages from the future's completion callback, rather than
+ * parking a worker thread on join(). Steps see the same values and exceptions they would have seen had
+ * the future been joined.
+ */
+@AllArgsConstructor
+final class ComposedStage {
+	final CompletableFuture<?> future;
+	/**
+	 * Applied to the value or error the future completes with, may itself return a ComposedStage
+	 */
+	final BiFunction<Object,Throwable,Object> step;
+
+	static ComposedStage of(CompletableFuture<?> future){
+		return new ComposedStage(future,ComposedStage::joined);
+	}
+	/*
+	 * Mirrors CompletableFuture#join, failures surface as CompletionExceptions
+	 */
+	private static Object joined(Object value,Throwable error){
+		if(error==null)
+			return value;
+		if(error instanceof CompletionException)
+			throw (CompletionException)error;
+		throw new CompletionException(error);
+	}
+
+	/**
+	 * Apply fn to value, or to the eventual value of value if it is a ComposedStage
+	 */
+	static Object map(Object value,Function fn){
+		if(value instanceof ComposedStage){
+			ComposedStage stage = (ComposedStage)value;
+			return new ComposedStage(stage.future,(v,e)->map(stage.step.apply(v, e),fn));
+		}
+		return fn.apply(value);
+	}
+	/**
+	 * If value is a ComposedStage, recover from any error it eventually completes with via fn
+	 */
+	static Object recover(Object value,Function fn){
+		if(value instanceof ComposedStage){
+			ComposedStage stage = (ComposedStage)value;
+			return new ComposedStage(stage.future,(v,e)->{
+				try{
+					return recover(stage.step.apply(v, e),fn);
+				}catch(Throwable t){
+					return fn.apply(t);
+				}
+			});
+		}
+		return value;
+	}
+	/**
+	 * If value is a ComposedStage, pass the eventual result / error to fn
+	 */
+	static Object whenComplete(Object value,BiConsumer fn){
+		if(value instanceof ComposedStage){
+			ComposedStage stage = (ComposedStage)value;
+			return new ComposedStage(stage.future,(v,e)->{
+				Object res = null;
+				Throwable ex = null;
+				try{
+					res = stage.step.apply(v, e);
+				}catch(Throwable t){
+					ex = t;
+				}
+				if(res instanceof ComposedStage)
+					return whenComplete(res,fn);
+				fn.accept(res,ex);
+				if(ex!=null)
+					throw ExceptionSoftener.throwSoftenedException(ex);
+				return res;
+			});
+		}
+		return value;
+	}
+}
@@ -8,6 +8,8 @@ import java.util.function.Function;
 import org.pcollections.ConsPStack;
 import org.pcollections.PStack;
 
+import com.aol.cyclops.util.ExceptionSoftener;
+
 import lombok.AllArgsConstructor;
 import lombok.ToString;
 import lombok.experimental.Wither;
@@ -43,14 +45,18 @@ public class ExecutionPipeline {
 		return new ExecutionPipeline(addFn(fn),addExec(exec),firstRecover,onFail);
 		
 	}
+	/*
+	 * Compose stages produce a ComposedStage rather than joining on the returned future,
+	 * FastFuture resumes the remaining stages when the future completes
+	 */
 	public<T,R> ExecutionPipeline thenComposeAsync(Function<Object,CompletableFuture<?>> fn,Executor exec){
 		
-		return new ExecutionPipeline(addFn(t-> fn.apply(t).join()),addExec(exec),firstRecover,onFail);
+		return new ExecutionPipeline(addFn(t-> ComposedStage.of(fn.apply(t))),addExec(exec),firstRecover,onFail);
 	}
 	
 	public<T,R> ExecutionPipeline thenCompose(Function<? super T,CompletableFuture<? extends R>> fn){
-		Function<T,R> unpacked= t-> fn.apply(t).join();
-		return new ExecutionPipeline(swapFn(unpacked),execList.size()==0?execList.plus(null)  : execList,firstRecover,onFail);
+		Function<T,Object> composed= t-> ComposedStage.of(fn.apply(t));
+		return new ExecutionPipeline(swapComposeFn(composed),execList.size()==0?execList.plus(null)  : execList,firstRecover,onFail);
 
 	}
 	public<T,R> ExecutionPipeline thenApply(Function<T,R> fn){
@@ -61,7 +67,7 @@ public class ExecutionPipeline {
 			Function before = functionList.get(functionList.size()-1);
 			Function except = t-> {
 				try{
-					return before.apply(t);
+					return ComposedStage.recover(before.apply(t),fn);
 				}catch(Throwable e){
 					return fn.apply((X)e);
 				}
@@ -82,13 +88,16 @@ public class ExecutionPipeline {
 			T res = null;
 			X ex= null;
 			try{
-				res= (T)before.apply(t);
+				Object value = before.apply(t);
+				if(value instanceof ComposedStage)
+					return ComposedStage.whenComplete(value,fn);
+				res= (T)value;
 			}catch(Throwable e){
 				ex =(X)e;
 			}
 			fn.accept(res,ex);
 			if(ex!=null)
-				throw (RuntimeException)ex;
+				throw ExceptionSoftener.throwSoftenedException(ex);
 			return res;
 		};
 		
@@ -97,9 +106,13 @@ public class ExecutionPipeline {
 	
 	public FinalPipeline toFinalPipeline(){
 		
+		return toFinalPipeline(0);
+	}
+	public FinalPipeline toFinalPipeline(int spinBeforePark){
+		
 		return new FinalPipeline(functionList.toArray(new Function[0]),
 				execList.toArray(new Executor[0]), this.firstRecover.toArray(new Function[0]),
-				onFail);
+				onFail,spinBeforePark);
 	}
 	public static ExecutionPipeline empty() {
 		ExecutionPipeline pipeline = new ExecutionPipeline();
@@ -139,7 +152,7 @@ public class ExecutionPipeline {
 			}else{
 				Function except = t-> {
 					try{
-						return fn.apply(t);
+						return ComposedStage.recover(fn.apply(t),composeFirstRecovery());
 					}catch(Throwable e){
 						return composeFirstRecovery().apply(e);
 					}
@@ -150,7 +163,7 @@ public class ExecutionPipeline {
 		}
 		Function before = functionList.get(functionList.size()-1);
 		PStack<Function> removed = functionList.minus(functionList.size()-1);
-		return removed.plus(removed.size(),fn.compose(before));
+		return removed.plus(removed.size(),t->ComposedStage.map(before.apply(t),fn));
 	}
 	private Function composeFirstRecovery() {
 		return firstRecover.stream().reduce( (fn1,fn2)->{ 
@@ -12,6 +12,7 @@ import java.util.function.Function;
 import java.util.function.Supplier;
 
 import com.aol.cyclops.internal.react.exceptions.SimpleReactCompletionException;
+import com.aol.cyclops.util.ExceptionSoftener;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -47,6 +48,10 @@ public class FastFuture<T> {
 
 	private final AtomicInteger count= new AtomicInteger(0);
 	private final AtomicInteger max= new AtomicInteger(0);
+	/**
+	 * Treiber stack of threads blocked in join / await, released on completion
+	 */
+	private final AtomicReference<Waiter> waiters = new AtomicReference<>();
 	
 	
 	
@@ -55,19 +60,14 @@ public class FastFuture<T> {
 		this.doFinally=null;
 		this.pipeline = null;
 	}
+	/*
+	 * The result / exception is always set before done / completedExceptionally are written, so is visible once they have been read
+	 */
 	private T result(){
-		Object res =  UNSET;
-		while((res =result.get())==UNSET){
-			Thread.yield();
-		}
-		return (T)res;	
+		return (T)result.get();	
 	}
 	private Throwable exception(){
-		Object result =  UNSET;
-		while((result = exception.get())==UNSET){
-			Thread.yield();
-		}
-		return (Throwable)result;	
+		return (Throwable)exception.get();	
 	}
 	public FastFuture(FinalPipeline pipeline,Consumer<FastFuture<T>> doFinally){
 		this.max.set( 0);
@@ -82,12 +82,36 @@ public class FastFuture<T> {
 	}
 	public void await(){
 		
-		long spin=1;
+		if(done)
+			return;
+		for(int i=0, spins=pipeline!=null ? pipeline.spinBeforePark : 0;i<spins;i++){
+			if(done)
+				return;
+		}
+		Waiter waiter = new Waiter(Thread.currentThread());
+		Waiter head;
+		do{
+			head = waiters.get();
+			waiter.next = head;
+		}while(!waiters.compareAndSet(head, waiter));
+		
+		boolean interrupted = false;
 		while(!done){
-			LockSupport.parkNanos(spin++);
+			LockSupport.park(this);
+			if(Thread.interrupted()) //park returns immediately while the interrupt flag is set
+				interrupted = true;
 		}
+		if(interrupted)
+			Thread.currentThread().interrupt();
 		
 	}
+	private void releaseWaiters(){
+		Waiter next = waiters.getAndSet(null);
+		while(next!=null){
+			LockSupport.unpark(next.thread);
+			next = next.next;
+		}
+	}
 	/**
 	 * Join which can be called exactly once!
 	 * 
@@ -96,10 +120,7 @@ public class FastFuture<T> {
 	public T join(){
 		
 		try{
-			long spin=1;
-			while(!done){
-				LockSupport.parkNanos(spin++);
-			}
+			await();
 			if(completedExceptionally)
 				throw (new SimpleReactCompletionException(exception()));
 			return result();
@@ -162,10 +183,11 @@ public class FastFuture<T> {
 	private FastFuture<T> completeExceptionally(Throwable t) {
 		exception.lazySet(t);
 		completedExceptionally =true;
+		done=true; //before callbacks run, so a callback registered concurrently sees done and runs itself
 		handleOnComplete(true);
 		if(pipeline!=null && pipeline.onFail!=null)
 			pipeline.onFail.accept(t);
-		done=true;
+		releaseWaiters();
 		return this;
 	}
 	
@@ -275,7 +297,10 @@ public class FastFuture<T> {
 		try{
 	
 			Object current = result.get();
-			
+			if(current instanceof ComposedStage){
+				resume((ComposedStage)current,index);
+				return;
+			}
 			final Object use = current;
 			if(index<pipeline.functions.length){
 					Function op = pipeline.functions[index];
@@ -290,20 +315,29 @@ public class FastFuture<T> {
 			
 			
 		}catch(Throwable t){
+			
+			completeExceptionally(t);
+			//only return to the pool once completion callbacks have run, a pooled future may be reused straight away
 			if(t instanceof CompletedException){
 				if(this.doFinally!=null)
 					doFinally.accept(this);
 			}
-			
-			completeExceptionally(t);
 				
 		}
 		
 		
+	}
+	/*
+	 * Continue the pipeline from stage index once the composed future completes, without blocking
+	 * the current thread. Remaining stages are dispatched to their executors as normal.
+	 */
+	private void resume(ComposedStage stage,int index){
+		stage.future.whenComplete((value,error)->set(()->(T)stage.step.apply(value, error),index));
 	}
 	private boolean done(){
 		this.completedExceptionally=false;
 		this.done =true;
+		releaseWaiters();
 		handleOnComplete(true);
 		
 		return true;
@@ -318,6 +352,7 @@ public class FastFuture<T> {
 		this.count.set(0);
 		this.max.set(0);
 		this.completedExceptionally=false;
+		this.waiters.set(null);
 		this.done=false;	
 	}
 	
@@ -338,25 +373,44 @@ public class FastFuture<T> {
 		}
 	}
 	/**
-	 * Called at least once on complete
+	 * Called at least once on complete. Each registered listener is called (listeners are kept until the future is cleared for reuse),
+	 * a listener that throws does not prevent later listeners from running, the first error is rethrown once all have run.
 	 * 
 	 * @param fn
 	 */
 	public void onComplete(Consumer<OnComplete> fn){
-		
-		this.forXOf = fn; //set - could also be called on a separate thread
-		
+		synchronized(this){ //listeners may be added from different threads
+			Consumer<OnComplete> current = this.forXOf;
+			this.forXOf = current==null ? fn : isolated(current,fn); 
+		}
 		if(done){ //can be called again
 			fn.accept(buildOnComplete());
 		}
 	}
 	
+	private static Consumer<OnComplete> isolated(Consumer<OnComplete> first,Consumer<OnComplete> second){
+		return c->{
+			try{
+				first.accept(c);
+			}catch(Throwable t){
+				try{
+					second.accept(c);
+				}catch(Throwable next){
+					t.addSuppressed(next);
+				}
+				throw ExceptionSoftener.throwSoftenedException(t);
+			}
+			second.accept(c);
+		};
+	}
 	private void handleOnComplete(boolean force){
-		if(forXOf!=null)
-			forXOf.accept(buildOnComplete());
-		
-		if(this.essential!=null)
-			this.essential.accept(buildOnComplete());
+		try{
+			if(forXOf!=null)
+				forXOf.accept(buildOnComplete());
+		}finally{
+			if(this.essential!=null)
+				this.essential.accept(buildOnComplete());
+		}
 	
 	}
 	private OnComplete buildOnComplete() {
@@ -364,6 +418,13 @@ public class FastFuture<T> {
 				completedExceptionally ? exception() : null,this.completedExceptionally);
 		return c;
 	}
+	private static class Waiter{
+		final Thread thread;
+		volatile Waiter next;
+		Waiter(Thread thread){
+			this.thread = thread;
+		}
+	}
 	@AllArgsConstructor
 	public static class OnComplete{
 		public final Object result;
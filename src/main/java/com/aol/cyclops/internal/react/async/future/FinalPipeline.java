@@ -14,7 +14,11 @@ public class FinalPipeline {
 	public final Executor[] executors;
 	public final Function[] firstRecover;
 	public final Consumer<Throwable> onFail;
+	/**
+	 * Number of times join / await re-check for completion before parking
+	 */
+	public final int spinBeforePark;
 	public static FinalPipeline empty() {
-		return new FinalPipeline(new Function[0],new Executor[0],null,null);
+		return new FinalPipeline(new Function[0],new Executor[0],null,null,0);
 	}
 }
\ No newline at end of file
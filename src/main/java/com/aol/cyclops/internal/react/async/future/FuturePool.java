@@ -1,39 +1,135 @@
 package com.aol.cyclops.internal.react.async.future;
 
+import java.util.ArrayDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 
-import org.agrona.concurrent.ManyToOneConcurrentArrayQueue;
-
-import lombok.AllArgsConstructor;
 /**
- * Single consumer / multiple producer future pool
- * 
+ * Future pool with per-thread free lists and a shared overflow stash
+ *
+ * Futures released on a thread are kept in that thread's free list, and handed out again directly if the same thread asks for
+ * a future (no atomic operations are involved). Once a thread has released a batch of futures it moves the whole batch to
+ * the shared stash with a single CAS, a thread that runs out of futures takes everything in the stash with a single getAndSet.
+ * Handing a batch across threads via the stash publishes the futures safely.
+ *
+ * Each thread keeps free lists for the few pools it used most recently (most recently used first), so threads that alternate
+ * between a handful of pools keep a free list for each. When a thread uses more pools than that, the free lists of its least
+ * recently used pool are taken over and any futures they hold are returned to that pool's stash, so short lived pools are
+ * not retained by long lived threads.
+ *
+ * The shared stash holds at most max futures, surplus batches are left for the garbage collector.
+ *
  * @author johnmcclean
  *
  */
-@AllArgsConstructor
 public class FuturePool {
 
-	private final ManyToOneConcurrentArrayQueue<FastFuture> pool;
+	private static final int BATCH = 32;
+	private static final int POOLS_PER_THREAD = 4;
+
 	private final int max;
-	
-	
+	private final AtomicReference<Batch> stash = new AtomicReference<>();
+	private final AtomicInteger stashed = new AtomicInteger(0);
+	private static final ThreadLocal<FreeLists[]> local = ThreadLocal.withInitial(()->new FreeLists[POOLS_PER_THREAD]);
+
+	/**
+	 * @param max Maximum number of futures to hold in the shared stash
+	 */
+	public FuturePool(int max){
+		this.max = max;
+	}
+
 	public<T> FastFuture<T> next(Supplier<FastFuture<T>> factory){
-		if(pool.size()>0){
-			
-			FastFuture next = pool.poll();
+		FreeLists free = free();
+		FastFuture next = free.released.pollFirst();
+		if(next==null)
+			next = free.available.pollFirst();
+		if(next==null){
+			takeStash(free.available);
+			next = free.available.pollFirst();
+		}
+		if(next!=null){
 			next.clearFast();
 			return next;
 		}
-		
+
 		return factory.get();
 	}
-	
+
 	public <T> void done(FastFuture<T> f){
-		if(pool.size()<max){
-			
-			pool.offer(f);
+		ArrayDeque<FastFuture> released = free().released;
+		released.addFirst(f);
+		if(released.size()>=BATCH)
+			stash(released);
+
+	}
+	/**
+	 * @return Approximate number of futures available in the shared stash
+	 */
+	public int stashed(){
+		return stashed.get();
+	}
+
+	private FreeLists free(){
+		FreeLists[] lists = local.get();
+		FreeLists free = lists[0];
+		if(free!=null && free.owner==this)
+			return free;
+		int index = 1;
+		while(index<lists.length-1 && lists[index]!=null && lists[index].owner!=this)
+			index++;
+		free = lists[index];
+		if(free==null){
+			free = new FreeLists();
+			free.owner = this;
+		}else if(free.owner!=this){ //least recently used slot
+			free.owner.stash(free.released);
+			free.owner.stash(free.available);
+			free.owner = this;
+		}
+		System.arraycopy(lists, 0, lists, 1, index);
+		lists[0] = free;
+		return free;
+	}
+	private void stash(ArrayDeque<FastFuture> free){
+		if(free.isEmpty())
+			return;
+		if(stashed.get()+free.size()>max){
+			free.clear();
+			return;
+		}
+		Batch batch = new Batch(free.toArray(new FastFuture[free.size()]));
+		free.clear();
+		stashed.addAndGet(batch.futures.length);
+		Batch head;
+		do{
+			head = stash.get();
+			batch.next = head;
+		}while(!stash.compareAndSet(head, batch));
+	}
+	private void takeStash(ArrayDeque<FastFuture> free){
+		if(stash.get()==null)
+			return;
+		Batch batch = stash.getAndSet(null);
+		while(batch!=null){
+			stashed.addAndGet(-batch.futures.length);
+			for(FastFuture f : batch.futures)
+				free.addLast(f);
+			batch = batch.next;
+		}
+	}
+
+	private static final class FreeLists{
+		FuturePool owner;
+		final ArrayDeque<FastFuture> released = new ArrayDeque<>();
+		final ArrayDeque<FastFuture> available = new ArrayDeque<>();
+	}
+	private static final class Batch{
+		final FastFuture[] futures;
+		Batch next;
+		Batch(FastFuture[] futures){
+			this.futures = futures;
 		}
-		
-	}	
+	}
 }
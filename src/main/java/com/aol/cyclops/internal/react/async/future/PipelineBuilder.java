@@ -6,6 +6,9 @@ import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
+import org.jooq.lambda.tuple.Tuple;
+import org.jooq.lambda.tuple.Tuple2;
+
 import com.aol.cyclops.util.function.Cacheable;
 import com.aol.cyclops.util.function.Memoize;
 
@@ -21,12 +24,14 @@ public class PipelineBuilder {
 	private final Executor optimisingExec;
 	private final boolean autoMemoize;
 	private final Cacheable memoizeFactory;
+	private final int spinBeforePark; //for futures built from this pipeline
 	public PipelineBuilder(){
 		builder = new ExecutionPipeline();
 		autoOptimise=false;
 		optimisingExec=null;
 		autoMemoize=false;
 		this.memoizeFactory=null;
+		this.spinBeforePark=0;
 	}
 	
 	private <T,R> Function<T,R> memoize(Function<T,R> fn){
@@ -35,15 +40,22 @@ public class PipelineBuilder {
 			return fn;
 		if(memoizeFactory==null)
 			return Memoize.memoizeFunction(fn);
-		return Memoize.memoizeFunction(fn, memoizeFactory);
+		//the cache is shared by every stage, so key on the stage as well as the input
+		Function<Tuple2<Function<T,R>,T>,R> memoized = Memoize.memoizeFunction(key->fn.apply(key.v2), (Cacheable<R>)memoizeFactory);
+		return t -> memoized.apply(Tuple.tuple(fn,t));
 	}
 	public PipelineBuilder(boolean autoOptimise,Executor optimisingExec
 		,boolean autoMemoize,Cacheable memoizeFactory ){
+		this(autoOptimise,optimisingExec,autoMemoize,memoizeFactory,0);
+	}
+	public PipelineBuilder(boolean autoOptimise,Executor optimisingExec
+		,boolean autoMemoize,Cacheable memoizeFactory,int spinBeforePark ){
 		builder = new ExecutionPipeline();
 		this.autoOptimise=autoOptimise;
 		this.optimisingExec=optimisingExec;
 		this.autoMemoize=autoMemoize;
 		this.memoizeFactory= memoizeFactory;
+		this.spinBeforePark=spinBeforePark;
 	}
 	public <T,R> PipelineBuilder thenCompose(Function<? super T,CompletableFuture<? extends R>> fn){
 		if(autoOptimise && builder.functionListSize()==0) 
@@ -89,7 +101,7 @@ public class PipelineBuilder {
 	}
 	public <T> FastFuture<T> build() {
 		
-		return new FastFuture<T>(this.builder.toFinalPipeline(),0);
+		return new FastFuture<T>(this.builder.toFinalPipeline(spinBeforePark),0);
 	}
 	public PipelineBuilder onFail(Consumer<Throwable> onFail) {
 		return this.withBuilder(builder.onFail(onFail));
@@ -4,8 +4,6 @@ import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
-import org.agrona.concurrent.ManyToOneConcurrentArrayQueue;
-
 import com.aol.cyclops.control.LazyReact;
 import com.aol.cyclops.control.ReactiveSeq;
 import com.aol.cyclops.internal.react.async.future.FastFuture;
@@ -29,11 +27,11 @@ public class LazyStreamWrapper<U> implements StreamWrapper<U> {
 		
 		this.values = values;
 		this.pipeline = new PipelineBuilder(react.isAutoOptimize(),
-				react.getExecutor(),react.isAutoMemoize(),react.getMemoizeCache());
+				react.getExecutor(),react.isAutoMemoize(),react.getMemoizeCache(),react.getSpinBeforePark());
 		
 		this.react = react;
 		if(react.isPoolingActive())
-			pool = new FuturePool(new ManyToOneConcurrentArrayQueue<>(react.getMaxActive().getMaxActive()), react.getMaxActive().getMaxActive());
+			pool = new FuturePool(react.getMaxActive().getMaxActive());
 		else
 			pool = null;
 		
@@ -5,6 +5,7 @@ import java.util.Optional;
 import java.util.Queue;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -52,11 +53,15 @@ public abstract class BaseHotStreamImpl<T> extends IteratorHotStream<T> implemen
 	
 	@Override
 	public ReactiveSeq<T> connect(Queue<T> queue) {
-		connections.getAndSet(connected, queue);
-		connected++;
+		AtomicBoolean connected = addConnection(queue);
 		unpause();
 		return StreamUtils.reactiveSeq(StreamSupport.stream(
-                new ClosingSpliterator(Long.MAX_VALUE, queue,open), false),Optional.empty());
+                new ClosingSpliterator(Long.MAX_VALUE, queue,open,connected), false),Optional.empty());
+	}
+	
+	@Override
+	public boolean disconnect(Queue<T> queue) {
+		return removeConnection(queue);
 	}
 	
 }
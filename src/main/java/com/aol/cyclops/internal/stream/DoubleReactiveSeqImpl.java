@@ -0,0 +1,413 @@
+package com.aol.cyclops.internal.stream;
+
+import java.util.DoubleSummaryStatistics;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalDouble;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.Supplier;
+import java.util.stream.DoubleStream;
+import java.util.stream.StreamSupport;
+
+import org.jooq.lambda.tuple.Tuple;
+import org.jooq.lambda.tuple.Tuple2;
+
+import com.aol.cyclops.control.DoubleReactiveSeq;
+import com.aol.cyclops.control.IntReactiveSeq;
+import com.aol.cyclops.control.LongReactiveSeq;
+import com.aol.cyclops.control.ReactiveSeq;
+import com.aol.cyclops.internal.stream.operators.OnePerOperator;
+import com.aol.cyclops.internal.stream.spliterators.GroupedArraySpliterator;
+import com.aol.cyclops.internal.stream.spliterators.PrimitiveSource;
+import com.aol.cyclops.internal.stream.spliterators.ReversableSpliterator;
+import com.aol.cyclops.internal.stream.spliterators.SlidingArraySpliterator;
+import com.aol.cyclops.util.stream.StreamUtils;
+
+/**
+ * DoubleReactiveSeq implementation that wraps an DoubleStream. Cyclops operators are implemented as
+ * primitive Spliterators over the wrapped stream, so values are never boxed.
+ */
+public class DoubleReactiveSeqImpl implements DoubleReactiveSeq {
+
+	private final DoubleStream stream;
+	private final Optional<ReversableSpliterator> reversable;
+
+	public DoubleReactiveSeqImpl(DoubleStream stream, Optional<ReversableSpliterator> reversable) {
+		this.stream = stream;
+		this.reversable = reversable;
+	}
+
+	private DoubleReactiveSeq withStream(DoubleStream s, Optional<ReversableSpliterator> rev){
+		return new DoubleReactiveSeqImpl(s,rev);
+	}
+	private DoubleReactiveSeq fromSpliterator(Spliterator.OfDouble split){
+		return withStream(StreamSupport.doubleStream(split, false).onClose(stream::close),Optional.empty());
+	}
+
+	@Override
+	public ReactiveSeq<Double> boxed() {
+		return StreamUtils.reactiveSeq(stream.boxed(),reversable);
+	}
+
+	@Override
+	public <U> ReactiveSeq<U> mapToObj(DoubleFunction<? extends U> mapper) {
+		return StreamUtils.reactiveSeq(stream.mapToObj(mapper),reversable);
+	}
+
+	@Override
+	public DoubleReactiveSeq filter(DoublePredicate predicate) {
+		return withStream(stream.filter(predicate),reversable);
+	}
+
+	@Override
+	public DoubleReactiveSeq map(DoubleUnaryOperator mapper) {
+		return withStream(stream.map(mapper),reversable);
+	}
+
+	@Override
+	public IntReactiveSeq mapToInt(DoubleToIntFunction mapper) {
+		return new IntReactiveSeqImpl(stream.mapToInt(mapper),reversable);
+	}
+
+	@Override
+	public LongReactiveSeq mapToLong(DoubleToLongFunction mapper) {
+		return new LongReactiveSeqImpl(stream.mapToLong(mapper),reversable);
+	}
+
+	@Override
+	public DoubleReactiveSeq flatMap(DoubleFunction<? extends DoubleStream> mapper) {
+		return withStream(stream.flatMap(mapper),Optional.empty());
+	}
+
+	@Override
+	public DoubleReactiveSeq distinct() {
+		return withStream(stream.distinct(),Optional.empty());
+	}
+
+	@Override
+	public DoubleReactiveSeq sorted() {
+		return withStream(stream.sorted(),Optional.empty());
+	}
+
+	@Override
+	public DoubleReactiveSeq peek(DoubleConsumer action) {
+		return withStream(stream.peek(action),reversable);
+	}
+
+	@Override
+	public DoubleReactiveSeq limit(long maxSize) {
+		return withStream(stream.limit(maxSize),Optional.empty());
+	}
+
+	@Override
+	public DoubleReactiveSeq skip(long n) {
+		return withStream(stream.skip(n),Optional.empty());
+	}
+
+	@Override
+	public DoubleReactiveSeq sequential() {
+		return withStream(stream.sequential(),reversable);
+	}
+
+	@Override
+	public DoubleReactiveSeq parallel() {
+		return withStream(stream.parallel(),reversable);
+	}
+
+	@Override
+	public DoubleReactiveSeq unordered() {
+		return withStream(stream.unordered(),reversable);
+	}
+
+	@Override
+	public DoubleReactiveSeq onClose(Runnable closeHandler) {
+		return withStream(stream.onClose(closeHandler),reversable);
+	}
+
+	@Override
+	public DoubleReactiveSeq reverse() {
+		if(reversable.isPresent()){
+			reversable.ifPresent(r->r.invert());
+			return this;
+		}
+		Supplier<Spliterator.OfDouble> reversed = ()->{
+			double[] array = stream.toArray();
+			for(int i=0,j=array.length-1;i<j;i++,j--){
+				double tmp = array[i];
+				array[i]=array[j];
+				array[j]=tmp;
+			}
+			return Spliterators.spliterator(array, Spliterator.IMMUTABLE | Spliterator.ORDERED);
+		};
+		return withStream(StreamSupport.doubleStream(reversed, Spliterator.IMMUTABLE | Spliterator.ORDERED
+																| Spliterator.SIZED | Spliterator.SUBSIZED, false)
+										.onClose(stream::close),Optional.empty());
+	}
+
+	@Override
+	public DoubleReactiveSeq limitWhile(DoublePredicate predicate) {
+		Objects.requireNonNull(predicate);
+		return fromSpliterator(new LimitWhile(stream.spliterator(),predicate));
+	}
+
+	@Override
+	public DoubleReactiveSeq skipWhile(DoublePredicate predicate) {
+		Objects.requireNonNull(predicate);
+		return fromSpliterator(new SkipWhile(stream.spliterator(),predicate));
+	}
+
+	@Override
+	public DoubleReactiveSeq scanLeft(double identity, DoubleBinaryOperator function) {
+		Objects.requireNonNull(function);
+		double[] acc = {identity};
+		return withStream(DoubleStream.concat(DoubleStream.of(identity),
+							stream.sequential().map(v->acc[0]=function.applyAsDouble(acc[0],v))),Optional.empty());
+	}
+
+	@Override
+	public ReactiveSeq<double[]> sliding(int windowSize, int increment) {
+		if(windowSize<1 || increment<1)
+			throw new IllegalArgumentException("windowSize and increment must be positive");
+		return ReactiveSeq.fromStream(StreamSupport.stream(new SlidingArraySpliterator<>(PrimitiveSource.ofDouble(stream.spliterator()),
+																					windowSize,increment), false)
+													.onClose(stream::close));
+	}
+
+	@Override
+	public ReactiveSeq<double[]> grouped(int groupSize) {
+		if(groupSize<1)
+			throw new IllegalArgumentException("groupSize must be positive");
+		return ReactiveSeq.fromStream(StreamSupport.stream(new GroupedArraySpliterator<>(PrimitiveSource.ofDouble(stream.spliterator()),
+																					groupSize), false)
+													.onClose(stream::close));
+	}
+
+	@Override
+	public DoubleReactiveSeq zip(DoubleStream other, DoubleBinaryOperator zipper) {
+		Objects.requireNonNull(zipper);
+		Spliterator.OfDouble left = stream.spliterator();
+		Spliterator.OfDouble right = other.spliterator();
+		return fromSpliterator(new Spliterators.AbstractDoubleSpliterator(Math.min(left.estimateSize(),right.estimateSize()),
+																		left.characteristics() & right.characteristics() & Spliterator.ORDERED){
+			double l;
+			double r;
+			DoubleConsumer leftSink = v->l=v;
+			DoubleConsumer rightSink = v->r=v;
+			@Override
+			public boolean tryAdvance(DoubleConsumer action) {
+				if(left.tryAdvance(leftSink) && right.tryAdvance(rightSink)){
+					action.accept(zipper.applyAsDouble(l, r));
+					return true;
+				}
+				return false;
+			}
+		}).onClose(other::close);
+	}
+
+	@Override
+	public ReactiveSeq<Tuple2<Double, Long>> zipWithIndex() {
+		Spliterator.OfDouble source = stream.spliterator();
+		return ReactiveSeq.fromStream(StreamSupport.stream(new Spliterators.AbstractSpliterator<Tuple2<Double, Long>>(source.estimateSize(),
+																							source.characteristics() & Spliterator.ORDERED){
+			long index = 0;
+			double value;
+			DoubleConsumer sink = v->value=v;
+			@Override
+			public boolean tryAdvance(Consumer<? super Tuple2<Double, Long>> action) {
+				if(!source.tryAdvance(sink))
+					return false;
+				action.accept(Tuple.tuple(value,index++));
+				return true;
+			}
+		}, false).onClose(stream::close));
+	}
+
+	@Override
+	public DoubleReactiveSeq onePer(long time, TimeUnit t) {
+		OnePerOperator.Pacer pacer = new OnePerOperator.Pacer(time,t);
+		return withStream(stream.sequential().peek(v->pacer.await()),Optional.empty());
+	}
+
+	/*
+	 * DoubleStream delegation
+	 */
+	@Override
+	public void forEach(DoubleConsumer action) {
+		stream.forEach(action);
+	}
+
+	@Override
+	public void forEachOrdered(DoubleConsumer action) {
+		stream.forEachOrdered(action);
+	}
+
+	@Override
+	public double[] toArray() {
+		return stream.toArray();
+	}
+
+	@Override
+	public double reduce(double identity, DoubleBinaryOperator op) {
+		return stream.reduce(identity, op);
+	}
+
+	@Override
+	public OptionalDouble reduce(DoubleBinaryOperator op) {
+		return stream.reduce(op);
+	}
+
+	@Override
+	public <R> R collect(Supplier<R> supplier, ObjDoubleConsumer<R> accumulator, BiConsumer<R, R> combiner) {
+		return stream.collect(supplier, accumulator, combiner);
+	}
+
+	@Override
+	public double sum() {
+		return stream.sum();
+	}
+
+	@Override
+	public OptionalDouble min() {
+		return stream.min();
+	}
+
+	@Override
+	public OptionalDouble max() {
+		return stream.max();
+	}
+
+	@Override
+	public long count() {
+		return stream.count();
+	}
+
+	@Override
+	public OptionalDouble average() {
+		return stream.average();
+	}
+
+	@Override
+	public DoubleSummaryStatistics summaryStatistics() {
+		return stream.summaryStatistics();
+	}
+
+	@Override
+	public boolean anyMatch(DoublePredicate predicate) {
+		return stream.anyMatch(predicate);
+	}
+
+	@Override
+	public boolean allMatch(DoublePredicate predicate) {
+		return stream.allMatch(predicate);
+	}
+
+	@Override
+	public boolean noneMatch(DoublePredicate predicate) {
+		return stream.noneMatch(predicate);
+	}
+
+	@Override
+	public OptionalDouble findFirst() {
+		return stream.findFirst();
+	}
+
+	@Override
+	public OptionalDouble findAny() {
+		return stream.findAny();
+	}
+
+	@Override
+	public PrimitiveIterator.OfDouble iterator() {
+		return stream.iterator();
+	}
+
+	@Override
+	public Spliterator.OfDouble spliterator() {
+		return stream.spliterator();
+	}
+
+	@Override
+	public boolean isParallel() {
+		return stream.isParallel();
+	}
+
+	@Override
+	public void close() {
+		stream.close();
+	}
+
+	static final class LimitWhile extends Spliterators.AbstractDoubleSpliterator implements DoubleConsumer {
+		private final Spliterator.OfDouble source;
+		private final DoublePredicate predicate;
+		private boolean done = false;
+		private double value;
+
+		LimitWhile(Spliterator.OfDouble source, DoublePredicate predicate) {
+			super(source.estimateSize(), source.characteristics() & (Spliterator.ORDERED | Spliterator.DISTINCT
+																		| Spliterator.SORTED | Spliterator.NONNULL));
+			this.source = source;
+			this.predicate = predicate;
+		}
+		@Override
+		public void accept(double value) {
+			this.value = value;
+		}
+		@Override
+		public boolean tryAdvance(DoubleConsumer action) {
+			if(done || !source.tryAdvance(this))
+				return false;
+			if(predicate.test(value)){
+				action.accept(value);
+				return true;
+			}
+			done = true;
+			return false;
+		}
+	}
+
+	static final class SkipWhile extends Spliterators.AbstractDoubleSpliterator implements DoubleConsumer {
+		private final Spliterator.OfDouble source;
+		private final DoublePredicate predicate;
+		private boolean skipping = true;
+		private double value;
+
+		SkipWhile(Spliterator.OfDouble source, DoublePredicate predicate) {
+			super(source.estimateSize(), source.characteristics() & (Spliterator.ORDERED | Spliterator.DISTINCT
+																		| Spliterator.SORTED | Spliterator.NONNULL));
+			this.source = source;
+			this.predicate = predicate;
+		}
+		@Override
+		public void accept(double value) {
+			this.value = value;
+		}
+		@Override
+		public boolean tryAdvance(DoubleConsumer action) {
+			if(skipping){
+				while(source.tryAdvance(this)){
+					if(!predicate.test(value)){
+						skipping = false;
+						action.accept(value);
+						return true;
+					}
+				}
+				return false;
+			}
+			return source.tryAdvance(action);
+		}
+	}
+}
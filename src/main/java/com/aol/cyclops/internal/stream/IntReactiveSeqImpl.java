@@ -0,0 +1,423 @@
+package com.aol.cyclops.internal.stream;
+
+import java.util.IntSummaryStatistics;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+import org.jooq.lambda.tuple.Tuple;
+import org.jooq.lambda.tuple.Tuple2;
+
+import com.aol.cyclops.control.DoubleReactiveSeq;
+import com.aol.cyclops.control.IntReactiveSeq;
+import com.aol.cyclops.control.LongReactiveSeq;
+import com.aol.cyclops.control.ReactiveSeq;
+import com.aol.cyclops.internal.stream.operators.OnePerOperator;
+import com.aol.cyclops.internal.stream.spliterators.GroupedArraySpliterator;
+import com.aol.cyclops.internal.stream.spliterators.PrimitiveSource;
+import com.aol.cyclops.internal.stream.spliterators.ReversableSpliterator;
+import com.aol.cyclops.internal.stream.spliterators.SlidingArraySpliterator;
+import com.aol.cyclops.util.stream.StreamUtils;
+
+/**
+ * IntReactiveSeq implementation that wraps an IntStream. Cyclops operators are implemented as
+ * primitive Spliterators over the wrapped stream, so values are never boxed.
+ */
+public class IntReactiveSeqImpl implements IntReactiveSeq {
+
+	private final IntStream stream;
+	private final Optional<ReversableSpliterator> reversable;
+
+	public IntReactiveSeqImpl(IntStream stream, Optional<ReversableSpliterator> reversable) {
+		this.stream = stream;
+		this.reversable = reversable;
+	}
+
+	private IntReactiveSeq withStream(IntStream s, Optional<ReversableSpliterator> rev){
+		return new IntReactiveSeqImpl(s,rev);
+	}
+	private IntReactiveSeq fromSpliterator(Spliterator.OfInt split){
+		return withStream(StreamSupport.intStream(split, false).onClose(stream::close),Optional.empty());
+	}
+
+	@Override
+	public ReactiveSeq<Integer> boxed() {
+		return StreamUtils.reactiveSeq(stream.boxed(),reversable);
+	}
+
+	@Override
+	public <U> ReactiveSeq<U> mapToObj(IntFunction<? extends U> mapper) {
+		return StreamUtils.reactiveSeq(stream.mapToObj(mapper),reversable);
+	}
+
+	@Override
+	public IntReactiveSeq filter(IntPredicate predicate) {
+		return withStream(stream.filter(predicate),reversable);
+	}
+
+	@Override
+	public IntReactiveSeq map(IntUnaryOperator mapper) {
+		return withStream(stream.map(mapper),reversable);
+	}
+
+	@Override
+	public LongReactiveSeq mapToLong(IntToLongFunction mapper) {
+		return new LongReactiveSeqImpl(stream.mapToLong(mapper),reversable);
+	}
+
+	@Override
+	public DoubleReactiveSeq mapToDouble(IntToDoubleFunction mapper) {
+		return new DoubleReactiveSeqImpl(stream.mapToDouble(mapper),reversable);
+	}
+
+	@Override
+	public IntReactiveSeq flatMap(IntFunction<? extends IntStream> mapper) {
+		return withStream(stream.flatMap(mapper),Optional.empty());
+	}
+
+	@Override
+	public IntReactiveSeq distinct() {
+		return withStream(stream.distinct(),Optional.empty());
+	}
+
+	@Override
+	public IntReactiveSeq sorted() {
+		return withStream(stream.sorted(),Optional.empty());
+	}
+
+	@Override
+	public IntReactiveSeq peek(IntConsumer action) {
+		return withStream(stream.peek(action),reversable);
+	}
+
+	@Override
+	public IntReactiveSeq limit(long maxSize) {
+		return withStream(stream.limit(maxSize),Optional.empty());
+	}
+
+	@Override
+	public IntReactiveSeq skip(long n) {
+		return withStream(stream.skip(n),Optional.empty());
+	}
+
+	@Override
+	public LongReactiveSeq asLongStream() {
+		return new LongReactiveSeqImpl(stream.asLongStream(),reversable);
+	}
+
+	@Override
+	public DoubleReactiveSeq asDoubleStream() {
+		return new DoubleReactiveSeqImpl(stream.asDoubleStream(),reversable);
+	}
+
+	@Override
+	public IntReactiveSeq sequential() {
+		return withStream(stream.sequential(),reversable);
+	}
+
+	@Override
+	public IntReactiveSeq parallel() {
+		return withStream(stream.parallel(),reversable);
+	}
+
+	@Override
+	public IntReactiveSeq unordered() {
+		return withStream(stream.unordered(),reversable);
+	}
+
+	@Override
+	public IntReactiveSeq onClose(Runnable closeHandler) {
+		return withStream(stream.onClose(closeHandler),reversable);
+	}
+
+	@Override
+	public IntReactiveSeq reverse() {
+		if(reversable.isPresent()){
+			reversable.ifPresent(r->r.invert());
+			return this;
+		}
+		Supplier<Spliterator.OfInt> reversed = ()->{
+			int[] array = stream.toArray();
+			for(int i=0,j=array.length-1;i<j;i++,j--){
+				int tmp = array[i];
+				array[i]=array[j];
+				array[j]=tmp;
+			}
+			return Spliterators.spliterator(array, Spliterator.IMMUTABLE | Spliterator.ORDERED);
+		};
+		return withStream(StreamSupport.intStream(reversed, Spliterator.IMMUTABLE | Spliterator.ORDERED
+																| Spliterator.SIZED | Spliterator.SUBSIZED, false)
+										.onClose(stream::close),Optional.empty());
+	}
+
+	@Override
+	public IntReactiveSeq limitWhile(IntPredicate predicate) {
+		Objects.requireNonNull(predicate);
+		return fromSpliterator(new LimitWhile(stream.spliterator(),predicate));
+	}
+
+	@Override
+	public IntReactiveSeq skipWhile(IntPredicate predicate) {
+		Objects.requireNonNull(predicate);
+		return fromSpliterator(new SkipWhile(stream.spliterator(),predicate));
+	}
+
+	@Override
+	public IntReactiveSeq scanLeft(int identity, IntBinaryOperator function) {
+		Objects.requireNonNull(function);
+		int[] acc = {identity};
+		return withStream(IntStream.concat(IntStream.of(identity),
+							stream.sequential().map(v->acc[0]=function.applyAsInt(acc[0],v))),Optional.empty());
+	}
+
+	@Override
+	public ReactiveSeq<int[]> sliding(int windowSize, int increment) {
+		if(windowSize<1 || increment<1)
+			throw new IllegalArgumentException("windowSize and increment must be positive");
+		return ReactiveSeq.fromStream(StreamSupport.stream(new SlidingArraySpliterator<>(PrimitiveSource.ofInt(stream.spliterator()),
+																					windowSize,increment), false)
+													.onClose(stream::close));
+	}
+
+	@Override
+	public ReactiveSeq<int[]> grouped(int groupSize) {
+		if(groupSize<1)
+			throw new IllegalArgumentException("groupSize must be positive");
+		return ReactiveSeq.fromStream(StreamSupport.stream(new GroupedArraySpliterator<>(PrimitiveSource.ofInt(stream.spliterator()),
+																					groupSize), false)
+													.onClose(stream::close));
+	}
+
+	@Override
+	public IntReactiveSeq zip(IntStream other, IntBinaryOperator zipper) {
+		Objects.requireNonNull(zipper);
+		Spliterator.OfInt left = stream.spliterator();
+		Spliterator.OfInt right = other.spliterator();
+		return fromSpliterator(new Spliterators.AbstractIntSpliterator(Math.min(left.estimateSize(),right.estimateSize()),
+																		left.characteristics() & right.characteristics() & Spliterator.ORDERED){
+			int l;
+			int r;
+			IntConsumer leftSink = v->l=v;
+			IntConsumer rightSink = v->r=v;
+			@Override
+			public boolean tryAdvance(IntConsumer action) {
+				if(left.tryAdvance(leftSink) && right.tryAdvance(rightSink)){
+					action.accept(zipper.applyAsInt(l, r));
+					return true;
+				}
+				return false;
+			}
+		}).onClose(other::close);
+	}
+
+	@Override
+	public ReactiveSeq<Tuple2<Integer, Long>> zipWithIndex() {
+		Spliterator.OfInt source = stream.spliterator();
+		return ReactiveSeq.fromStream(StreamSupport.stream(new Spliterators.AbstractSpliterator<Tuple2<Integer, Long>>(source.estimateSize(),
+																							source.characteristics() & Spliterator.ORDERED){
+			long index = 0;
+			int value;
+			IntConsumer sink = v->value=v;
+			@Override
+			public boolean tryAdvance(Consumer<? super Tuple2<Integer, Long>> action) {
+				if(!source.tryAdvance(sink))
+					return false;
+				action.accept(Tuple.tuple(value,index++));
+				return true;
+			}
+		}, false).onClose(stream::close));
+	}
+
+	@Override
+	public IntReactiveSeq onePer(long time, TimeUnit t) {
+		OnePerOperator.Pacer pacer = new OnePerOperator.Pacer(time,t);
+		return withStream(stream.sequential().peek(v->pacer.await()),Optional.empty());
+	}
+
+	/*
+	 * IntStream delegation
+	 */
+	@Override
+	public void forEach(IntConsumer action) {
+		stream.forEach(action);
+	}
+
+	@Override
+	public void forEachOrdered(IntConsumer action) {
+		stream.forEachOrdered(action);
+	}
+
+	@Override
+	public int[] toArray() {
+		return stream.toArray();
+	}
+
+	@Override
+	public int reduce(int identity, IntBinaryOperator op) {
+		return stream.reduce(identity, op);
+	}
+
+	@Override
+	public OptionalInt reduce(IntBinaryOperator op) {
+		return stream.reduce(op);
+	}
+
+	@Override
+	public <R> R collect(Supplier<R> supplier, ObjIntConsumer<R> accumulator, BiConsumer<R, R> combiner) {
+		return stream.collect(supplier, accumulator, combiner);
+	}
+
+	@Override
+	public int sum() {
+		return stream.sum();
+	}
+
+	@Override
+	public OptionalInt min() {
+		return stream.min();
+	}
+
+	@Override
+	public OptionalInt max() {
+		return stream.max();
+	}
+
+	@Override
+	public long count() {
+		return stream.count();
+	}
+
+	@Override
+	public OptionalDouble average() {
+		return stream.average();
+	}
+
+	@Override
+	public IntSummaryStatistics summaryStatistics() {
+		return stream.summaryStatistics();
+	}
+
+	@Override
+	public boolean anyMatch(IntPredicate predicate) {
+		return stream.anyMatch(predicate);
+	}
+
+	@Override
+	public boolean allMatch(IntPredicate predicate) {
+		return stream.allMatch(predicate);
+	}
+
+	@Override
+	public boolean noneMatch(IntPredicate predicate) {
+		return stream.noneMatch(predicate);
+	}
+
+	@Override
+	public OptionalInt findFirst() {
+		return stream.findFirst();
+	}
+
+	@Override
+	public OptionalInt findAny() {
+		return stream.findAny();
+	}
+
+	@Override
+	public PrimitiveIterator.OfInt iterator() {
+		return stream.iterator();
+	}
+
+	@Override
+	public Spliterator.OfInt spliterator() {
+		return stream.spliterator();
+	}
+
+	@Override
+	public boolean isParallel() {
+		return stream.isParallel();
+	}
+
+	@Override
+	public void close() {
+		stream.close();
+	}
+
+	static final class LimitWhile extends Spliterators.AbstractIntSpliterator implements IntConsumer {
+		private final Spliterator.OfInt source;
+		private final IntPredicate predicate;
+		private boolean done = false;
+		private int value;
+
+		LimitWhile(Spliterator.OfInt source, IntPredicate predicate) {
+			super(source.estimateSize(), source.characteristics() & (Spliterator.ORDERED | Spliterator.DISTINCT
+																		| Spliterator.SORTED | Spliterator.NONNULL));
+			this.source = source;
+			this.predicate = predicate;
+		}
+		@Override
+		public void accept(int value) {
+			this.value = value;
+		}
+		@Override
+		public boolean tryAdvance(IntConsumer action) {
+			if(done || !source.tryAdvance(this))
+				return false;
+			if(predicate.test(value)){
+				action.accept(value);
+				return true;
+			}
+			done = true;
+			return false;
+		}
+	}
+
+	static final class SkipWhile extends Spliterators.AbstractIntSpliterator implements IntConsumer {
+		private final Spliterator.OfInt source;
+		private final IntPredicate predicate;
+		private boolean skipping = true;
+		private int value;
+
+		SkipWhile(Spliterator.OfInt source, IntPredicate predicate) {
+			super(source.estimateSize(), source.characteristics() & (Spliterator.ORDERED | Spliterator.DISTINCT
+																		| Spliterator.SORTED | Spliterator.NONNULL));
+			this.source = source;
+			this.predicate = predicate;
+		}
+		@Override
+		public void accept(int value) {
+			this.value = value;
+		}
+		@Override
+		public boolean tryAdvance(IntConsumer action) {
+			if(skipping){
+				while(source.tryAdvance(this)){
+					if(!predicate.test(value)){
+						skipping = false;
+						action.accept(value);
+						return true;
+					}
+				}
+				return false;
+			}
+			return source.tryAdvance(action);
+		}
+	}
+}
@@ -1,26 +1,29 @@
 package com.aol.cyclops.internal.stream;
 
+import java.util.Arrays;
 import java.util.Date;
 import java.util.Iterator;
 import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.concurrent.atomic.AtomicReferenceArray;
 
-import com.aol.cyclops.Matchables;
-import com.aol.cyclops.control.FluentFunctions;
 import com.aol.cyclops.util.ExceptionSoftener;
 import com.aol.cyclops.util.stream.scheduling.cron.CronExpression;
 
 
 public class IteratorHotStream<T> {
 	
-	protected final AtomicReferenceArray<Queue<T>> connections = new AtomicReferenceArray<>(10);
+	private static final Connection[] NO_CONNECTIONS = new Connection[0];
+	
+	/**
+	 * Copy-on-write array of connected Queues, replaced on connect / disconnect and read once per element published
+	 */
+	protected final AtomicReference<Connection<T>[]> connections = new AtomicReference<>(NO_CONNECTIONS);
 	protected final AtomicBoolean open =new AtomicBoolean(true);
-	protected volatile int connected=0;
 	protected final AtomicReference<CompletableFuture<Void>> pause = new AtomicReference<>(CompletableFuture.<Void>completedFuture(null));
 
 	
@@ -38,6 +41,60 @@ public class IteratorHotStream<T> {
 		pause.set(new CompletableFuture<Void>());
 	}
 	
+	/**
+	 * @return Flag that stays true until the Queue is disconnected
+	 */
+	protected AtomicBoolean addConnection(Queue<T> queue){
+		Connection<T> connection = new Connection<>(queue);
+		Connection<T>[] current;
+		Connection<T>[] next;
+		do{
+			current = connections.get();
+			next = Arrays.copyOf(current, current.length+1);
+			next[current.length] = connection;
+		}while(!connections.compareAndSet(current, next));
+		return connection.connected;
+	}
+	protected boolean removeConnection(Queue<T> queue){
+		Connection<T>[] current;
+		Connection<T>[] next;
+		int index;
+		do{
+			current = connections.get();
+			index = -1;
+			for(int i=0;i<current.length;i++){
+				if(current[i].queue==queue){
+					index = i;
+					break;
+				}
+			}
+			if(index==-1)
+				return false;
+			next = Arrays.copyOf(current, current.length-1);
+			System.arraycopy(current, index+1, next, index, current.length-index-1);
+		}while(!connections.compareAndSet(current, next));
+		current[index].connected.set(false);
+		return true;
+	}
+	/**
+	 * Send next to every connected Queue, blocking on full BlockingQueues
+	 */
+	protected void publish(T next){
+		for(Connection<T> connection : connections.get()){
+			Queue<T> queue = connection.queue;
+			if(queue instanceof BlockingQueue){
+				try {
+					((BlockingQueue<T>)queue).put(next);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw ExceptionSoftener.throwSoftenedException(e);
+				}
+			}
+			else
+				queue.offer(next);
+		}
+	}
+	
 	protected void scheduleInternal(Iterator<T> it, String cron,ScheduledExecutorService ex){
 		Date now = new Date();
 		Date d = ExceptionSoftener.softenSupplier(()->new CronExpression(cron)).get().getNextValidTimeAfter(now);
@@ -50,14 +107,7 @@ public class IteratorHotStream<T> {
 					try{
 						T next = it.next();
 					
-						int local = connected;
-						
-						for(int i=0;i<local;i++){
-						
-						    Matchables.blocking(connections.get(i))
-						              .visit(FluentFunctions.ofChecked(in->{ in.put(next); return true;}),
-						                      q-> q.offer(next));
-						}
+						publish(next);
 						
 					}
 					finally{
@@ -82,16 +132,7 @@ public class IteratorHotStream<T> {
 					
 						T next = it.next();
 					
-						int local = connected;
-						
-						for(int i=0;i<local;i++){
-						
-						    Matchables.blocking(connections.get(i))
-							              .visit(FluentFunctions.ofChecked(in->{ in.put(next); return true;}),
-							                  q-> q.offer(next));
-							          
-							 
-						}
+						publish(next);
 						
 					
 				}else{
@@ -110,14 +151,7 @@ public class IteratorHotStream<T> {
 					
 						T next = it.next();
 					
-						int local = connected;
-						
-						for(int i=0;i<local;i++){
-						
-						    Matchables.blocking(connections.get(i))
-                                      .visit(FluentFunctions.ofChecked(in->{ in.put(next); return true;}),
-                                              q-> q.offer(next));
-						}
+						publish(next);
 						
 					
 				}else{
@@ -128,4 +162,13 @@ public class IteratorHotStream<T> {
 		 return this;
 		
 	}
+	
+	protected static final class Connection<T>{
+		private final Queue<T> queue;
+		private final AtomicBoolean connected = new AtomicBoolean(true);
+		
+		Connection(Queue<T> queue){
+			this.queue = queue;
+		}
+	}
 }
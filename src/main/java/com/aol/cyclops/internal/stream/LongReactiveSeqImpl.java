@@ -0,0 +1,418 @@
+package com.aol.cyclops.internal.stream;
+
+import java.util.LongSummaryStatistics;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.function.ObjLongConsumer;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+import org.jooq.lambda.tuple.Tuple;
+import org.jooq.lambda.tuple.Tuple2;
+
+import com.aol.cyclops.control.DoubleReactiveSeq;
+import com.aol.cyclops.control.IntReactiveSeq;
+import com.aol.cyclops.control.LongReactiveSeq;
+import com.aol.cyclops.control.ReactiveSeq;
+import com.aol.cyclops.internal.stream.operators.OnePerOperator;
+import com.aol.cyclops.internal.stream.spliterators.GroupedArraySpliterator;
+import com.aol.cyclops.internal.stream.spliterators.PrimitiveSource;
+import com.aol.cyclops.internal.stream.spliterators.ReversableSpliterator;
+import com.aol.cyclops.internal.stream.spliterators.SlidingArraySpliterator;
+import com.aol.cyclops.util.stream.StreamUtils;
+
+/**
+ * LongReactiveSeq implementation that wraps an LongStream. Cyclops operators are implemented as
+ * primitive Spliterators over the wrapped stream, so values are never boxed.
+ */
+public class LongReactiveSeqImpl implements LongReactiveSeq {
+
+	private final LongStream stream;
+	private final Optional<ReversableSpliterator> reversable;
+
+	public LongReactiveSeqImpl(LongStream stream, Optional<ReversableSpliterator> reversable) {
+		this.stream = stream;
+		this.reversable = reversable;
+	}
+
+	private LongReactiveSeq withStream(LongStream s, Optional<ReversableSpliterator> rev){
+		return new LongReactiveSeqImpl(s,rev);
+	}
+	private LongReactiveSeq fromSpliterator(Spliterator.OfLong split){
+		return withStream(StreamSupport.longStream(split, false).onClose(stream::close),Optional.empty());
+	}
+
+	@Override
+	public ReactiveSeq<Long> boxed() {
+		return StreamUtils.reactiveSeq(stream.boxed(),reversable);
+	}
+
+	@Override
+	public <U> ReactiveSeq<U> mapToObj(LongFunction<? extends U> mapper) {
+		return StreamUtils.reactiveSeq(stream.mapToObj(mapper),reversable);
+	}
+
+	@Override
+	public LongReactiveSeq filter(LongPredicate predicate) {
+		return withStream(stream.filter(predicate),reversable);
+	}
+
+	@Override
+	public LongReactiveSeq map(LongUnaryOperator mapper) {
+		return withStream(stream.map(mapper),reversable);
+	}
+
+	@Override
+	public IntReactiveSeq mapToInt(LongToIntFunction mapper) {
+		return new IntReactiveSeqImpl(stream.mapToInt(mapper),reversable);
+	}
+
+	@Override
+	public DoubleReactiveSeq mapToDouble(LongToDoubleFunction mapper) {
+		return new DoubleReactiveSeqImpl(stream.mapToDouble(mapper),reversable);
+	}
+
+	@Override
+	public LongReactiveSeq flatMap(LongFunction<? extends LongStream> mapper) {
+		return withStream(stream.flatMap(mapper),Optional.empty());
+	}
+
+	@Override
+	public LongReactiveSeq distinct() {
+		return withStream(stream.distinct(),Optional.empty());
+	}
+
+	@Override
+	public LongReactiveSeq sorted() {
+		return withStream(stream.sorted(),Optional.empty());
+	}
+
+	@Override
+	public LongReactiveSeq peek(LongConsumer action) {
+		return withStream(stream.peek(action),reversable);
+	}
+
+	@Override
+	public LongReactiveSeq limit(long maxSize) {
+		return withStream(stream.limit(maxSize),Optional.empty());
+	}
+
+	@Override
+	public LongReactiveSeq skip(long n) {
+		return withStream(stream.skip(n),Optional.empty());
+	}
+
+	@Override
+	public DoubleReactiveSeq asDoubleStream() {
+		return new DoubleReactiveSeqImpl(stream.asDoubleStream(),reversable);
+	}
+
+	@Override
+	public LongReactiveSeq sequential() {
+		return withStream(stream.sequential(),reversable);
+	}
+
+	@Override
+	public LongReactiveSeq parallel() {
+		return withStream(stream.parallel(),reversable);
+	}
+
+	@Override
+	public LongReactiveSeq unordered() {
+		return withStream(stream.unordered(),reversable);
+	}
+
+	@Override
+	public LongReactiveSeq onClose(Runnable closeHandler) {
+		return withStream(stream.onClose(closeHandler),reversable);
+	}
+
+	@Override
+	public LongReactiveSeq reverse() {
+		if(reversable.isPresent()){
+			reversable.ifPresent(r->r.invert());
+			return this;
+		}
+		Supplier<Spliterator.OfLong> reversed = ()->{
+			long[] array = stream.toArray();
+			for(int i=0,j=array.length-1;i<j;i++,j--){
+				long tmp = array[i];
+				array[i]=array[j];
+				array[j]=tmp;
+			}
+			return Spliterators.spliterator(array, Spliterator.IMMUTABLE | Spliterator.ORDERED);
+		};
+		return withStream(StreamSupport.longStream(reversed, Spliterator.IMMUTABLE | Spliterator.ORDERED
+																| Spliterator.SIZED | Spliterator.SUBSIZED, false)
+										.onClose(stream::close),Optional.empty());
+	}
+
+	@Override
+	public LongReactiveSeq limitWhile(LongPredicate predicate) {
+		Objects.requireNonNull(predicate);
+		return fromSpliterator(new LimitWhile(stream.spliterator(),predicate));
+	}
+
+	@Override
+	public LongReactiveSeq skipWhile(LongPredicate predicate) {
+		Objects.requireNonNull(predicate);
+		return fromSpliterator(new SkipWhile(stream.spliterator(),predicate));
+	}
+
+	@Override
+	public LongReactiveSeq scanLeft(long identity, LongBinaryOperator function) {
+		Objects.requireNonNull(function);
+		long[] acc = {identity};
+		return withStream(LongStream.concat(LongStream.of(identity),
+							stream.sequential().map(v->acc[0]=function.applyAsLong(acc[0],v))),Optional.empty());
+	}
+
+	@Override
+	public ReactiveSeq<long[]> sliding(int windowSize, int increment) {
+		if(windowSize<1 || increment<1)
+			throw new IllegalArgumentException("windowSize and increment must be positive");
+		return ReactiveSeq.fromStream(StreamSupport.stream(new SlidingArraySpliterator<>(PrimitiveSource.ofLong(stream.spliterator()),
+																					windowSize,increment), false)
+													.onClose(stream::close));
+	}
+
+	@Override
+	public ReactiveSeq<long[]> grouped(int groupSize) {
+		if(groupSize<1)
+			throw new IllegalArgumentException("groupSize must be positive");
+		return ReactiveSeq.fromStream(StreamSupport.stream(new GroupedArraySpliterator<>(PrimitiveSource.ofLong(stream.spliterator()),
+																					groupSize), false)
+													.onClose(stream::close));
+	}
+
+	@Override
+	public LongReactiveSeq zip(LongStream other, LongBinaryOperator zipper) {
+		Objects.requireNonNull(zipper);
+		Spliterator.OfLong left = stream.spliterator();
+		Spliterator.OfLong right = other.spliterator();
+		return fromSpliterator(new Spliterators.AbstractLongSpliterator(Math.min(left.estimateSize(),right.estimateSize()),
+																		left.characteristics() & right.characteristics() & Spliterator.ORDERED){
+			long l;
+			long r;
+			LongConsumer leftSink = v->l=v;
+			LongConsumer rightSink = v->r=v;
+			@Override
+			public boolean tryAdvance(LongConsumer action) {
+				if(left.tryAdvance(leftSink) && right.tryAdvance(rightSink)){
+					action.accept(zipper.applyAsLong(l, r));
+					return true;
+				}
+				return false;
+			}
+		}).onClose(other::close);
+	}
+
+	@Override
+	public ReactiveSeq<Tuple2<Long, Long>> zipWithIndex() {
+		Spliterator.OfLong source = stream.spliterator();
+		return ReactiveSeq.fromStream(StreamSupport.stream(new Spliterators.AbstractSpliterator<Tuple2<Long, Long>>(source.estimateSize(),
+																							source.characteristics() & Spliterator.ORDERED){
+			long index = 0;
+			long value;
+			LongConsumer sink = v->value=v;
+			@Override
+			public boolean tryAdvance(Consumer<? super Tuple2<Long, Long>> action) {
+				if(!source.tryAdvance(sink))
+					return false;
+				action.accept(Tuple.tuple(value,index++));
+				return true;
+			}
+		}, false).onClose(stream::close));
+	}
+
+	@Override
+	public LongReactiveSeq onePer(long time, TimeUnit t) {
+		OnePerOperator.Pacer pacer = new OnePerOperator.Pacer(time,t);
+		return withStream(stream.sequential().peek(v->pacer.await()),Optional.empty());
+	}
+
+	/*
+	 * LongStream delegation
+	 */
+	@Override
+	public void forEach(LongConsumer action) {
+		stream.forEach(action);
+	}
+
+	@Override
+	public void forEachOrdered(LongConsumer action) {
+		stream.forEachOrdered(action);
+	}
+
+	@Override
+	public long[] toArray() {
+		return stream.toArray();
+	}
+
+	@Override
+	public long reduce(long identity, LongBinaryOperator op) {
+		return stream.reduce(identity, op);
+	}
+
+	@Override
+	public OptionalLong reduce(LongBinaryOperator op) {
+		return stream.reduce(op);
+	}
+
+	@Override
+	public <R> R collect(Supplier<R> supplier, ObjLongConsumer<R> accumulator, BiConsumer<R, R> combiner) {
+		return stream.collect(supplier, accumulator, combiner);
+	}
+
+	@Override
+	public long sum() {
+		return stream.sum();
+	}
+
+	@Override
+	public OptionalLong min() {
+		return stream.min();
+	}
+
+	@Override
+	public OptionalLong max() {
+		return stream.max();
+	}
+
+	@Override
+	public long count() {
+		return stream.count();
+	}
+
+	@Override
+	public OptionalDouble average() {
+		return stream.average();
+	}
+
+	@Override
+	public LongSummaryStatistics summaryStatistics() {
+		return stream.summaryStatistics();
+	}
+
+	@Override
+	public boolean anyMatch(LongPredicate predicate) {
+		return stream.anyMatch(predicate);
+	}
+
+	@Override
+	public boolean allMatch(LongPredicate predicate) {
+		return stream.allMatch(predicate);
+	}
+
+	@Override
+	public boolean noneMatch(LongPredicate predicate) {
+		return stream.noneMatch(predicate);
+	}
+
+	@Override
+	public OptionalLong findFirst() {
+		return stream.findFirst();
+	}
+
+	@Override
+	public OptionalLong findAny() {
+		return stream.findAny();
+	}
+
+	@Override
+	public PrimitiveIterator.OfLong iterator() {
+		return stream.iterator();
+	}
+
+	@Override
+	public Spliterator.OfLong spliterator() {
+		return stream.spliterator();
+	}
+
+	@Override
+	public boolean isParallel() {
+		return stream.isParallel();
+	}
+
+	@Override
+	public void close() {
+		stream.close();
+	}
+
+	static final class LimitWhile extends Spliterators.AbstractLongSpliterator implements LongConsumer {
+		private final Spliterator.OfLong source;
+		private final LongPredicate predicate;
+		private boolean done = false;
+		private long value;
+
+		LimitWhile(Spliterator.OfLong source, LongPredicate predicate) {
+			super(source.estimateSize(), source.characteristics() & (Spliterator.ORDERED | Spliterator.DISTINCT
+																		| Spliterator.SORTED | Spliterator.NONNULL));
+			this.source = source;
+			this.predicate = predicate;
+		}
+		@Override
+		public void accept(long value) {
+			this.value = value;
+		}
+		@Override
+		public boolean tryAdvance(LongConsumer action) {
+			if(done || !source.tryAdvance(this))
+				return false;
+			if(predicate.test(value)){
+				action.accept(value);
+				return true;
+			}
+			done = true;
+			return false;
+		}
+	}
+
+	static final class SkipWhile extends Spliterators.AbstractLongSpliterator implements LongConsumer {
+		private final Spliterator.OfLong source;
+		private final LongPredicate predicate;
+		private boolean skipping = true;
+		private long value;
+
+		SkipWhile(Spliterator.OfLong source, LongPredicate predicate) {
+			super(source.estimateSize(), source.characteristics() & (Spliterator.ORDERED | Spliterator.DISTINCT
+																		| Spliterator.SORTED | Spliterator.NONNULL));
+			this.source = source;
+			this.predicate = predicate;
+		}
+		@Override
+		public void accept(long value) {
+			this.value = value;
+		}
+		@Override
+		public boolean tryAdvance(LongConsumer action) {
+			if(skipping){
+				while(source.tryAdvance(this)){
+					if(!predicate.test(value)){
+						skipping = false;
+						action.accept(value);
+						return true;
+					}
+				}
+				return false;
+			}
+			return source.tryAdvance(action);
+		}
+	}
+}
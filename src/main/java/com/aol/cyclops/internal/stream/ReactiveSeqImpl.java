@@ -48,7 +48,10 @@ import org.reactivestreams.Subscription;
 import com.aol.cyclops.Monoid;
 import com.aol.cyclops.Reducer;
 import com.aol.cyclops.control.AnyM;
+import com.aol.cyclops.control.DoubleReactiveSeq;
 import com.aol.cyclops.control.For;
+import com.aol.cyclops.control.IntReactiveSeq;
+import com.aol.cyclops.control.LongReactiveSeq;
 import com.aol.cyclops.control.ReactiveSeq;
 import com.aol.cyclops.data.collections.extensions.CollectionX;
 import com.aol.cyclops.data.collections.extensions.standard.ListX;
@@ -1418,16 +1421,16 @@ public class ReactiveSeqImpl<T> implements Unwrapable, ReactiveSeq<T>, Iterable<
 	
 	
 	
-	public IntStream mapToInt(ToIntFunction<? super T> mapper) {
-		return stream.mapToInt(mapper);
+	public IntReactiveSeq mapToInt(ToIntFunction<? super T> mapper) {
+		return new IntReactiveSeqImpl(stream.mapToInt(mapper),reversable);
 	}
 	
-	public LongStream mapToLong(ToLongFunction<? super T> mapper) {
-		return stream.mapToLong(mapper);
+	public LongReactiveSeq mapToLong(ToLongFunction<? super T> mapper) {
+		return new LongReactiveSeqImpl(stream.mapToLong(mapper),reversable);
 	}
 	
-	public DoubleStream mapToDouble(ToDoubleFunction<? super T> mapper) {
-		return stream.mapToDouble(mapper);
+	public DoubleReactiveSeq mapToDouble(ToDoubleFunction<? super T> mapper) {
+		return new DoubleReactiveSeqImpl(stream.mapToDouble(mapper),reversable);
 	}
 	
 	public IntStream flatMapToInt(
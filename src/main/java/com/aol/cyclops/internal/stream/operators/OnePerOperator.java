@@ -17,9 +17,8 @@ public class OnePerOperator<T> {
     
 	public Stream<T> onePer( long time, TimeUnit t) {
 		Iterator<T> it = stream.iterator();
-		long next = t.toNanos(time);
+		Pacer pacer = new Pacer(time,t);
 		return StreamUtils.stream(new Iterator<T>(){
-			volatile long last = -1;
 			@Override
 			public boolean hasNext() {
 				return it.hasNext();
@@ -28,15 +27,29 @@ public class OnePerOperator<T> {
 			public T next() {
 				
 				T nextValue = it.next();
-			
-				long sleepFor = next-(System.nanoTime()-last);
-				
-				LockSupport.parkNanos(sleepFor);
-				
-				last= System.nanoTime();
+				pacer.await();
 				return nextValue;
 			}
 			
 		});
 	}
+	
+	/**
+	 * Spaces successive calls to await at least time apart (also used by the primitive ReactiveSeqs)
+	 */
+	public static class Pacer {
+		private final long interval;
+		private volatile long last = -1;
+		
+		public Pacer(long time, TimeUnit t){
+			this.interval = t.toNanos(time);
+		}
+		public void await(){
+			long sleepFor = interval-(System.nanoTime()-last);
+			
+			LockSupport.parkNanos(sleepFor);
+			
+			last= System.nanoTime();
+		}
+	}
 }
@@ -0,0 +1,128 @@
+package com.aol.cyclops.internal.stream.operators;
+
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.stream.Stream;
+
+import com.aol.cyclops.data.collections.extensions.standard.ListX;
+import com.aol.cyclops.data.collections.extensions.standard.ListXImpl;
+import com.aol.cyclops.util.stream.StreamUtils;
+import com.aol.cyclops.util.stream.Streamable;
+
+/**
+ * Sliding windows over a Stream, backed by a shared append-only buffer.
+ *
+ * Each window is a read-only view over a slice of the buffer. Slots are never overwritten, so a view
+ * remains valid if the consumer retains it. When the buffer is exhausted only the current window is copied
+ * into a fresh buffer (at least twice the window size), giving O(1) amortised cost per element.
+ *
+ * @param <T> Data type of the Stream
+ */
+public class SlidingOperator<T> {
+
+	private final Stream<T> stream;
+
+	public SlidingOperator(Stream<T> stream){
+		this.stream = stream;
+	}
+
+	public Stream<ListX<T>> sliding(int windowSize, int increment){
+		Iterator<List<T>> it = windows(windowSize,increment);
+		return StreamUtils.stream(new Iterator<ListX<T>>(){
+
+			@Override
+			public boolean hasNext() {
+				return it.hasNext();
+			}
+
+			@Override
+			public ListX<T> next() {
+				return new ListXImpl<>(it.next());
+			}
+
+		});
+	}
+	public Stream<Streamable<T>> window(int windowSize, int increment){
+		Iterator<List<T>> it = windows(windowSize,increment);
+		return StreamUtils.stream(new Iterator<Streamable<T>>(){
+
+			@Override
+			public boolean hasNext() {
+				return it.hasNext();
+			}
+
+			@Override
+			public Streamable<T> next() {
+				return Streamable.fromIterable(it.next());
+			}
+
+		});
+	}
+
+	private Iterator<List<T>> windows(int windowSize, int increment){
+		if(windowSize<1)
+			throw new IllegalArgumentException("Window size must be 1 or more");
+		Iterator<T> it = stream.iterator();
+		return new Iterator<List<T>>(){
+			Object[] buffer = new Object[Math.min(windowSize, 16)];
+			int start = 0;
+			int count = 0;
+
+			@Override
+			public boolean hasNext() {
+				return it.hasNext();
+			}
+
+			@Override
+			public List<T> next() {
+				int drop = Math.min(Math.max(increment, 0), count);
+				start += drop;
+				count -= drop;
+				while(count<windowSize && it.hasNext()){
+					if(start+count==buffer.length)
+						rollover();
+					buffer[start + count++] = it.next();
+				}
+				return new WindowView<>(buffer,start,count);
+			}
+
+			/*
+			 * Views may still reference the current buffer, so the live window is copied into a new
+			 * buffer rather than compacted in place
+			 */
+			private void rollover(){
+				int capacity = (int)Math.min(Integer.MAX_VALUE - 8, Math.max(16, 2L * Math.max(count, Math.min(windowSize, buffer.length))));
+				Object[] next = new Object[capacity];
+				System.arraycopy(buffer, start, next, 0, count);
+				buffer = next;
+				start = 0;
+			}
+		};
+	}
+
+	static final class WindowView<T> extends AbstractList<T> implements RandomAccess {
+		private final Object[] array;
+		private final int offset;
+		private final int size;
+
+		WindowView(Object[] array, int offset, int size){
+			this.array = array;
+			this.offset = offset;
+			this.size = size;
+		}
+
+		@Override
+		public T get(int index) {
+			if(index<0 || index>=size)
+				throw new IndexOutOfBoundsException("Index: "+index+", Size: "+size);
+			return (T)array[offset+index];
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+	}
+}
@@ -13,11 +13,21 @@ public class ClosingSpliterator<T> implements Spliterator<T> {
    
     private final Queue<T> queue;
     private final AtomicBoolean open;
+    private final AtomicBoolean connected;
 
     public ClosingSpliterator(long estimate,	
     		Queue queue, AtomicBoolean open) {
+        this(estimate,queue,open,new AtomicBoolean(true));
+       
+    }
+    /**
+     * @param connected Set to false once the Queue will receive no more data, even while the source remains open
+     */
+    public ClosingSpliterator(long estimate,	
+    		Queue queue, AtomicBoolean open, AtomicBoolean connected) {
         this.estimate = estimate;
         this.open = open;
+        this.connected = connected;
         this.queue = queue;
        
     }
@@ -40,12 +50,12 @@ public class ClosingSpliterator<T> implements Spliterator<T> {
 		 Objects.requireNonNull(action);
 		
 
-			if(!open.get() && queue.size()==0){
+			if(!isOpen() && queue.size()==0){
 				
 				return false;
 			}
 
-			while(open.get() || queue.size()>0){
+			while(isOpen() || queue.size()>0){
 				long nanos=1l;
 
         
@@ -63,6 +73,10 @@ public class ClosingSpliterator<T> implements Spliterator<T> {
         
 	}
 
+	private boolean isOpen(){
+		return open.get() && connected.get();
+	}
+
 	private T nullSafe(T value) {
 		return value;
 	}
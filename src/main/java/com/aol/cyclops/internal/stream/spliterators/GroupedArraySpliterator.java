@@ -0,0 +1,39 @@
+package com.aol.cyclops.internal.stream.spliterators;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * Groups consecutive elements of a primitive source into primitive arrays of groupSize (the last group may be smaller)
+ *
+ * @param <A> Primitive array type
+ */
+public class GroupedArraySpliterator<A> extends Spliterators.AbstractSpliterator<A> {
+
+	private final PrimitiveSource<A> source;
+	private final int groupSize;
+
+	public GroupedArraySpliterator(PrimitiveSource<A> source, int groupSize) {
+		super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+		this.source = source;
+		this.groupSize = groupSize;
+	}
+
+	@Override
+	public boolean tryAdvance(Consumer<? super A> action) {
+		A group = source.newArray(groupSize);
+		int size = 0;
+		while(size<groupSize && source.readInto(group, size))
+			size++;
+		if(size==0)
+			return false;
+		if(size<groupSize){
+			A last = source.newArray(size);
+			System.arraycopy(group, 0, last, 0, size);
+			group = last;
+		}
+		action.accept(group);
+		return true;
+	}
+}
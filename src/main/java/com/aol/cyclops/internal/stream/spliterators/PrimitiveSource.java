@@ -0,0 +1,109 @@
+package com.aol.cyclops.internal.stream.spliterators;
+
+import java.util.Spliterator;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+
+/**
+ * Reads the elements of a primitive Spliterator directly into primitive arrays (int[], long[] or double[]), so
+ * Spliterators that collect elements into arrays (see SlidingArraySpliterator, GroupedArraySpliterator) can be
+ * shared by IntReactiveSeq, LongReactiveSeq and DoubleReactiveSeq without boxing.
+ *
+ * @param <A> Primitive array type
+ */
+public abstract class PrimitiveSource<A> {
+
+	/**
+	 * @param size Array length
+	 * @return New array of this source's primitive type
+	 */
+	public abstract A newArray(int size);
+
+	/**
+	 * Read the next element from the source into buffer[index]
+	 *
+	 * @return false if the source has no more elements
+	 */
+	public abstract boolean readInto(A buffer, int index);
+
+	public static PrimitiveSource<int[]> ofInt(Spliterator.OfInt source){
+		return new IntSource(source);
+	}
+	public static PrimitiveSource<long[]> ofLong(Spliterator.OfLong source){
+		return new LongSource(source);
+	}
+	public static PrimitiveSource<double[]> ofDouble(Spliterator.OfDouble source){
+		return new DoubleSource(source);
+	}
+
+	private static final class IntSource extends PrimitiveSource<int[]> implements IntConsumer {
+		private final Spliterator.OfInt source;
+		private int[] buffer;
+		private int index;
+
+		IntSource(Spliterator.OfInt source){
+			this.source = source;
+		}
+		@Override
+		public int[] newArray(int size) {
+			return new int[size];
+		}
+		@Override
+		public boolean readInto(int[] buffer, int index) {
+			this.buffer = buffer;
+			this.index = index;
+			return source.tryAdvance(this);
+		}
+		@Override
+		public void accept(int value) {
+			buffer[index] = value;
+		}
+	}
+	private static final class LongSource extends PrimitiveSource<long[]> implements LongConsumer {
+		private final Spliterator.OfLong source;
+		private long[] buffer;
+		private int index;
+
+		LongSource(Spliterator.OfLong source){
+			this.source = source;
+		}
+		@Override
+		public long[] newArray(int size) {
+			return new long[size];
+		}
+		@Override
+		public boolean readInto(long[] buffer, int index) {
+			this.buffer = buffer;
+			this.index = index;
+			return source.tryAdvance(this);
+		}
+		@Override
+		public void accept(long value) {
+			buffer[index] = value;
+		}
+	}
+	private static final class DoubleSource extends PrimitiveSource<double[]> implements DoubleConsumer {
+		private final Spliterator.OfDouble source;
+		private double[] buffer;
+		private int index;
+
+		DoubleSource(Spliterator.OfDouble source){
+			this.source = source;
+		}
+		@Override
+		public double[] newArray(int size) {
+			return new double[size];
+		}
+		@Override
+		public boolean readInto(double[] buffer, int index) {
+			this.buffer = buffer;
+			this.index = index;
+			return source.tryAdvance(this);
+		}
+		@Override
+		public void accept(double value) {
+			buffer[index] = value;
+		}
+	}
+}
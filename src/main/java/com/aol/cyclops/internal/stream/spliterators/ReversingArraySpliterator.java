@@ -4,64 +4,98 @@ import java.util.Objects;
 import java.util.Spliterator;
 import java.util.function.Consumer;
 
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.Setter;
-@AllArgsConstructor
+
+/**
+ * Spliterator over the array slice [lo,hi) that can traverse in either direction,
+ * and splits into balanced halves (in encounter order) for parallel traversal.
+ *
+ * @param <T> Element type
+ */
 public class ReversingArraySpliterator<T> implements Spliterator<T>, ReversableSpliterator {
-	
-	
+
 	private final Object[] array;
 	@Getter @Setter
 	private boolean reverse;
-	    
-	int index=0;
+
+	private int lo;
+	private int hi;
+
+	public ReversingArraySpliterator(Object[] array, boolean reverse, int index) {
+		this(array, reverse, index, array.length);
+	}
+
+	private ReversingArraySpliterator(Object[] array, boolean reverse, int lo, int hi) {
+		this.array = array;
+		this.reverse = reverse;
+		this.lo = lo;
+		this.hi = hi;
+	}
+
     @Override
     public long estimateSize() {
-        return array.length;
+        return hi - lo;
     }
 
     @Override
     public int characteristics() {
-        return IMMUTABLE;
+        return IMMUTABLE | ORDERED | SIZED | SUBSIZED;
     }
-    
+
     public ReversingArraySpliterator<T> invert(){
 		setReverse(!isReverse());
-		index = array.length-1;
 		return this;
 	}
 
 	@Override
 	public boolean tryAdvance(Consumer<? super T> action) {
-		 Objects.requireNonNull(action);
-		 
-		 if(!reverse){
-			 if(index<array.length && index>-1){
-				 action.accept((T)array[index++]);
-				 return true;
-			 }
-		 }
-		 else{
-			 if(index>-1 & index<array.length){
-				 action.accept((T)array[index--]);
-				 return true;
-			 }
-		 }
-			return false;
-        
+		Objects.requireNonNull(action);
+		if(lo<hi){
+			action.accept((T)array[reverse ? --hi : lo++]);
+			return true;
+		}
+		return false;
+	}
+
+	@Override
+	public void forEachRemaining(Consumer<? super T> action) {
+		Objects.requireNonNull(action);
+		int from = lo;
+		int to = hi;
+		lo = hi;
+		if(!reverse){
+			for(int i=from;i<to;i++)
+				action.accept((T)array[i]);
+		}
+		else{
+			for(int i=to-1;i>=from;i--)
+				action.accept((T)array[i]);
+		}
 	}
 
+	/*
+	 * Splits off the half of the remaining elements that comes first in encounter order
+	 * (the lower half going forward, the upper half when reversed)
+	 */
 	@Override
 	public Spliterator<T> trySplit() {
-		
-		return this;
+		if(hi-lo<2)
+			return null;
+		int mid = (lo + hi) >>> 1;
+		if(!reverse){
+			ReversingArraySpliterator<T> prefix = new ReversingArraySpliterator<T>(array, false, lo, mid);
+			lo = mid;
+			return prefix;
+		}
+		ReversingArraySpliterator<T> prefix = new ReversingArraySpliterator<T>(array, true, mid, hi);
+		hi = mid;
+		return prefix;
 	}
 
 	@Override
 	public ReversableSpliterator copy() {
-		return new ReversingArraySpliterator<T>(array, reverse, index);
+		return new ReversingArraySpliterator<T>(array, reverse, lo, hi);
 	}
 
-   
 }
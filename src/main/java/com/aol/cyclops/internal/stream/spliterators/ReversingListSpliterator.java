@@ -3,81 +3,110 @@ package com.aol.cyclops.internal.stream.spliterators;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Objects;
+import java.util.RandomAccess;
 import java.util.Spliterator;
 import java.util.function.Consumer;
 
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.Setter;
-@AllArgsConstructor
+
+/**
+ * Spliterator over the sub-list [lo,hi) that can traverse in either direction.
+ *
+ * The upper bound is bound late (on first use) to the size of the list. RandomAccess lists are split
+ * into balanced halves (in encounter order) for parallel traversal, other lists are traversed
+ * via a ListIterator positioned at the appropriate end of the remaining range and are not split.
+ *
+ * @param <T> Element type
+ */
 public class ReversingListSpliterator<T> implements Spliterator<T>, ReversableSpliterator {
-	
-	
-	   
-	
+
 		private final List<T> list;
+		private final boolean randomAccess;
 		private ListIterator<T> it;
 		@Getter @Setter
 		private boolean reverse = false;
+		private int lo;
+		private int hi;
+
 		public ReversingListSpliterator(List<T> elements, boolean reverse) {
+			this(elements, reverse, 0, -1);
+		}
+
+		private ReversingListSpliterator(List<T> elements, boolean reverse, int lo, int hi) {
 			this.list =elements;
 			this.reverse = reverse;
-			this.it = elements.listIterator();
-			
+			this.randomAccess = elements instanceof RandomAccess;
+			this.lo = lo;
+			this.hi = hi;
 		}
-		
+
 		public  ReversingListSpliterator<T> invert(){
 			setReverse(!isReverse());
-			it = list.listIterator(list.size());
+			it = null;
 			return this;
 		}
 		public ReversableSpliterator copy(){
-			return new ReversingListSpliterator(list,reverse);
-			
+			return new ReversingListSpliterator<T>(list,reverse,lo,hi);
+
+		}
+		private int hi(){
+			if(hi<0)
+				hi = list.size();
+			return hi;
 		}
 	    @Override
 	    public long estimateSize() {
-	        return list.size();
+	        return hi() - lo;
 	    }
 
 	    @Override
 	    public int characteristics() {
-	        return IMMUTABLE;
+	        return IMMUTABLE | ORDERED | SIZED | SUBSIZED;
 	    }
-	    
-
 
 		@Override
 		public boolean tryAdvance(Consumer<? super T> action) {
 			 Objects.requireNonNull(action);
-			 
+			 if(lo>=hi())
+				 return false;
+			 if(randomAccess){
+				 action.accept(list.get(reverse ? --hi : lo++));
+				 return true;
+			 }
 			 if(!reverse){
-				 if(it.hasNext()){
-					 action.accept(it.next());
-					 return true;
-				 }
-					 
+				 if(it==null)
+					 it = list.listIterator(lo);
+				 lo++;
+				 action.accept(it.next());
 			 }
 			 else{
-				 if(it.hasPrevious()){
-					 action.accept(it.previous());
-					 return true;
-				 }
-					
+				 if(it==null)
+					 it = list.listIterator(hi);
+				 hi--;
+				 action.accept(it.previous());
 			 }
-				return false;
-	        
+			 return true;
 		}
 
-		
-	
+	/*
+	 * Splits off the half of the remaining elements that comes first in encounter order
+	 * (the lower half going forward, the upper half when reversed)
+	 */
 	@Override
 	public Spliterator<T> trySplit() {
-		
-		return this;
+		int hi = hi();
+		if(!randomAccess || it!=null || hi-lo<2)
+			return null;
+		int mid = (lo + hi) >>> 1;
+		if(!reverse){
+			ReversingListSpliterator<T> prefix = new ReversingListSpliterator<T>(list, false, lo, mid);
+			lo = mid;
+			return prefix;
+		}
+		ReversingListSpliterator<T> prefix = new ReversingListSpliterator<T>(list, true, mid, hi);
+		this.hi = mid;
+		return prefix;
 	}
 
-	
-
-   
 }
@@ -4,81 +4,93 @@ import java.util.Objects;
 import java.util.Spliterator;
 import java.util.function.IntConsumer;
 
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.Setter;
 
-
+/**
+ * Spliterator over the range [min,max) that can traverse in either direction.
+ *
+ * The remaining elements are tracked as a half-open interval [lo,hi) so that it can be
+ * split into balanced halves (in encounter order) for parallel traversal.
+ *
+ */
 public class ReversingRangeIntSpliterator implements Spliterator.OfInt, ReversableSpliterator {
-  
-    private final int min;
-    private final int max;
-    private int index;
-    
+
+    private int lo;
+    private int hi;
+
     @Getter @Setter
     private boolean reverse;
-   
+
     public ReversingRangeIntSpliterator(int min, int max, boolean reverse) {
-        this.min = Math.min(min,max)-1;
-        this.max = Math.max(min,max);
-        this.reverse = this.max >= this.min ? reverse : !reverse;
-        this.index = Math.min(min,max);
+        this.lo = Math.min(min,max);
+        this.hi = Math.max(min,max);
+        this.reverse = reverse;
     }
     public ReversableSpliterator invert(){
 		setReverse(!isReverse());
-		index = max-1;
 		return this;
 	}
 
     @Override
     public boolean tryAdvance(IntConsumer consumer) {
         Objects.requireNonNull(consumer);
-        if(!reverse){
-        	if(index<max && index>min){
-        		consumer.accept(index++);
-        		return true;
-        	}
-        }
-        if(reverse){
-        	if(index>min && index<max){
-        		consumer.accept(index--);
-        		return true;
-        	}
+        if(lo<hi){
+        	consumer.accept(reverse ? --hi : lo++);
+        	return true;
         }
         return false;
     }
 
-    
+    @Override
+    public void forEachRemaining(IntConsumer consumer) {
+    	Objects.requireNonNull(consumer);
+    	int from = lo;
+    	int to = hi;
+    	lo = hi;
+    	if(!reverse){
+    		for(int i=from;i<to;)
+    			consumer.accept(i++);
+    	}
+    	else{
+    		for(int i=to;i>from;)
+    			consumer.accept(--i);
+    	}
+    }
 
     @Override
     public long estimateSize() {
-      return max;
+      return (long)hi - (long)lo;
     }
 
     @Override
     public int characteristics() {
-        return IMMUTABLE;
+        return IMMUTABLE | ORDERED | DISTINCT | NONNULL | SIZED | SUBSIZED;
     }
-   
+
+    /*
+     * Splits off the half of the remaining range that comes first in encounter order
+     * (the lower half going forward, the upper half when reversed)
+     */
     @Override
     public Spliterator.OfInt trySplit() {
-        return this;
+    	long size = estimateSize();
+        if(size<2)
+        	return null;
+        int mid = (int)(lo + (size>>>1));
+        if(!reverse){
+        	ReversingRangeIntSpliterator prefix = new ReversingRangeIntSpliterator(lo, mid, false);
+        	lo = mid;
+        	return prefix;
+        }
+        ReversingRangeIntSpliterator prefix = new ReversingRangeIntSpliterator(mid, hi, true);
+        hi = mid;
+        return prefix;
     }
 
-
-
-	
-
-
-	
-
-
 	@Override
 	public ReversableSpliterator copy() {
-		return new ReversingRangeIntSpliterator(index, max, reverse);
+		return new ReversingRangeIntSpliterator(lo, hi, reverse);
 	}
 
-   
-
-    
-}
\ No newline at end of file
+}
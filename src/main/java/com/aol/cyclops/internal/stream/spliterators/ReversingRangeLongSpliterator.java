@@ -4,70 +4,96 @@ import java.util.Objects;
 import java.util.Spliterator;
 import java.util.function.LongConsumer;
 
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.Setter;
 
-@AllArgsConstructor
+/**
+ * Spliterator over the range [min,max) that can traverse in either direction.
+ *
+ * The remaining elements are tracked as a half-open interval [lo,hi) so that it can be
+ * split into balanced halves (in encounter order) for parallel traversal. Ranges wider than
+ * Long.MAX_VALUE are reported as unsized.
+ *
+ */
 public class ReversingRangeLongSpliterator implements Spliterator.OfLong, ReversableSpliterator {
-  
-    private long index;
-    private final long min;
-    private final long max;
+
+    private long lo;
+    private long hi;
     @Getter @Setter
     private boolean reverse;
-   
+
     public ReversingRangeLongSpliterator(long min, long max, boolean reverse) {
-        this.min = Math.min(min,max)-1;
-        this.max = Math.max(min,max);
-        this.reverse = this.max >= this.min ? reverse : !reverse;
-        this.index = Math.min(min,max);
+        this.lo = Math.min(min,max);
+        this.hi = Math.max(min,max);
+        this.reverse = reverse;
     }
     public ReversableSpliterator invert(){
 		setReverse(!isReverse());
-		index = max-1;
 		return this;
 	}
 
     @Override
     public boolean tryAdvance(LongConsumer consumer) {
         Objects.requireNonNull(consumer);
-        if(!reverse){
-        	if(index<max && index>min){
-        		consumer.accept(index++);
-        		return true;
-        	}
-        }
-        if(reverse){
-        	if(index>min && index<max){
-        		consumer.accept(index--);
-        		return true;
-        	}
+        if(lo<hi){
+        	consumer.accept(reverse ? --hi : lo++);
+        	return true;
         }
         return false;
     }
 
-    
+    @Override
+    public void forEachRemaining(LongConsumer consumer) {
+    	Objects.requireNonNull(consumer);
+    	long from = lo;
+    	long to = hi;
+    	lo = hi;
+    	if(!reverse){
+    		for(long i=from;i<to;)
+    			consumer.accept(i++);
+    	}
+    	else{
+    		for(long i=to;i>from;)
+    			consumer.accept(--i);
+    	}
+    }
 
     @Override
     public long estimateSize() {
-      return max;
+    	long size = hi - lo;
+    	return size < 0 ? Long.MAX_VALUE : size;
     }
 
     @Override
     public int characteristics() {
-        return IMMUTABLE;
+    	if(hi - lo < 0)
+    		return IMMUTABLE | ORDERED | DISTINCT | NONNULL;
+        return IMMUTABLE | ORDERED | DISTINCT | NONNULL | SIZED | SUBSIZED;
     }
-   
+
+    /*
+     * Splits off the half of the remaining range that comes first in encounter order
+     * (the lower half going forward, the upper half when reversed)
+     */
     @Override
     public Spliterator.OfLong trySplit() {
-        return this;
+    	long size = hi - lo;
+    	if(size>=0 && size<2)
+    		return null;
+        long mid = lo + (size>>>1);
+        if(!reverse){
+        	ReversingRangeLongSpliterator prefix = new ReversingRangeLongSpliterator(lo, mid, false);
+        	lo = mid;
+        	return prefix;
+        }
+        ReversingRangeLongSpliterator prefix = new ReversingRangeLongSpliterator(mid, hi, true);
+        hi = mid;
+        return prefix;
     }
 
 	@Override
 	public ReversableSpliterator copy() {
-		return new ReversingRangeLongSpliterator(index, max, reverse);
+		return new ReversingRangeLongSpliterator(lo, hi, reverse);
 	}
 
-    
-}
\ No newline at end of file
+}
@@ -0,0 +1,59 @@
+package com.aol.cyclops.internal.stream.spliterators;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * Sliding windows over a primitive source, each window emitted as a primitive array
+ *
+ * Windows are held in a circular buffer, each window is copied out in encounter order.
+ * Matches the semantics of StreamUtils#sliding : the first window is filled from the source,
+ * subsequent windows are only emitted while the source has more elements, dropping increment elements
+ * from the front and refilling.
+ *
+ * @param <A> Primitive array type
+ */
+public class SlidingArraySpliterator<A> extends Spliterators.AbstractSpliterator<A> {
+
+	private final PrimitiveSource<A> source;
+	private final int windowSize;
+	private final int increment;
+	private final A buffer;
+	private int start = 0;
+	private int count = 0;
+	private boolean first = true;
+
+	public SlidingArraySpliterator(PrimitiveSource<A> source, int windowSize, int increment) {
+		super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+		this.source = source;
+		this.windowSize = windowSize;
+		this.increment = increment;
+		this.buffer = source.newArray(windowSize);
+	}
+
+	@Override
+	public boolean tryAdvance(Consumer<? super A> action) {
+		if(first)
+			first = false;
+		else{
+			//a short window means the source is exhausted, otherwise the next element is read into the slot
+			//of the oldest element, which is always dropped (and becomes the first slot after the retained elements)
+			if(count<windowSize || !source.readInto(buffer, start))
+				return false;
+			int drop = Math.min(increment, count);
+			start = (start + drop) % windowSize;
+			count = count - drop + 1;
+		}
+		while(count<windowSize && source.readInto(buffer, (start + count) % windowSize))
+			count++;
+		if(count==0)
+			return false;
+		A window = source.newArray(count);
+		int firstPart = Math.min(count, windowSize - start);
+		System.arraycopy(buffer, start, window, 0, firstPart);
+		System.arraycopy(buffer, 0, window, firstPart, count - firstPart);
+		action.accept(window);
+		return true;
+	}
+}
@@ -22,6 +22,13 @@ public class ThreadPools {
 	@Getter
 	private static final Executor commonLazyExecutor = new ForkJoinPool(1);
 	
+	/**
+	 * Threads for Reactive Streams subscriptions that block waiting on a Queue, grows with the number of active subscriptions 
+	 * (idle threads are released after a minute)
+	 */
+	@Getter
+	private static final Executor queueSubscriptionExecutor = Executors.newCachedThreadPool();
+	
 	@Getter
 	private static final ScheduledExecutorService commonFreeThreadRetry = Executors.newScheduledThreadPool(1);
 	
@@ -1,140 +1,194 @@
 package com.aol.cyclops.react.async.subscription;
 
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.function.Function;
-import java.util.stream.Collectors;
-
-import lombok.AllArgsConstructor;
-import lombok.Getter;
-import lombok.Setter;
-
-import org.jooq.lambda.Seq;
 
 import com.aol.cyclops.data.async.Queue;
 
-@Getter
-@Setter
+/**
+ * Tracks the limit / skip state of each Queue in a chain of async stream stages.
+ *
+ * Queues are held in registration order in arrays indexed by position. The effective limit of each Queue
+ * (the smallest limit of that Queue and every Queue registered after it, extended by any skips registered in between)
+ * is precomputed whenever the chain changes, so the per-element check in {@link #closeQueueIfFinished(Queue)} is a single atomic increment and comparison.
+ *
+ * Registration is rare (once per stage) and synchronized; the per-element path reads the current arrays without locking.
+ */
 public class Subscription implements Continueable{
-	private final Map<Queue,AtomicLong> limits = new HashMap<>();
-	
-	private final Map<Queue,AtomicBoolean> unlimited = new HashMap<>();
-	private final Map<Queue,AtomicLong> count = new HashMap<>();
-	private final List<Queue> queues = new LinkedList<>();
-	
-	private final AtomicBoolean closed=  new AtomicBoolean(false);
-	
+	private static final long UNLIMITED = Long.MAX_VALUE-1;
+
+	private volatile Queue[] queues = new Queue[0];
+	private volatile AtomicLong[] counts = new AtomicLong[0];
+	private long[] limits = new long[0];
+	private boolean[] unlimited = new boolean[0];
+	private long[] skips = new long[0];
+	private volatile long[] effectiveLimits = new long[0];
+
+	private volatile boolean closed = false;
+
 	private final AtomicLong timeLimitNanos = new AtomicLong(-1);
-	
+
 	public long timeLimit(){
 		return timeLimitNanos.get();
 	}
-	public void registerSkip(long skip){
-		if(queues.size()>0)
-			limits.get(currentQueue()).addAndGet(skip);
+	/**
+	 * @return Queues in registration order
+	 */
+	public List<Queue> getQueues(){
+		return Collections.unmodifiableList(Arrays.asList(queues));
+	}
+	/**
+	 * @return Snapshot of the limit registered against each Queue (Long.MAX_VALUE-1 if unlimited)
+	 */
+	public synchronized Map<Queue,AtomicLong> getLimits(){
+		Map<Queue,AtomicLong> result = new HashMap<>();
+		for(int i=0;i<queues.length;i++)
+			result.put(queues[i], new AtomicLong(limits[i]));
+		return result;
+	}
+	public synchronized void registerSkip(long skip){
+		int current = queues.length-1;
+		if(current<0)
+			return;
+		skips[current] = saturatedAdd(skips[current],skip);
+		computeEffectiveLimits();
 	}
 	public void registerTimeLimit(long nanos){
 		if(timeLimitNanos.get()==-1 || timeLimitNanos.get()>nanos)
 			timeLimitNanos.set(nanos);
 	}
-	public void registerLimit(long limit){
-		
-		if(queues.size()>0){
-			if(unlimited.get(currentQueue()).get())
-				limits.get(currentQueue()).set(0);
-			
-			limits.get(currentQueue()).addAndGet(limit);
-			unlimited.get(currentQueue()).set(false);
-			
-			queues.stream().forEach(this::closeQueueIfFinishedStateless);
-			
-		}
-	}
-	private Queue currentQueue() {
-		return queues.get(queues.size()-1);
+	public synchronized void registerLimit(long limit){
+		int current = queues.length-1;
+		if(current<0)
+			return;
+		if(unlimited[current])
+			limits[current] = 0;
+		limits[current] = saturatedAdd(limits[current],limit);
+		unlimited[current] = false;
+		computeEffectiveLimits();
+
+		for(Queue q : queues)
+			closeQueueIfFinishedStateless(q);
 	}
-	public void addQueue(Queue q){
-	
-		queues.add(q);
-		limits.put(q, new AtomicLong(Long.MAX_VALUE-1));
-		unlimited.put(q, new AtomicBoolean(true));
-		count.put(q, new AtomicLong(0l));
-		
+	public synchronized void addQueue(Queue q){
+		int existing = findQueue(queues,q);
+		int size = queues.length;
+		Queue[] nextQueues = Arrays.copyOf(queues, size+1);
+		AtomicLong[] nextCounts = Arrays.copyOf(counts, size+1);
+		long[] nextLimits = Arrays.copyOf(limits, size+1);
+		boolean[] nextUnlimited = Arrays.copyOf(unlimited, size+1);
+		long[] nextSkips = Arrays.copyOf(skips, size+1);
+		nextQueues[size] = q;
+		nextCounts[size] = new AtomicLong(0l);
+		nextLimits[size] = UNLIMITED;
+		nextUnlimited[size] = true;
+		if(existing>=0){ //re-registering a Queue resets its state, shared by every entry for that Queue
+			for(int i=0;i<size;i++){
+				if(nextQueues[i]==q){
+					nextCounts[i] = nextCounts[size];
+					nextLimits[i] = UNLIMITED;
+					nextUnlimited[i] = true;
+					nextSkips[i] = 0;
+				}
+			}
+		}
+		limits = nextLimits;
+		unlimited = nextUnlimited;
+		skips = nextSkips;
+		computeEffectiveLimits();
+		counts = nextCounts;
+		queues = nextQueues; //published last, readers index counts and effectiveLimits via queues
 	}
-	
-	
+
+
 	public void closeQueueIfFinished(Queue queue){
-		
-		closeQueueIfFinished(queue,AtomicLong::incrementAndGet);
-		
+
+		closeQueueIfFinished(queue,true);
+
 	}
-	private void closeQueueIfFinished(Queue queue, Function<AtomicLong,Long> fn){
-		
-		if(queues.size()==0)
+	private void closeQueueIfFinished(Queue queue, boolean increment){
+		int index = findQueue(queues,queue);
+		if(index<0)
 			return;
-		
-		long queueCount = fn.apply(count.get(queue));
-		long limit = valuesToRight(queue).stream().reduce((acc,next)-> Math.min(acc, next)).get();
-		
-		
-		
-		
+		AtomicLong count = counts[index];
+		long queueCount = increment ? count.incrementAndGet() : count.get();
+		long limit = effectiveLimits[index];
+
 		if(queueCount>=limit){ //last entry - close THIS queue only!
-			
+
 			queue.closeAndClear();
-			closed.set(true);
+			closed = true;
 		}
-		
-		
+
+
 	}
 	public void closeQueueIfFinishedStateless(Queue queue){
-	
-		closeQueueIfFinished(queue,AtomicLong::get);
-			
-	}
-	private List<Long> valuesToRight(Queue queue) {
-		return Seq.seq(queues.stream()).splitAt(findQueue(queue)).v2.map(limits::get).map(AtomicLong::get).collect(Collectors.toList());
-		
-	}
-	private Seq<Queue> queuesToLeft(Queue queue) {
-		return Seq.seq(queues.stream()).splitAt(findQueue(queue)).v1;
-		
-	}
-	
-	private int findQueue(Queue queue){
-		for(int i=0;i< queues.size();i++){
-			if(queues.get(i) == queue)
+
+		closeQueueIfFinished(queue,false);
+
+	}
+	/*
+	 * Called with the lock held, publishes a new effectiveLimits array so that
+	 * lock-free readers never observe a partially computed suffix minimum.
+	 *
+	 * A skip registered while a Queue is current is applied either by the stage reading that Queue (operations on futures)
+	 * or by the stage reading the next Queue, so it is counted against both. Over-counting only delays closing a Queue,
+	 * under-counting drops elements the skip needs to consume.
+	 */
+	private void computeEffectiveLimits(){
+		long[] effective = new long[limits.length];
+		long min = Long.MAX_VALUE;
+		for(int i=limits.length-1;i>=0;i--){
+			min = saturatedAdd(Math.min(min, limits[i]), skips[i]);
+			effective[i] = i>0 ? saturatedAdd(min, skips[i-1]) : min;
+		}
+		effectiveLimits = effective;
+	}
+	private static long saturatedAdd(long a, long b){
+		long result = a + b;
+		if(b>0 && result<a)
+			return UNLIMITED;
+		return Math.min(result, UNLIMITED);
+	}
+
+	private static int findQueue(Queue[] queues, Queue queue){
+		for(int i=0;i< queues.length;i++){
+			if(queues[i] == queue)
 				return i;
 		}
 		return -1;
 	}
 	@Override
 	public void closeAll(Queue queue) {
-		
-	
-		closed.set(true);
+
+
+		closed = true;
 		if(queue!=null){
 		    queue.closeAndClear();
-		    queuesToLeft(queue).forEach(Queue::closeAndClear);
+		    Queue[] current = queues;
+		    int index = findQueue(current,queue);
+		    for(int i=0;i<index;i++)
+		    	current[i].closeAndClear();
 		}
-	
+
 	}
 	public void closeAll() {
-			
-		closed.set(true);
-	
-		queues.stream().forEach(Queue::closeAndClear);
-	
-		
+
+		closed = true;
+
+		for(Queue q : queues)
+			q.closeAndClear();
+
+
 	}
 	@Override
 	public boolean closed() {
-		return closed.get();
+		return closed;
 	}
 }
 /**
@@ -146,4 +200,3 @@ stream no limit
 	q2:limit (2)
 	q3:limit (8)
 	**/
-
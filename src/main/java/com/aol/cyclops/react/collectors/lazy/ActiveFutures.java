@@ -0,0 +1,136 @@
+package com.aol.cyclops.react.collectors.lazy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+import com.aol.cyclops.internal.react.async.future.FastFuture;
+import com.aol.cyclops.internal.react.async.future.FastFuture.OnComplete;
+
+/**
+ * Tracks in flight futures for the lazy collectors, admission is driven by completion callbacks rather than by scanning.
+ *
+ * Each tracked future increments an in-flight counter and registers a callback that decrements it and hands the future over
+ * to be collected. Once more than maxActive futures are in flight, admit parks until completions bring the count down to reduceTo.
+ * FastFuture calls every completion listener at least once (even if another listener throws), so no re-scan of the in flight futures is needed.
+ * Where the MaxActive is adaptive, completion latency (measured from the point of tracking) is sampled on each completion.
+ *
+ * track, admit, drainCompleted and removeActive should be called from a single thread, completion callbacks may run on any thread.
+ *
+ * @param <T> Result type
+ */
+class ActiveFutures<T> {
+
+	private final Map<FastFuture<T>,Tracked> active = new ConcurrentHashMap<>();
+	private final ConcurrentLinkedQueue<FastFuture<T>> completed = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger inFlight = new AtomicInteger(0);
+	private final AtomicReference<Thread> blocked = new AtomicReference<>();
+	private long sequence = 0;
+
+	/**
+	 * Start tracking a future (without admission control)
+	 *
+	 * @param t Future to track
+	 * @param maxActive Limits to release blocked admissions against, and to sample latency to
+	 */
+	void track(FastFuture<T> t,MaxActive maxActive){
+		Tracked tracked = new Tracked(sequence++,maxActive.isAdaptive() ? System.nanoTime() : 0l);
+		if(active.put(t,tracked)==null)
+			inFlight.incrementAndGet();
+		//else a pooled future has been reused, the previous tracking entry has been replaced
+		t.onComplete(c->completed(t,tracked,c,maxActive)); //may run immediately, if t is already done
+	}
+	/**
+	 * Start tracking a future, parking the calling thread while more than maxActive futures are in flight
+	 *
+	 * @param t Future to track
+	 * @param maxActive Limits
+	 */
+	void admit(FastFuture<T> t,MaxActive maxActive){
+		track(t,maxActive);
+		if(inFlight.get()>maxActive.getMaxActive()){
+			awaitReduceTo(maxActive);
+		}
+	}
+	/*
+	 * Called at least once per completed future, only the first call (which removes the future from active) counts
+	 */
+	private void completed(FastFuture<T> t,Tracked tracked,OnComplete c,MaxActive maxActive){
+		if(!active.remove(t,tracked))
+			return;
+		int remaining = inFlight.decrementAndGet();
+		if(tracked.start!=0l)
+			maxActive.sample(System.nanoTime()-tracked.start,remaining+1,c.exceptionally);
+		completed.add(t);
+		if(remaining<=maxActive.getReduceTo()){
+			Thread waiting = blocked.get();
+			if(waiting!=null)
+				LockSupport.unpark(waiting);
+		}
+	}
+	/*
+	 * Park the tracking thread until enough in flight futures have completed.
+	 * blocked is published before inFlight is re-checked, and completion decrements inFlight before reading blocked,
+	 * so at least one side always sees the other and a wake up can't be lost.
+	 */
+	private void awaitReduceTo(MaxActive maxActive){
+		blocked.set(Thread.currentThread());
+		try{
+			while(inFlight.get()>maxActive.getReduceTo()){
+				LockSupport.park(this); //spurious wake ups re-check the count
+			}
+		}finally{
+			blocked.set(null);
+		}
+	}
+	/**
+	 * @param c Consumer to hand each completed future to, in the order they completed
+	 */
+	void drainCompleted(Consumer<FastFuture<T>> c){
+		FastFuture<T> next;
+		while((next=completed.poll())!=null)
+			c.accept(next);
+	}
+	/**
+	 * @return All futures still in flight, in the order they were tracked (they are no longer tracked)
+	 */
+	List<FastFuture<T>> removeActive(){
+		List<Map.Entry<FastFuture<T>,Tracked>> entries = new ArrayList<>(active.entrySet());
+		entries.sort((a,b)->Long.compare(a.getValue().sequence, b.getValue().sequence));
+		List<FastFuture<T>> removed = new ArrayList<>(entries.size());
+		for(Map.Entry<FastFuture<T>,Tracked> e : entries){
+			if(active.remove(e.getKey(),e.getValue())){
+				inFlight.decrementAndGet();
+				removed.add(e.getKey());
+			}
+		}
+		return removed;
+	}
+	/**
+	 * @return Snapshot of the futures still in flight
+	 */
+	List<FastFuture<T>> active(){
+		return new ArrayList<>(active.keySet());
+	}
+	/**
+	 * @return Number of futures in flight
+	 */
+	int size(){
+		return inFlight.get();
+	}
+
+	private static final class Tracked{
+		final long sequence;
+		final long start;
+		Tracked(long sequence,long start){
+			this.sequence = sequence;
+			this.start = start;
+		}
+	}
+}
@@ -0,0 +1,159 @@
+package com.aol.cyclops.react.collectors.lazy;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import lombok.Getter;
+
+/**
+ * A MaxActive whose in-flight limit adapts to the observed completion latency of tasks.
+ *
+ * By Little's law the number of tasks in flight is throughput multiplied by latency, so while latency stays close to the
+ * no-load baseline a higher limit buys more throughput, and once latency climbs above it extra tasks are only queueing
+ * (in the executor or in the downstream dependency). Each completion updates a short and a long term average latency,
+ * the limit is then scaled by the gradient between them (between 0.5 and 1) and grown by a queue allowance of sqrt(limit).
+ * Failed tasks back the limit off multiplicatively.
+ *
+ * Samples arriving while another thread is updating the limit are dropped, so completions never block on each other.
+ * An instance holds state, streams sharing it share (and tune) the same limit.
+ *
+ * <pre>
+ * {@code
+ *  AdaptiveMaxActive limit = MaxActive.adaptive();
+ *  new LazyReact().withMaxActive(limit)
+ *                 .from(urls)
+ *                 .map(this::callRemoteService)
+ *                 .forEach(this::save);
+ *
+ *  limit.getMaxActive(); //current limit
+ *  limit.getLatency(TimeUnit.MILLISECONDS); //observed latency
+ * }
+ * </pre>
+ */
+public class AdaptiveMaxActive extends MaxActive {
+
+	private static final double SHORT_SMOOTHING = 2d/(10+1);
+	private static final double LONG_SMOOTHING = 2d/(600+1);
+	private static final double LIMIT_SMOOTHING = 0.2;
+	private static final double TOLERANCE = 1.5;
+	private static final double BACKOFF = 0.9;
+
+	@Getter
+	private final int minLimit;
+	@Getter
+	private final int maxLimit;
+	private volatile double limit;
+	private volatile double shortLatency = 0;
+	private volatile double longLatency = 0;
+	private final AtomicBoolean updating = new AtomicBoolean(false);
+
+	/**
+	 * @param initialLimit Starting in-flight limit
+	 * @param minLimit Lowest in-flight limit
+	 * @param maxLimit Highest in-flight limit
+	 */
+	public AdaptiveMaxActive(int initialLimit,int minLimit,int maxLimit){
+		super(initialLimit,reduceTo(initialLimit));
+		if(minLimit<1 || initialLimit<minLimit || maxLimit<initialLimit)
+			throw new IllegalArgumentException("Limits must satisfy 1 <= minLimit <= initialLimit <= maxLimit, but were "
+												+ minLimit +", " + initialLimit + ", " + maxLimit);
+		this.minLimit = minLimit;
+		this.maxLimit = maxLimit;
+		this.limit = initialLimit;
+	}
+
+	private static int reduceTo(int limit){
+		return Math.max(1,limit - Math.max(1,limit/10));
+	}
+
+	/*
+	 *	@return Current in-flight limit
+	 * @see com.aol.cyclops.react.collectors.lazy.MaxActive#getMaxActive()
+	 */
+	@Override
+	public int getMaxActive(){
+		return (int)limit;
+	}
+	/*
+	 *	@return Number of tasks in flight to wait for, once the limit has been exceeded
+	 * @see com.aol.cyclops.react.collectors.lazy.MaxActive#getReduceTo()
+	 */
+	@Override
+	public int getReduceTo(){
+		return reduceTo((int)limit);
+	}
+	/**
+	 * @param maxActive Starting in-flight limit
+	 * @return A new AdaptiveMaxActive with the same bounds, starting from maxActive (the latency history is not copied)
+	 */
+	@Override
+	public AdaptiveMaxActive withMaxActive(int maxActive){
+		return new AdaptiveMaxActive(maxActive,minLimit,maxLimit);
+	}
+	/**
+	 * Not supported, reduceTo is derived from the current in-flight limit
+	 * 
+	 * @throws UnsupportedOperationException always
+	 */
+	@Override
+	public MaxActive withReduceTo(int reduceTo){
+		throw new UnsupportedOperationException("reduceTo is derived from the adaptive limit, use MaxActive.builder() for a fixed reduceTo");
+	}
+	/**
+	 * @param unit TimeUnit to report in
+	 * @return Short term average task latency
+	 */
+	public long getLatency(TimeUnit unit){
+		return unit.convert((long)shortLatency,TimeUnit.NANOSECONDS);
+	}
+	/**
+	 * @param unit TimeUnit to report in
+	 * @return Long term average task latency, used as the baseline latency
+	 */
+	public long getBaselineLatency(TimeUnit unit){
+		return unit.convert((long)longLatency,TimeUnit.NANOSECONDS);
+	}
+
+	@Override
+	public boolean isAdaptive(){
+		return true;
+	}
+
+	/*
+	 * @see com.aol.cyclops.react.collectors.lazy.MaxActive#sample(long, int, boolean)
+	 */
+	@Override
+	public void sample(long latencyNanos,int inFlight,boolean failed){
+		if(!updating.compareAndSet(false, true))
+			return;
+		try{
+			double current = limit;
+			if(failed){
+				limit = Math.max(minLimit, current*BACKOFF);
+				return;
+			}
+			if(shortLatency==0){
+				shortLatency = latencyNanos;
+				longLatency = latencyNanos;
+				return;
+			}
+			double shortTerm = shortLatency + (latencyNanos-shortLatency)*SHORT_SMOOTHING;
+			double longTerm = longLatency + (latencyNanos-longLatency)*LONG_SMOOTHING;
+			if(longTerm/shortTerm>2) //latency has dropped well below the baseline, let the baseline catch up
+				longTerm = longTerm * 0.95;
+			shortLatency = shortTerm;
+			longLatency = longTerm;
+
+			if(inFlight<current/2) //not using the limit, so latency tells us nothing about it
+				return;
+
+			double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE*longTerm/shortTerm));
+			double next = current*gradient + Math.sqrt(current);
+			next = current*(1-LIMIT_SMOOTHING) + next*LIMIT_SMOOTHING;
+			limit = Math.max(minLimit, Math.min(maxLimit, next));
+		}finally{
+			updating.set(false);
+		}
+	}
+
+}
@@ -1,11 +1,7 @@
 package com.aol.cyclops.react.collectors.lazy;
 
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.List;
-import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -19,6 +15,11 @@ import com.aol.cyclops.types.futurestream.BlockingStream;
  * This class allows a Batch of completable futures to be processed before collecting their results, to increase
  * parallelism.
  * 
+ * Admission is driven by completion callbacks rather than by scanning the active futures (see ActiveFutures) :
+ * once more than maxActive futures are in flight, accept parks until completions bring the count down to reduceTo.
+ * 
+ * accept, getResults, getAllResults and block should be called from a single thread, completion callbacks may run on any thread.
+ * 
  * @author johnmcclean
  *
  * @param <T> Result type
@@ -30,7 +31,7 @@ public class BatchingCollector<T> implements LazyResultConsumer<T>{
 
 	@Getter
 	private final Collection<FastFuture<T>> results;
-	private final List<FastFuture<T>> active = new ArrayList<>();
+	private final ActiveFutures<T> active = new ActiveFutures<>();
 	@Getter
 	private final MaxActive maxActive;
 	@Getter
@@ -51,44 +52,21 @@ public class BatchingCollector<T> implements LazyResultConsumer<T>{
 	@Override
 	public void accept(FastFuture<T> t) {
 		
-		active.add(t);
-		
-		if(active.size()>maxActive.getMaxActive()){
-			
-			while(active.size()>maxActive.getReduceTo()){
-				
-				
-				List<FastFuture<T>> toRemove = active.stream()
-														.filter(cf -> cf.isDone())
-														.collect(Collectors.toList());
-				active.removeAll(toRemove);	
-				results.addAll(toRemove);
-				if(active.size()>maxActive.getReduceTo()){
-					CompletableFuture promise=  new CompletableFuture();
-					FastFuture.xOf(active.size()-maxActive.getReduceTo(),() -> {
-						promise.complete(true);
-					},active.toArray(new FastFuture[0]));
-					
-					promise.join();
-				}
-				
-			}
-		}
-		
-		
+		active.admit(t,maxActive);
+		active.drainCompleted(f->results.add(f));
 		
 	}
 	public void block(Function<FastFuture<T>,T> safeJoin){
 		if(active.size()==0)
 			return;
-		active.stream().peek(f-> safeJoin.apply(f)).forEach(a->{});
+		active.active().stream().peek(f-> safeJoin.apply(f)).forEach(a->{});
 	
 	}
 	/* (non-Javadoc)
 	 * @see com.aol.cyclops.react.collectors.lazy.LazyResultConsumer#getResults()
 	 */
 	public Collection<FastFuture<T>> getResults(){
-		
+		active.drainCompleted(results::add);
 		return results;
 	}
 	/* 
@@ -96,11 +74,12 @@ public class BatchingCollector<T> implements LazyResultConsumer<T>{
 	 * @see com.aol.cyclops.react.collectors.lazy.LazyResultConsumer#getAllResults()
 	 */
 	public Collection<FastFuture<T>> getAllResults(){
-		results.addAll(active);
-		active.clear();
+		active.drainCompleted(results::add);
+		results.addAll(active.removeActive());
+		active.drainCompleted(results::add);
 		return results;
 	}
 	 
 	
 	
-}
\ No newline at end of file
+}
@@ -2,10 +2,7 @@ package com.aol.cyclops.react.collectors.lazy;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.List;
-import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 import com.aol.cyclops.internal.react.async.future.FastFuture;
 
@@ -13,8 +10,8 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.experimental.Wither;
 /**
- * A collector that periodically joins active completablefutures
- * but does not store the results
+ * A collector that limits active completablefutures (parking when the limit is reached, until completion callbacks
+ * bring the number in flight back down) but does not store the results
  * 
  * @author johnmcclean
  *
@@ -25,7 +22,7 @@ import lombok.experimental.Wither;
 public class EmptyCollector<T> implements LazyResultConsumer<T> {
 	
 
-	private final List<FastFuture<T>> active = new ArrayList<>();
+	private final ActiveFutures<T> active = new ActiveFutures<>();
 	@Getter
 	private final MaxActive maxActive;
 	@Getter
@@ -44,41 +41,14 @@ public class EmptyCollector<T> implements LazyResultConsumer<T> {
 	@Override
 	public void accept(FastFuture<T> t) {
 		
-		
-		active.add(t);
-		
-		if(active.size()>maxActive.getMaxActive()){
-			
-			while(active.size()>maxActive.getReduceTo()){
-				
-				
-				
-				List<FastFuture> toRemove = active.stream()
-												  .filter(cf -> cf.isDone())
-												  .peek(this::handleExceptions)
-												  .collect(Collectors.toList());
-				
-				active.removeAll(toRemove);
-				if(active.size()>maxActive.getReduceTo()){
-					CompletableFuture promise=  new CompletableFuture();
-					FastFuture.xOf(active.size()-maxActive.getReduceTo(),() -> promise.complete(true),
-											active.toArray(new FastFuture[0]));
-									
-					
-					promise.join();
-				}
-				
-					
-			}
-		}
-		
-		
+		active.admit(t,maxActive);
+		active.drainCompleted(this::handleExceptions);
 		
 	}
 	
 	
 	public void add(FastFuture<T> t) {
-		active.add(t);
+		active.track(t,maxActive);
 	}
 
 	private void handleExceptions(FastFuture cf){
@@ -95,7 +65,7 @@ public class EmptyCollector<T> implements LazyResultConsumer<T> {
 		
 		if(active.size()==0)
 			return;
-		active.stream().peek(cf-> safeJoin.apply(cf)).forEach(a->{});
+		active.active().stream().peek(cf-> safeJoin.apply(cf)).forEach(a->{});
 		
 	}
 	/* 
@@ -104,8 +74,8 @@ public class EmptyCollector<T> implements LazyResultConsumer<T> {
 	 */
 	@Override
 	public Collection<FastFuture<T>> getResults() {
-		active.stream().forEach(cf ->  safeJoin.apply(cf));
-		active.clear();
+		active.drainCompleted(this::handleExceptions);
+		active.removeActive().forEach(cf ->  safeJoin.apply(cf));
 		return new ArrayList<>();
 	}
 	/* 
@@ -22,4 +22,39 @@ public class MaxActive {
 							Runtime.getRuntime().availableProcessors()-1);
 	public static final MaxActive SEQUENTIAL=new MaxActive(10,1);
 	
+	/**
+	 * @return A new MaxActive that adjusts the in-flight limit to observed task latency, starting at 20 and bounded between 1 and 1000
+	 * @see AdaptiveMaxActive
+	 */
+	public static AdaptiveMaxActive adaptive(){
+		return new AdaptiveMaxActive(20,1,1000);
+	}
+	/**
+	 * @param initialLimit Starting in-flight limit
+	 * @param minLimit Lowest in-flight limit
+	 * @param maxLimit Highest in-flight limit
+	 * @return A new MaxActive that adjusts the in-flight limit to observed task latency
+	 * @see AdaptiveMaxActive
+	 */
+	public static AdaptiveMaxActive adaptive(int initialLimit,int minLimit,int maxLimit){
+		return new AdaptiveMaxActive(initialLimit,minLimit,maxLimit);
+	}
+	
+	/**
+	 * @return true if this MaxActive should be sent completion latency samples
+	 */
+	public boolean isAdaptive(){
+		return false;
+	}
+	/**
+	 * Record the completion of a task, ignored unless this MaxActive is adaptive
+	 * 
+	 * @param latencyNanos Time from admission to completion
+	 * @param inFlight Number of tasks in flight when the task completed (including the task itself)
+	 * @param failed true if the task completed exceptionally
+	 */
+	public void sample(long latencyNanos,int inFlight,boolean failed){
+		
+	}
+	
 }
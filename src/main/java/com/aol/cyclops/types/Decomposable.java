@@ -1,14 +1,11 @@
 package com.aol.cyclops.types;
 
-import java.util.stream.Collectors;
-
 import com.aol.cyclops.internal.invokedynamic.ReflectionCache;
-import com.aol.cyclops.util.ExceptionSoftener;
 
 /**
  * trait / interface for Value Objects / Case Classes / Algebraic Data Types
  * 
- * unapply uses Reflection by default, but clients can override it if neccessary
+ * unapply reads field values via MethodHandles (created once per class) by default, but clients can override it if neccessary
  * 
  * @author johnmcclean
  *
@@ -20,29 +17,15 @@ public interface Decomposable{
 		return (T)this;
 	}
 	/**
-	 * @return Values of the fields of this Decomposable instance
+	 * @return Values of the fields of this Decomposable instance (as a fixed size, immutable List)
 	 */
 	@SuppressWarnings("unchecked")
 	default <I extends Iterable<?>> I unapply(){
 		
-		if(unwrap() instanceof Iterable)
-			return (I)unwrap();
-		try {
-			
-			return (I)ReflectionCache.getFields(unwrap().getClass()).stream().map(f ->{
-				try {
-				
-					return f.get(unwrap());
-				} catch (Exception e) {
-					throw ExceptionSoftener.throwSoftenedException(e);
-					
-				
-				}
-			}).collect(Collectors.toList());
-		} catch (Exception e) {
-			throw ExceptionSoftener.throwSoftenedException(e);
-			
-		}
+		Object value = unwrap();
+		if(value instanceof Iterable)
+			return (I)value;
+		return (I)ReflectionCache.getFieldValues(value);
 		
 	}
 	
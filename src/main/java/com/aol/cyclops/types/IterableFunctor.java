@@ -47,12 +47,12 @@ public interface IterableFunctor<T> extends Iterable<T>,
     default  ReactiveSeq<T> mergePublisher(Collection<? extends Publisher<T>> publishers, QueueFactory<T> factory){
         Counter c = new Counter();
         c.active.set(publishers.size()+1);
-        QueueBasedSubscriber<T> init = QueueBasedSubscriber.subscriber(factory,c,publishers.size());
+        QueueBasedSubscriber<T> init = QueueBasedSubscriber.subscriber(factory,c,publishers.size()+1);
        
         Supplier<Continuation> sp = ()->{
               subscribe(init);
               for(Publisher next : publishers){
-                     next.subscribe(QueueBasedSubscriber.subscriber(init.getQueue(),c,publishers.size()));
+                     next.subscribe(QueueBasedSubscriber.subscriber(init.getQueue(),c,publishers.size()+1));
                }
                    
                init.close();
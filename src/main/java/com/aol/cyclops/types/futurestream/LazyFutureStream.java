@@ -49,7 +49,10 @@ import org.reactivestreams.Subscription;
 import com.aol.cyclops.Matchables;
 import com.aol.cyclops.Monoid;
 import com.aol.cyclops.control.AnyM;
+import com.aol.cyclops.control.DoubleReactiveSeq;
+import com.aol.cyclops.control.IntReactiveSeq;
 import com.aol.cyclops.control.LazyReact;
+import com.aol.cyclops.control.LongReactiveSeq;
 import com.aol.cyclops.control.Matchable.CheckValue1;
 import com.aol.cyclops.control.ReactiveSeq;
 import com.aol.cyclops.control.SimpleReact;
@@ -82,6 +85,7 @@ import com.aol.cyclops.types.applicative.zipping.ApplyingZippingApplicativeBuild
 import com.aol.cyclops.types.applicative.zipping.ZippingApplicativable;
 import com.aol.cyclops.types.stream.HotStream;
 import com.aol.cyclops.types.stream.future.FutureOperations;
+import com.aol.cyclops.types.stream.reactive.FutureStreamAsyncPublisher;
 import com.aol.cyclops.types.stream.reactive.FutureStreamSynchronousPublisher;
 import com.aol.cyclops.util.stream.StreamUtils;
 import com.aol.cyclops.util.stream.Streamable;
@@ -104,7 +108,8 @@ public interface LazyFutureStream<U> extends Functor<U>,
                                             ReactiveSeq<U>,
                                             LazyToQueue<U>,
                                             ConfigurableStream<U,FastFuture<U>>,
-                                            FutureStreamSynchronousPublisher<U> {
+                                            FutureStreamSynchronousPublisher<U>,
+                                            FutureStreamAsyncPublisher<U> {
 
     
     
@@ -474,8 +479,8 @@ public interface LazyFutureStream<U> extends Functor<U>,
     LazyReact getSimpleReact();
     /*
      * Subscribe to this Stream
-     * If this Stream is executing in async mode it will operate as an Async Publisher, otherwise it will operate as a Synchronous publisher.
-     * async() or sync() can be used just prior to subscribe.
+     * Operates as a Synchronous publisher, data is emitted on the thread calling Subscription#request.
+     * Use subscribeAsync to emit data on an Executor instead.
      *
      * <pre>
      * {@code
@@ -488,9 +493,6 @@ public interface LazyFutureStream<U> extends Functor<U>,
      * @see org.reactivestreams.Publisher#subscribe(org.reactivestreams.Subscriber)
      */
     default void  subscribe(Subscriber<? super U> s){
-      /**  if(isAsync())
-            FutureStreamAsyncPublisher.super.subscribe(s);
-        else**/
             FutureStreamSynchronousPublisher.super.subscribe(s);
     }
 
@@ -2470,24 +2472,24 @@ public interface LazyFutureStream<U> extends Functor<U>,
      * @see java.util.stream.Stream#mapToInt(java.util.function.ToIntFunction)
      */
     @Override
-    default IntStream mapToInt(ToIntFunction<? super U> mapper) {
-        return stream().mapToInt(mapper);
+    default IntReactiveSeq mapToInt(ToIntFunction<? super U> mapper) {
+        return IntReactiveSeq.fromIntStream(stream().mapToInt(mapper));
     }
 
     /*
      * @see java.util.stream.Stream#mapToLong(java.util.function.ToLongFunction)
      */
     @Override
-    default LongStream mapToLong(ToLongFunction<? super U> mapper) {
-        return stream().mapToLong(mapper);
+    default LongReactiveSeq mapToLong(ToLongFunction<? super U> mapper) {
+        return LongReactiveSeq.fromLongStream(stream().mapToLong(mapper));
     }
 
     /*
      * @see java.util.stream.Stream#mapToDouble(java.util.function.ToDoubleFunction)
      */
     @Override
-    default DoubleStream mapToDouble(ToDoubleFunction<? super U> mapper) {
-        return stream().mapToDouble(mapper);
+    default DoubleReactiveSeq mapToDouble(ToDoubleFunction<? super U> mapper) {
+        return DoubleReactiveSeq.fromDoubleStream(stream().mapToDouble(mapper));
     }
 
     /*
@@ -93,6 +93,7 @@ public interface LazySimpleReactStream<U> extends
 	 * https://github.com/nurkiewicz/async-retry for detailed advice on how to
 	 * conifugre
 	 * 
+	 * Backoffs are scheduled on the RetryExecutor, the task executor thread is released while waiting for a retry.
 	 * 
 	 * @param fn
 	 *            Function that will be executed and retried on failure
@@ -101,9 +102,9 @@ public interface LazySimpleReactStream<U> extends
 	@SuppressWarnings("unchecked")
 	default <R> LazySimpleReactStream<R> retry(final Function<? super U, ? extends R> fn) {
 		Function<PipelineBuilder,PipelineBuilder> mapper =
-				(ft) -> ft.thenApplyAsync(res -> 
+				(ft) -> ft.thenComposeAsync(res -> 
 				getRetrier().getWithRetry( (Callable)()->LazySimpleReactStream.<U,R>handleExceptions(fn)
-						.apply((U)res)).join(),getTaskExecutor() );
+						.apply((U)res)),getTaskExecutor() );
 
 		return  this.withLastActive(getLastActive().operation(mapper));
 	}
@@ -13,6 +13,17 @@ public interface HotStream<T> {
 		return connect(new OneToOneConcurrentArrayQueue<T>(256));
 	}
 	public ReactiveSeq<T> connect(Queue<T> queue);
+	/**
+	 * Stop sending data to a Queue previously passed to {@link #connect(Queue)}, the ReactiveSeq returned on connection
+	 * completes once it has drained the data already in the Queue. HotStreams that do not track connections throw
+	 * UnsupportedOperationException
+	 * 
+	 * @param queue Queue to disconnect
+	 * @return true if the Queue was connected
+	 */
+	public default boolean disconnect(Queue<T> queue){
+		throw new UnsupportedOperationException();
+	}
 	public default <R extends Stream<T>> R connectTo(Queue<T> queue,Function<ReactiveSeq<T>,R> to) {
 		return to.apply(connect(queue));
 	}
@@ -4,8 +4,6 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.stream.Stream;
 
-import com.aol.cyclops.Matchables;
-import com.aol.cyclops.control.FluentFunctions;
 import com.aol.cyclops.internal.stream.BaseHotStreamImpl;
 
 public class NonPausableHotStream<T>  extends BaseHotStreamImpl<T> {
@@ -18,14 +16,7 @@ public class NonPausableHotStream<T>  extends BaseHotStreamImpl<T> {
 			pause.get().join();
 			stream.forEach(a->{
 					
-					int local = connected;
-					
-					for(int i=0;i<local;i++){
-					
-					    Matchables.blocking(connections.get(i))
-                                  .visit(FluentFunctions.ofChecked(in->{ in.put(a); return true;}),
-                                          q-> q.offer(a));
-					}
+					publish(a);
 					
 					
 				});
@@ -0,0 +1,145 @@
+package com.aol.cyclops.types.stream.reactive;
+
+import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import com.aol.cyclops.data.async.Queue;
+
+/**
+ * Subscription that emits data from a Queue on an Executor, used by FutureStreamAsyncPublisher
+ *
+ * request, cancel and error may be called from any thread, they update atomic state and schedule the drain loop.
+ * The drain loop is only ever run by one thread at a time (guarded by wip) so signals to the Subscriber are serial.
+ * No signal is emitted until {@link #start()} is called (after Subscriber#onSubscribe), wip is held at 1 until then.
+ *
+ * While there is outstanding demand the drain loop blocks its Executor thread reading from the Queue (until the next
+ * value arrives or the Queue is closed), a pending cancel or error is only acted on once that read returns.
+ *
+ * @param <T>
+ */
+class AsyncQueueSubscription<T> implements Subscription {
+
+	private final Queue<T> queue;
+	private final Executor ex;
+	private final Runnable onTerminate;
+	private final AtomicLong requested = new AtomicLong(0);
+	private final AtomicInteger wip = new AtomicInteger(1);
+	private volatile Subscriber<? super T> subscriber;
+	private volatile Throwable error;
+	private volatile boolean cancelled = false;
+	private Iterator<T> it;
+
+	AsyncQueueSubscription(Subscriber<? super T> subscriber,Queue<T> queue, Executor ex,Runnable onTerminate){
+		this.subscriber = subscriber;
+		this.queue = queue;
+		this.ex = ex;
+		this.onTerminate = onTerminate;
+	}
+
+	@Override
+	public void request(long n) {
+		if(cancelled)
+			return;
+		if(n<1){
+			error(new IllegalArgumentException("3.9 While the Subscription is not cancelled, Subscription.request(long n) MUST throw a java.lang.IllegalArgumentException if the argument is <= 0."));
+			return;
+		}
+		long current;
+		long next;
+		do{
+			current = requested.get();
+			if(current==Long.MAX_VALUE)
+				break;
+			next = current + n;
+			if(next<0)
+				next = Long.MAX_VALUE;
+		}while(!requested.compareAndSet(current, next));
+		schedule();
+	}
+
+	@Override
+	public void cancel() {
+		if(cancelled)
+			return;
+		cancelled = true;
+		terminate();
+	}
+
+	/**
+	 * Terminate with an error signal, emitted by the drain loop
+	 */
+	void error(Throwable t){
+		if(cancelled || error!=null)
+			return;
+		error = t;
+		schedule();
+	}
+
+	/**
+	 * Allow signals to be emitted, to be called once Subscriber#onSubscribe has returned
+	 */
+	void start(){
+		if(wip.decrementAndGet()!=0)
+			ex.execute(this::drain);
+	}
+
+	private void schedule(){
+		if(wip.getAndIncrement()==0)
+			ex.execute(this::drain);
+	}
+
+	private void drain(){
+		int missed = 1;
+		do{
+			long r = requested.get();
+			long emitted = 0;
+			while(true){
+				Subscriber<? super T> s = subscriber;
+				if(cancelled || s==null)
+					return;
+				Throwable t = error;
+				if(t!=null){
+					cancel();
+					s.onError(t);
+					return;
+				}
+				if(emitted==r)
+					break;
+				T next;
+				try{
+					if(it==null)
+						it = queue.stream().iterator();
+					if(!it.hasNext()){
+						if(cancelled)
+							return;
+						cancel();
+						s.onComplete();
+						return;
+					}
+					next = it.next();
+				}catch(Throwable e){
+					error = e;
+					continue;
+				}
+				if(cancelled)
+					return;
+				s.onNext(next);
+				emitted++;
+			}
+			if(emitted>0 && r!=Long.MAX_VALUE)
+				requested.addAndGet(-emitted);
+			missed = wip.addAndGet(-missed);
+		}while(missed!=0);
+	}
+
+	private void terminate(){
+		subscriber = null;
+		onTerminate.run();
+		queue.closeAndClear();
+	}
+}
@@ -0,0 +1,67 @@
+package com.aol.cyclops.types.stream.reactive;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+
+import com.aol.cyclops.data.async.Queue;
+import com.aol.cyclops.react.ThreadPools;
+
+/**
+ * Reactive Streams publisher, that publishes on a supplied Executor
+ *
+ * Demand is tracked atomically and a single drain loop (run on the Executor) emits all signals, so request may be called
+ * from any thread. Values are read from the Stream's Queue as they are requested, only in-flight values are held in memory.
+ *
+ * While the Subscriber has outstanding demand the drain loop occupies one Executor thread, blocked waiting on the Queue
+ * until the next value arrives or the Stream completes. Supply an Executor with a thread to spare for each active
+ * Subscription (rather than, for example, the single thread Executor the Stream's own tasks run on). By default
+ * Subscriptions are drained on ThreadPools#getQueueSubscriptionExecutor, which adds a thread per blocked Subscription.
+ *
+ * <pre>
+ * {@code
+ *   LazyReact.parallelBuilder()
+ *            .from(urls)
+ *            .map(this::load)
+ *            .subscribeAsync(subscriber, executor);
+ * }
+ * </pre>
+ *
+ * @param <T>
+ */
+public interface FutureStreamAsyncPublisher<T> extends Publisher<T> {
+	void forwardErrors(Consumer<Throwable> c);
+	Executor getTaskExecutor();
+	Queue<T> toQueue();
+
+	/**
+	 * Subscribe asynchronously, emitting on a thread from ThreadPools#getQueueSubscriptionExecutor. The Stream's own task 
+	 * executor is not used, as the drain loop could occupy the threads the Stream needs to produce the values it is waiting on.
+	 *
+	 * @param s Subscriber
+	 */
+	default void subscribeAsync(Subscriber<? super T> s){
+		subscribeAsync(s,ThreadPools.getQueueSubscriptionExecutor());
+	}
+	/**
+	 * Subscribe asynchronously, emitting on the supplied Executor
+	 *
+	 * @param s Subscriber
+	 * @param ex Executor to emit onNext, onError and onComplete signals on (one thread is held while awaiting data)
+	 */
+	default void subscribeAsync(Subscriber<? super T> s, Executor ex){
+		Objects.requireNonNull(s);
+		Queue<T> queue = toQueue();
+		AsyncQueueSubscription<T> sub = new AsyncQueueSubscription<>(s,queue,ex,()->forwardErrors(t->{}));
+		forwardErrors(sub::error); //registered first so no error is missed, signals are held until start
+		s.onSubscribe(sub);
+		sub.start();
+	}
+
+	default void subscribe(Subscriber<? super T> s){
+		subscribeAsync(s);
+	}
+}
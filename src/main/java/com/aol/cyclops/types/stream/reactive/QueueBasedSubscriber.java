@@ -3,15 +3,14 @@ package com.aol.cyclops.types.stream.reactive;
 
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.locks.LockSupport;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.reactivestreams.Subscriber;
@@ -22,7 +21,6 @@ import com.aol.cyclops.control.ReactiveSeq;
 import com.aol.cyclops.data.async.Queue;
 import com.aol.cyclops.data.async.Queue.ClosedQueueException;
 import com.aol.cyclops.data.async.QueueFactory;
-import com.aol.cyclops.data.collections.extensions.standard.QueueX;
 import com.aol.cyclops.react.async.subscription.Continueable;
 import com.aol.cyclops.types.futurestream.Continuation;
 import com.aol.cyclops.types.futurestream.LazyFutureStream;
@@ -80,14 +78,24 @@ public class QueueBasedSubscriber<T> implements Subscriber<T> {
 	
 	
 	private final Counter counter;
+	/**
+	 * Elements received since this subscription last joined the starved queue (onNext calls are serial)
+	 */
+	private int receivedSinceRequest = 0;
+	private volatile boolean admitted = false;
+	/**
+	 * Set by the first terminal signal, some publishers send onComplete after onError
+	 */
+	private final AtomicBoolean terminated = new AtomicBoolean(false);
 	public QueueBasedSubscriber(Counter counter, int maxConcurrency){
 	    this.maxConcurrency =maxConcurrency;
 	    factory=null;
 	    
 	    this.counter = counter;
+	    counter.maxConcurrency = maxConcurrency;
 	    queue = new Queue<T>(){
             public T get(){
-                counter.subscription.forEach(s->s.request(1));
+                counter.consumed();
                 
                 return (T)super.get();  
             }
@@ -97,16 +105,17 @@ public class QueueBasedSubscriber<T> implements Subscriber<T> {
         factory=null;
         this.maxConcurrency =maxConcurrency;
         this.counter = counter;
+        counter.maxConcurrency = maxConcurrency;
         queue = q;
     }
 	private QueueBasedSubscriber(QueueFactory<T> factory,Counter counter,int maxConcurrency){
 	    this.counter = counter;
 	    this.factory=factory;
 	    this.maxConcurrency =maxConcurrency;
+	    counter.maxConcurrency = maxConcurrency;
 	    this.queue = new Queue<T>(factory){
             public T get(){
-                counter.subscription.forEach(s->s.request(1));
-                   
+                counter.consumed();
                 
                 return (T)super.get();  
             }
@@ -143,13 +152,9 @@ public class QueueBasedSubscriber<T> implements Subscriber<T> {
 		
 		subscription=s;
 		
-		while(counter.subscription.size()>maxConcurrency){
-		   
-		    LockSupport.parkNanos(100l); //max of 10k active subscriptions
-		}
-		counter.subscription.plus(subscription);
-		
-		s.request(1);
+		//started by the drain loop once fewer than maxConcurrency subscriptions are active
+		counter.admission.offer(this);
+		counter.drain();
 		
 		
 	}
@@ -160,7 +165,11 @@ public class QueueBasedSubscriber<T> implements Subscriber<T> {
 		Objects.requireNonNull(t);
 		queue.add(t);
 		counter.added++;
-		
+		if(++receivedSinceRequest==counter.limit){
+		    receivedSinceRequest=0;
+		    counter.starved.offer(this);
+		    counter.drain();
+		}
 		
 	}
 
@@ -168,26 +177,136 @@ public class QueueBasedSubscriber<T> implements Subscriber<T> {
 	public void onError(Throwable t) {
 		
 		Objects.requireNonNull(t);
+		if(!terminated.compareAndSet(false, true))
+		    return;
 		if(stream!=null)
 		    ((Consumer)stream.getErrorHandler().orElse((Consumer)h->{})).accept(t);
 		if(errorHandler!=null)
 		    errorHandler.accept(t);
+		finished();
 		
 	}
+	/**
+	 * Shared state for all subscribers feeding a single Queue.
+	 * 
+	 * Each subscription requests prefetch elements up front, and limit (prefetch - prefetch/4) more each time it has delivered limit 
+	 * elements. Replenishment is paid for with credits earned as elements are consumed from the Queue, subscriptions waiting for 
+	 * credit are held in the starved queue. Subscriptions beyond maxConcurrency wait in the admission queue.
+	 * 
+	 * All request calls are made from a single drain loop (guarded by the wip counter), so calls to request on each subscription
+	 * are serial, whichever publisher or consumer thread triggered the grant.
+	 */
 	public static class Counter{
 	    public AtomicLong active = new AtomicLong(0);
 	    volatile boolean completable = false;
-	    final QueueX<Subscription> subscription = QueueX.fromIterable(Collectors.toCollection(()->new ConcurrentLinkedQueue<Subscription>()), Arrays.<Subscription>asList());
 	    volatile boolean closed= false;
 	    volatile int added =0;
+	    final int prefetch;
+	    final int limit;
+	    final AtomicLong credits = new AtomicLong(0);
+	    final ConcurrentLinkedQueue<QueueBasedSubscriber<?>> starved = new ConcurrentLinkedQueue<>();
+	    final AtomicInteger subscribed = new AtomicInteger(0);
+	    final ConcurrentLinkedQueue<QueueBasedSubscriber<?>> admission = new ConcurrentLinkedQueue<>();
+	    final AtomicInteger wip = new AtomicInteger(0);
+	    volatile int maxConcurrency = Integer.MAX_VALUE;
+	    
+	    public Counter(){
+	        this(16);
+	    }
+	    /**
+	     * @param prefetch Number of elements each subscription may have requested but not yet delivered
+	     */
+	    public Counter(int prefetch){
+	        if(prefetch<1)
+	            throw new IllegalArgumentException("prefetch must be 1 or more");
+	        this.prefetch = prefetch;
+	        this.limit = prefetch - (prefetch >> 2);
+	    }
+	    
+	    void consumed(){
+	        credits.incrementAndGet();
+	        if(!starved.isEmpty())
+	            drain();
+	    }
+	    /**
+	     * Admit waiting subscriptions and replenish starved subscriptions. Only one thread runs the loop at a time, signals 
+	     * arriving while it runs (including those made re-entrantly from within request) are picked up by another pass. 
+	     */
+	    void drain(){
+	        if(wip.getAndIncrement()!=0)
+	            return;
+	        int missed = 1;
+	        do{
+	            admit();
+	            replenish();
+	            missed = wip.addAndGet(-missed);
+	        }while(missed!=0);
+	    }
+	    /**
+	     * Request limit more elements from each starved subscription, while there is enough credit
+	     */
+	    private void replenish(){
+	        while(!starved.isEmpty()){
+	            if(!acquire())
+	                return;
+	            QueueBasedSubscriber<?> next = starved.poll();
+	            if(next==null){
+	                credits.addAndGet(limit);
+	                continue;
+	            }
+	            next.subscription.request(limit);
+	        }
+	    }
+	    private boolean acquire(){
+	        long current;
+	        do{
+	            current = credits.get();
+	            if(current<limit)
+	                return false;
+	        }while(!credits.compareAndSet(current, current-limit));
+	        return true;
+	    }
+	    /**
+	     * Free the slot held by a finished subscription
+	     */
+	    void release(QueueBasedSubscriber<?> finished){
+	        if(!finished.admitted && admission.remove(finished))
+	            return;
+	        subscribed.decrementAndGet();
+	        drain();
+	    }
+	    /**
+	     * Start subscriptions waiting for a free slot
+	     */
+	    private void admit(){
+	        while(!admission.isEmpty()){
+	            if(subscribed.incrementAndGet()>maxConcurrency){
+	                subscribed.decrementAndGet();
+	                return;
+	            }
+	            QueueBasedSubscriber<?> next = admission.poll();
+	            if(next==null){
+	                subscribed.decrementAndGet();
+	                continue;
+	            }
+	            next.admitted = true;
+	            next.subscription.request(prefetch);
+	        }
+	    }
 	}
 
 	@Override
 	public void onComplete() {
 	   
+		if(terminated.compareAndSet(false, true))
+		    finished();
+	}
+	/**
+	 * Completion or error (called once), free this subscription's slot and close the Queue once all subscriptions have finished
+	 */
+	private void finished(){
 		counter.active.decrementAndGet();
-		counter.subscription.minus(subscription);
-		boolean set = false;
+		counter.release(this);
 		
 		if(queue!=null  && counter.active.get()==0){
 		   
@@ -4,7 +4,6 @@ import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Spliterator;
-import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.LockSupport;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
@@ -28,6 +27,10 @@ import com.aol.cyclops.util.ExceptionSoftener;
  * }
  * </pre>
  * 
+ * Elements are requested in a window of prefetch elements (1 by default) and held in a bounded single producer / single consumer 
+ * buffer. Demand is replenished as the consumer drains the window, and the consuming thread is parked until the 
+ * publisher signals the next element, error or completion.
+ * 
  * @author johnmcclean
  *
  * @param <T>
@@ -38,28 +41,63 @@ public class SeqSubscriber<T> implements Subscriber<T>,
         
         
         private final Object UNSET = new Object();
-        private final AtomicReference lastValue = new AtomicReference(UNSET);
-        private final AtomicReference lastError = new AtomicReference(UNSET);
         private final Runnable onComplete;
+        private final int prefetch;
+        /**
+         * Number of elements consumed before further demand is signalled
+         */
+        private final int replenish;
+        private final Object[] buffer;
+        private final int mask;
+        /**
+         * Written only by the publisher (onNext calls are serial)
+         */
+        private volatile long produced = 0;
+        /**
+         * Written only by the consuming thread
+         */
+        private volatile long consumed = 0;
+        private long consumedSinceRequest = 0;
+        private volatile Throwable error;
         private volatile boolean complete = false;
-        private volatile boolean unread = false;
+        private volatile Thread waiting;
         private volatile Subscription s;
        
        
         protected SeqSubscriber(){
-            this.onComplete = ()->{};
+            this(()->{},1);
+        }
+        protected SeqSubscriber(int prefetch){
+            this(()->{},prefetch);
         }
-        private SeqSubscriber(Runnable onComplete) {
+        private SeqSubscriber(Runnable onComplete,int prefetch) {
             super();
+            if(prefetch<1)
+                throw new IllegalArgumentException("prefetch must be 1 or more");
             this.onComplete = onComplete;
+            this.prefetch = prefetch;
+            this.replenish = prefetch - (prefetch >> 2);
+            int size = Integer.highestOneBit(prefetch);
+            if(size<prefetch)
+                size = size << 1;
+            this.buffer = new Object[size];
+            this.mask = size-1;
         }
        
         public static <T> SeqSubscriber<T> subscriber(Runnable onComplete){
-            return new SeqSubscriber<>(onComplete);
+            return new SeqSubscriber<>(onComplete,1);
         }
         public static <T> SeqSubscriber<T> subscriber(){
            
-            return new SeqSubscriber<>(()->{});
+            return new SeqSubscriber<>(()->{},1);
+        }
+        /**
+         * @param prefetch Number of elements to request from the publisher ahead of the consumer
+         * @return SeqSubscriber that buffers up to prefetch elements
+         */
+        public static <T> SeqSubscriber<T> subscriber(int prefetch){
+            
+            return new SeqSubscriber<>(()->{},prefetch);
         }
         
         
@@ -68,7 +106,7 @@ public class SeqSubscriber<T> implements Subscriber<T>,
             Objects.requireNonNull(s);
             if(this.s==null){
                  this.s =s;
-                 s.request(1); 
+                 s.request(prefetch); 
             }
             else
                 s.cancel();
@@ -77,78 +115,104 @@ public class SeqSubscriber<T> implements Subscriber<T>,
 
         @Override
         public void onNext(T t) {
-            unread=true;
             Objects.requireNonNull(t);
-            lastValue.set(t);
+            long index = produced;
+            if(index - consumed >= buffer.length){
+                error = new IllegalStateException("Publisher sent more elements than were requested");
+            }else{
+                buffer[(int)index & mask] = t;
+                produced = index+1;
+            }
+            signal();
         }
 
         @Override
         public void onError(Throwable t) {
             Objects.requireNonNull(t);
-            lastError.set(t);
+            error = t;
+            signal();
         }
 
         @Override
         public void onComplete() {
            complete  =true;
            this.onComplete.run();
+           signal();
             
         }
-        public T get(){
-            try{
-                while(lastValue.get()==UNSET && lastError.get()==UNSET)
-                    LockSupport.parkNanos(1000000l);
-                if(lastError.get()!=UNSET){
-                    Throwable toThrow = (Throwable)lastError.get();
-                    reset();
-                   
+        
+        private void signal(){
+            Thread toWake = waiting;
+            if(toWake!=null)
+                LockSupport.unpark(toWake);
+        }
+        
+        /**
+         * Take the next element, blocking until the publisher supplies it
+         * 
+         * @return next element or UNSET if the publisher has completed
+         */
+        private Object take(){
+            if(consumedSinceRequest>=replenish){
+                long toRequest = consumedSinceRequest;
+                consumedSinceRequest = 0;
+                s.request(toRequest);
+            }
+            while(produced==consumed){
+                Throwable toThrow = error;
+                if(toThrow!=null){
+                    error = null;
                     throw ExceptionSoftener.throwSoftenedException(toThrow);
                 }
-                T result = (T)lastValue.get();
-                
-                return result;
-            }finally{
-                unread=false;
+                if(complete){
+                    if(produced==consumed)
+                        return UNSET;
+                    break;
+                }
+                waiting = Thread.currentThread();
+                if(produced==consumed && error==null && !complete)
+                    LockSupport.park(this);
+                waiting = null;
             }
-            
+            long index = consumed;
+            int slot = (int)index & mask;
+            Object result = buffer[slot];
+            buffer[slot] = null;
+            consumed = index+1;
+            consumedSinceRequest++;
+            return result;
         }
         
-        private void reset(){
-            lastValue.set(UNSET);
-            lastError.set(UNSET);
+        /**
+         * @return next element, blocking until it is available
+         * @throws NoSuchElementException if the publisher has completed
+         */
+        public T get(){
+            Object next = take();
+            if(next==UNSET)
+                throw new NoSuchElementException();
+            return (T)next;
+            
         }
 
         @Override
         public Iterator<T> iterator() {
             return new Iterator<T>(){
-                boolean requested = true;
-                Object next = complete? UNSET : get();
+                Object next = null;
                 @Override
                 public boolean hasNext() {
-                    if(!requested){
-                        reset();
-                        s.request(1l);
-                        requested=true;
-                        if(unread)
-                            next=get();
-                        else
-                            next=UNSET;
-                        
-                    }
+                    if(next==null)
+                        next = take();
                     return next!=UNSET;
                 }
 
                 @Override
                 public T next() {
-                    if(!requested){
-                            if(!hasNext()){
-                                throw new NoSuchElementException();
-                            }
-                    }
-                    if(next==UNSET )
+                    if(!hasNext())
                         throw new NoSuchElementException();
-                   requested = false;
-                   return (T) next;
+                    T result = (T)next;
+                    next = null;
+                    return result;
                 }
                 
             };
@@ -157,17 +221,10 @@ public class SeqSubscriber<T> implements Subscriber<T>,
         @Override
         public Spliterator<T> spliterator() {
             return new Spliterator<T>(){
-                boolean requested = true;
                 
                 @Override
                 public boolean tryAdvance(Consumer<? super T> action) {
-                    if(!requested)
-                        s.request(1l);
-                    else
-                        requested=false;
-                    Object next = (complete)? (!unread) ? UNSET : get() :get();
-                    
-                    
+                    Object next = take();
                     if(next!=UNSET){
                         action.accept((T)next);
                         return true;
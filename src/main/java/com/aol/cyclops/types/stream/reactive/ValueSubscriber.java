@@ -3,7 +3,6 @@ package com.aol.cyclops.types.stream.reactive;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.concurrent.locks.LockSupport;
 
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
@@ -46,6 +45,7 @@ public class ValueSubscriber<T> implements Subscriber<T>,
         private final Runnable onComplete;
         
         private volatile Subscription s;
+        private final Object lock = new Object();
         private final Runnable requestOne = Memoize.memoizeRunnable(()->this.s.request(1l));
         
         private ValueSubscriber(Runnable onComplete) {
@@ -78,12 +78,14 @@ public class ValueSubscriber<T> implements Subscriber<T>,
            
             Objects.requireNonNull(t);
             firstValue.compareAndSet((T)UNSET, t);
+            signal();
         }
 
         @Override
         public void onError(Throwable t) {
             Objects.requireNonNull(t);
             firstError.compareAndSet((T)UNSET, t);
+            signal();
         }
 
         @Override
@@ -91,8 +93,31 @@ public class ValueSubscriber<T> implements Subscriber<T>,
             
            this.onComplete.run();
            firstError.set(new NoSuchElementException("publisher has no elements"));
+           signal();
             
         }
+        private void signal(){
+            synchronized(lock){
+                lock.notifyAll();
+            }
+        }
+        /**
+         * Wait (without polling) until the publisher has sent a value, error or completion signal
+         */
+        private void await(){
+            if(firstValue.get()!=UNSET || firstError.get()!=UNSET)
+                return;
+            synchronized(lock){
+                while(firstValue.get()==UNSET && firstError.get()==UNSET){
+                    try {
+                        lock.wait();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw ExceptionSoftener.throwSoftenedException(e);
+                    }
+                }
+            }
+        }
         public void requestOne(){
             
             firstValue.set(UNSET);
@@ -101,8 +126,7 @@ public class ValueSubscriber<T> implements Subscriber<T>,
         }
         public T get(){
         
-            while(firstValue.get()==UNSET && firstError.get()==UNSET)
-                LockSupport.parkNanos(1000000l);
+            await();
             if(firstValue.get()==UNSET)
                 return null;
           
@@ -118,8 +142,7 @@ public class ValueSubscriber<T> implements Subscriber<T>,
         }
         private T throwingGet(){
            
-            while(firstValue.get()==UNSET && firstError.get()==UNSET)
-                LockSupport.parkNanos(1000000l);
+            await();
             if(firstValue.get()==UNSET)
                 throw ExceptionSoftener.throwSoftenedException((Throwable)firstError.get());
           
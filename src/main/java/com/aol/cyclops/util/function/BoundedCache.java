@@ -0,0 +1,380 @@
+package com.aol.cyclops.util.function;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.ToIntBiFunction;
+
+import com.aol.cyclops.util.ExceptionSoftener;
+
+/**
+ * A bounded Cacheable, for use with Memoize and LazyReact#autoMemoizeOn in long running applications
+ *
+ * Entries are evicted in segmented LRU order once the maximum size (or weight) is exceeded : new entries join a probation segment,
+ * entries read again are promoted to a protected segment (80% of the maximum), and victims are taken from the least recently used
+ * end of the probation segment first. Entries can optionally expire a fixed time after they were written, expired entries are removed
+ * when next read or when evicted.
+ *
+ * Reads don't take a lock, they record the entry read in a lossy ring buffer that is replayed against the eviction order in batches,
+ * by whichever thread manages to acquire the eviction lock. Writes (cache misses) take the eviction lock.
+ * Concurrent misses on the same key are de-duplicated : one thread computes the value, the others wait for it (via an in flight
+ * placeholder future per key), as with ConcurrentHashMap#computeIfAbsent. The computing function must not re-enter the cache for the same key.
+ *
+ * <pre>
+ * {@code
+ *  BoundedCache<Integer> cache = BoundedCache.<Integer>builder()
+ *                                            .maximumSize(10_000)
+ *                                            .expireAfterWrite(10, TimeUnit.MINUTES)
+ *                                            .build();
+ *
+ *  Function<Integer,Integer> fn = Memoize.memoizeFunction(this::expensive, cache);
+ *
+ *  cache.getHitRate();
+ * }
+ * </pre>
+ *
+ * @param <V> Cached value type
+ */
+public class BoundedCache<V> implements Cacheable<V>, SoftenedCacheable<V> {
+
+	private static final int PROBATION = 0;
+	private static final int PROTECTED = 1;
+	private static final int READ_BUFFER_SIZE = 128;
+	private static final int READ_BUFFER_MASK = READ_BUFFER_SIZE-1;
+	private static final int DRAIN_THRESHOLD_MASK = (READ_BUFFER_SIZE/4)-1;
+
+	private final ConcurrentHashMap<Object,Node<V>> data = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<Object,CompletableFuture<V>> loading = new ConcurrentHashMap<>();
+	private final long maximum;
+	private final long protectedMaximum;
+	private final ToIntBiFunction<Object,? super V> weigher;
+	private final long expireAfterWriteNanos;
+
+	private final ReentrantLock evictionLock = new ReentrantLock();
+	private final Node<V>[] segments;
+	private long weightedSize = 0; //guarded by evictionLock
+	private long protectedWeightedSize = 0; //guarded by evictionLock
+
+	private final AtomicReferenceArray<Node<V>> readBuffer = new AtomicReferenceArray<>(READ_BUFFER_SIZE);
+	private final AtomicLong reads = new AtomicLong(0);
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+
+	private BoundedCache(long maximum,ToIntBiFunction<Object,? super V> weigher,long expireAfterWriteNanos){
+		this.maximum = maximum;
+		this.protectedMaximum = maximum - maximum/5;
+		this.weigher = weigher;
+		this.expireAfterWriteNanos = expireAfterWriteNanos;
+		this.segments = new Node[]{ Node.sentinel(), Node.sentinel() };
+	}
+
+	/**
+	 * @return Builder for a new BoundedCache
+	 */
+	public static <V> Builder<V> builder(){
+		return new Builder<>();
+	}
+	/**
+	 * @param maximumSize Maximum number of entries
+	 * @return A new BoundedCache holding at most maximumSize entries
+	 */
+	public static <V> BoundedCache<V> maximumSize(long maximumSize){
+		return BoundedCache.<V>builder().maximumSize(maximumSize).build();
+	}
+
+	/*
+	 * @see com.aol.cyclops.util.function.Cacheable#computeIfAbsent(java.lang.Object, java.util.function.Function)
+	 */
+	@Override
+	public V computeIfAbsent(Object key, Function<Object,V> fn){
+		Node<V> node = read(key);
+		if(node!=null)
+			return node.value;
+		CompletableFuture<V> pending = new CompletableFuture<>();
+		CompletableFuture<V> inFlight = loading.putIfAbsent(key, pending);
+		if(inFlight!=null){
+			hits.increment();
+			try{
+				return inFlight.join();
+			}catch(CompletionException e){
+				throw ExceptionSoftener.throwSoftenedException(e.getCause());
+			}
+		}
+		try{
+			node = read(key); //stored by a load that completed after the first read
+			if(node!=null){
+				pending.complete(node.value);
+				return node.value;
+			}
+			misses.increment();
+			V value = fn.apply(key);
+			if(value!=null){
+				Node<V> created = new Node<>(key,value,weigh(key,value),expireAfterWriteNanos>0 ? System.nanoTime() : 0l);
+				Node<V> existing = data.putIfAbsent(key, created);
+				if(existing!=null)
+					value = existing.value;
+				else
+					afterWrite(created);
+			}
+			pending.complete(value);
+			return value;
+		}catch(Throwable t){
+			pending.completeExceptionally(t);
+			throw ExceptionSoftener.throwSoftenedException(t);
+		}finally{
+			loading.remove(key, pending);
+		}
+	}
+	/*
+	 * @return The live entry for key (recording a hit), or null - removing the entry if it has expired
+	 */
+	private Node<V> read(Object key){
+		Node<V> node = data.get(key);
+		if(node==null)
+			return null;
+		if(!isExpired(node)){
+			hits.increment();
+			recordRead(node);
+			return node;
+		}
+		if(data.remove(key, node)){
+			evictions.increment();
+			evictionLock.lock();
+			try{
+				unlink(node);
+			}finally{
+				evictionLock.unlock();
+			}
+		}
+		return null;
+	}
+	/*
+	 * @see com.aol.cyclops.util.function.Cacheable#soften()
+	 */
+	@Override
+	public SoftenedCacheable<V> soften(){
+		return this;
+	}
+
+	/**
+	 * @return Number of lookups that found a cached value
+	 */
+	public long getHitCount(){
+		return hits.sum();
+	}
+	/**
+	 * @return Number of lookups that had to compute a value
+	 */
+	public long getMissCount(){
+		return misses.sum();
+	}
+	/**
+	 * @return Ratio of hits to lookups (1.0 if there have been no lookups)
+	 */
+	public double getHitRate(){
+		long hit = hits.sum();
+		long total = hit + misses.sum();
+		return total==0 ? 1.0 : (double)hit/total;
+	}
+	/**
+	 * @return Number of entries evicted by size / weight or removed on expiry
+	 */
+	public long getEvictionCount(){
+		return evictions.sum();
+	}
+	/**
+	 * @return Number of cached entries
+	 */
+	public long size(){
+		return data.size();
+	}
+	/**
+	 * @return Total weight of cached entries (equal to size, unless a weigher has been configured)
+	 */
+	public long getWeightedSize(){
+		evictionLock.lock();
+		try{
+			return weightedSize;
+		}finally{
+			evictionLock.unlock();
+		}
+	}
+
+	private int weigh(Object key,V value){
+		if(weigher==null)
+			return 1;
+		int weight = weigher.applyAsInt(key, value);
+		if(weight<0)
+			throw new IllegalArgumentException("Weights must not be negative, but was " + weight + " for key " + key);
+		return weight;
+	}
+	private boolean isExpired(Node<V> node){
+		return expireAfterWriteNanos>0 && System.nanoTime()-node.writeTime>=expireAfterWriteNanos;
+	}
+	private void recordRead(Node<V> node){
+		long index = reads.getAndIncrement();
+		readBuffer.lazySet((int)(index & READ_BUFFER_MASK), node); //lossy, may overwrite an undrained read
+		if((index & DRAIN_THRESHOLD_MASK)==DRAIN_THRESHOLD_MASK && evictionLock.tryLock()){
+			try{
+				drainReads();
+			}finally{
+				evictionLock.unlock();
+			}
+		}
+	}
+	private void afterWrite(Node<V> node){
+		evictionLock.lock();
+		try{
+			if(!node.retired){
+				link(node,PROBATION);
+				drainReads();
+				evict();
+			}
+		}finally{
+			evictionLock.unlock();
+		}
+	}
+	/*
+	 * Replay buffered reads, promoting probationary entries and moving protected entries to the most recently used end
+	 */
+	private void drainReads(){
+		for(int i=0;i<READ_BUFFER_SIZE;i++){
+			Node<V> node = readBuffer.getAndSet(i, null);
+			if(node==null || !node.linked)
+				continue;
+			int segment = node.segment;
+			unlink(node);
+			link(node,PROTECTED);
+			if(segment==PROBATION){
+				while(protectedWeightedSize>protectedMaximum){
+					Node<V> demote = segments[PROTECTED].next;
+					unlink(demote);
+					link(demote,PROBATION);
+				}
+			}
+		}
+	}
+	private void evict(){
+		while(weightedSize>maximum){
+			Node<V> victim = segments[PROBATION].next;
+			if(victim==segments[PROBATION])
+				victim = segments[PROTECTED].next;
+			if(victim==segments[PROTECTED])
+				return;
+			unlink(victim);
+			if(data.remove(victim.key, victim))
+				evictions.increment();
+		}
+	}
+	private void link(Node<V> node,int segment){
+		Node<V> sentinel = segments[segment];
+		node.prev = sentinel.prev;
+		node.next = sentinel;
+		sentinel.prev.next = node;
+		sentinel.prev = node;
+		node.segment = segment;
+		node.linked = true;
+		weightedSize += node.weight;
+		if(segment==PROTECTED)
+			protectedWeightedSize += node.weight;
+	}
+	private void unlink(Node<V> node){
+		node.retired = true;
+		if(!node.linked)
+			return;
+		node.prev.next = node.next;
+		node.next.prev = node.prev;
+		node.prev = null;
+		node.next = null;
+		node.linked = false;
+		weightedSize -= node.weight;
+		if(node.segment==PROTECTED)
+			protectedWeightedSize -= node.weight;
+	}
+
+	private static final class Node<V>{
+		final Object key;
+		final V value;
+		final int weight;
+		final long writeTime;
+		//guarded by evictionLock
+		Node<V> prev;
+		Node<V> next;
+		int segment;
+		boolean linked;
+		boolean retired;
+
+		Node(Object key,V value,int weight,long writeTime){
+			this.key = key;
+			this.value = value;
+			this.weight = weight;
+			this.writeTime = writeTime;
+		}
+		static <V> Node<V> sentinel(){
+			Node<V> sentinel = new Node<>(null,null,0,0l);
+			sentinel.prev = sentinel;
+			sentinel.next = sentinel;
+			return sentinel;
+		}
+	}
+
+	/**
+	 * Builder for BoundedCache instances
+	 *
+	 * @param <V> Cached value type
+	 */
+	public static class Builder<V>{
+		private long maximum = Long.MAX_VALUE;
+		private ToIntBiFunction<Object,? super V> weigher;
+		private long expireAfterWriteNanos = 0;
+
+		/**
+		 * @param maximumSize Maximum number of entries to hold
+		 * @return This builder
+		 */
+		public Builder<V> maximumSize(long maximumSize){
+			if(maximumSize<0)
+				throw new IllegalArgumentException("maximumSize must not be negative, but was " + maximumSize);
+			this.maximum = maximumSize;
+			this.weigher = null;
+			return this;
+		}
+		/**
+		 * @param maximumWeight Maximum total weight of entries to hold
+		 * @param weigher Determines the weight of an entry from its key and value
+		 * @return This builder
+		 */
+		public Builder<V> maximumWeight(long maximumWeight,ToIntBiFunction<Object,? super V> weigher){
+			if(maximumWeight<0)
+				throw new IllegalArgumentException("maximumWeight must not be negative, but was " + maximumWeight);
+			this.maximum = maximumWeight;
+			this.weigher = weigher;
+			return this;
+		}
+		/**
+		 * @param duration Time after an entry is written that it expires
+		 * @param unit TimeUnit for duration
+		 * @return This builder
+		 */
+		public Builder<V> expireAfterWrite(long duration,TimeUnit unit){
+			if(duration<=0)
+				throw new IllegalArgumentException("expireAfterWrite duration must be positive, but was " + duration);
+			this.expireAfterWriteNanos = unit.toNanos(duration);
+			return this;
+		}
+		/**
+		 * @return A new BoundedCache
+		 */
+		public BoundedCache<V> build(){
+			return new BoundedCache<>(maximum,weigher,expireAfterWriteNanos);
+		}
+	}
+}
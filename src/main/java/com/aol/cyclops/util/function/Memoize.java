@@ -92,6 +92,9 @@ public class Memoize {
 	/**
 	 * Convert a Function into one that caches it's result
 	 * 
+	 * Results are held in an unbounded map for the lifetime of the returned Function, use {@link #memoizeFunction(Function, Cacheable)}
+	 * with a {@link BoundedCache} to limit memory usage
+	 * 
 	 * @param fn Function to memoise
 	 * @return Memoised Function
 	 */
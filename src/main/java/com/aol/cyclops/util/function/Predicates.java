@@ -2,7 +2,6 @@ package com.aol.cyclops.util.function;
 
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
@@ -17,6 +16,7 @@ import com.aol.cyclops.control.Maybe;
 import com.aol.cyclops.control.ReactiveSeq;
 import com.aol.cyclops.data.collections.extensions.standard.ListX;
 import com.aol.cyclops.internal.matcher2.ADTPredicateBuilder;
+import com.aol.cyclops.internal.matcher2.EqualsPredicate;
 import com.aol.cyclops.types.Value;
 
 import lombok.NoArgsConstructor;
@@ -237,7 +237,7 @@ public class Predicates {
 	 */
 	public	static<V> Predicate<V> eq(V value){
 	
-	    return test->Objects.equals(test, value);
+	    return new EqualsPredicate<>(value);
 	}
 	/**
 	 * test for equivalence
@@ -39,8 +39,6 @@ import org.jooq.lambda.Seq;
 import org.jooq.lambda.tuple.Tuple2;
 import org.jooq.lambda.tuple.Tuple3;
 import org.jooq.lambda.tuple.Tuple4;
-import org.pcollections.ConsPStack;
-import org.pcollections.PStack;
 import org.reactivestreams.Subscription;
 
 import com.aol.cyclops.CyclopsCollectors;
@@ -48,7 +46,6 @@ import com.aol.cyclops.Monoid;
 import com.aol.cyclops.Reducer;
 import com.aol.cyclops.control.AnyM;
 import com.aol.cyclops.control.ReactiveSeq;
-import com.aol.cyclops.data.Mutable;
 import com.aol.cyclops.data.collections.extensions.CollectionX;
 import com.aol.cyclops.data.collections.extensions.standard.ListX;
 import com.aol.cyclops.internal.monads.MonadWrapper;
@@ -72,6 +69,7 @@ import com.aol.cyclops.internal.stream.operators.RecoverOperator;
 import com.aol.cyclops.internal.stream.operators.SkipLastOperator;
 import com.aol.cyclops.internal.stream.operators.SkipWhileOperator;
 import com.aol.cyclops.internal.stream.operators.SkipWhileTimeOperator;
+import com.aol.cyclops.internal.stream.operators.SlidingOperator;
 import com.aol.cyclops.internal.stream.operators.WindowStatefullyWhileOperator;
 import com.aol.cyclops.internal.stream.spliterators.ReversableSpliterator;
 import com.aol.cyclops.types.stream.HeadAndTail;
@@ -1173,29 +1171,7 @@ public class StreamUtils{
 	 * @return Stream with sliding view 
 	 */
 	public final static <T> Stream<ListX<T>> sliding(Stream<T> stream,int windowSize,int increment) {
-		Iterator<T> it = stream.iterator();
-		Mutable<PStack<T>> list = Mutable.of(ConsPStack.empty());
-		return StreamUtils.stream(new Iterator<ListX<T>>(){
-			
-			@Override
-			public boolean hasNext() {
-				return it.hasNext();
-			}
-
-			@Override
-			public ListX<T> next() {
-				for(int i=0;i<increment && list.get().size()>0;i++)
-					 list.mutate(var -> var.minus(0));
-				for (int i = 0; list.get().size() < windowSize && it.hasNext(); i++) {
-					if(it.hasNext()){
-						list.mutate(var -> var.plus(Math.max(0,var.size()),it.next()));
-					}
-					
-				}
-				return ListX.fromIterable(list.get());
-			}
-			
-		});
+		return new SlidingOperator<>(stream).sliding(windowSize, increment);
 	}
 	/**
 	 * Create a sliding view over this Stream
@@ -1215,29 +1191,7 @@ public class StreamUtils{
 	 * @return Stream with sliding view over monad
 	 */
 	public final static <T> Stream<Streamable<T>> window(Stream<T> stream,int windowSize,int increment) {
-		Iterator<T> it = stream.iterator();
-		Mutable<PStack<T>> list = Mutable.of(ConsPStack.empty());
-		return StreamUtils.stream(new Iterator<Streamable<T>>(){
-			
-			@Override
-			public boolean hasNext() {
-				return it.hasNext();
-			}
-
-			@Override
-			public Streamable<T> next() {
-				for(int i=0;i<increment && list.get().size()>0;i++)
-					 list.mutate(var -> var.minus(0));
-				for (int i = 0; list.get().size() < windowSize && it.hasNext(); i++) {
-					if(it.hasNext()){
-						list.mutate(var -> var.plus(Math.max(0,var.size()),it.next()));
-					}
-					
-				}
-				return Streamable.fromIterable(list.get());
-			}
-			
-		});
+		return new SlidingOperator<>(stream).window(windowSize, increment);
 	}
 	/**
 	 * Create a sliding view over this Stream
@@ -150,7 +150,24 @@ public class DoFiltersTest {
 		val total = s.collect(Collectors.summingDouble(t->t));
 		assertThat(total,equalTo(345900000.0));
 	}
-	
-	
+	@Test
+	public void filterBetweenGenerators(){
+		Stream<String> s = For.iterable(asList(1,2,3))
+							  .filter(a->a>1)
+							  .iterable(a->asList(a*10,a*100))
+							  .filter(a->b->b!=30)
+							  .iterable(a->b->asList("x"+a+"-"+b))
+							  .yield(a->b->c->c).stream();
+		assertThat(s.collect(Collectors.toList()),equalTo(asList("x2-20","x2-200","x3-300")));
+	}
+	@Test
+	public void nestedStreamsLarge(){
+		Stream<Long> s = For.stream(LongStream.range(0,1000).boxed())
+							  .stream(a->LongStream.range(0,100).boxed())
+							  .stream(a->b->LongStream.range(0,10).boxed())
+							  .yield(a->b->c->a+b+c)
+							  .unwrap();
+		assertThat(s.count(),equalTo(1_000_000l));
+	}
 	
 }
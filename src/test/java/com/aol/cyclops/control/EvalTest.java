@@ -3,8 +3,16 @@ package com.aol.cyclops.control;
 import static org.hamcrest.Matchers.equalTo;
 import static org.junit.Assert.*;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Test;
 
@@ -63,6 +71,106 @@ public class EvalTest {
 		assertThat(count,equalTo(1));
 	}
 	@Test
+	public void laterCachesEachStep(){
+		count = 0;
+		Eval<Integer> eval = Eval.later(()->{ 
+			count++;
+			return 1;
+		});
+		Eval<Integer> mapped = eval.map(i->{ count++; return i+2;});
+		Eval<Integer> mapped2 = mapped.map(i->i*2);
+		assertThat(mapped2.get(),equalTo(6));
+		assertThat(mapped.get(),equalTo(3));
+		assertThat(eval.get(),equalTo(1));
+		assertThat(mapped.map(i->i*10).get(),equalTo(30));
+		assertThat(count,equalTo(2));
+	}
+	@Test
+	public void laterCachesNull(){
+		count = 0;
+		Eval<Integer> eval = Eval.later(()->{ 
+			count++;
+			return null;
+		});
+		assertNull(eval.get());
+		assertNull(eval.get());
+		assertThat(count,equalTo(1));
+	}
+	@Test
+	public void laterLongMapChain(){
+		Eval<Integer> eval = Eval.later(()->0);
+		for(int i=0;i<100_000;i++)
+			eval = eval.map(x->x+1);
+		assertThat(eval.get(),equalTo(100_000));
+	}
+	@Test
+	public void laterFlatMapCaches(){
+		count = 0;
+		Eval<Integer> eval = Eval.later(()->1)
+								 .flatMap(i->{ count++; return Eval.later(()->i*3).map(x->x+1);});
+		assertThat(eval.get(),equalTo(4));
+		assertThat(eval.map(i->i*2).get(),equalTo(8));
+		assertThat(count,equalTo(1));
+	}
+	@Test
+	public void laterSharedParentEvaluatedOnceAcrossThreads() throws Exception{
+		ExecutorService ex = Executors.newFixedThreadPool(4);
+		try{
+			for(int run=0;run<200;run++){
+				AtomicInteger calls = new AtomicInteger(0);
+				CountDownLatch start = new CountDownLatch(1);
+				Eval<Object> parent = Eval.later(()->{ 
+					calls.incrementAndGet();
+					return new Object();
+				});
+				Eval<Object> child = parent.map(o->o);
+				Eval<Object> child2 = parent.map(o->o);
+				Eval<Object> grandChild = child.map(o->o);
+				List<Future<Object>> results = new ArrayList<>();
+				for(Eval<Object> next : Arrays.asList(child,child2,grandChild,parent))
+					results.add(ex.submit(()->{ start.await(); return next.get(); }));
+				start.countDown();
+				Object value = results.get(0).get();
+				for(Future<Object> next : results)
+					assertSame(value,next.get());
+				assertThat(calls.get(),equalTo(1));
+			}
+		}finally{
+			ex.shutdown();
+		}
+	}
+	@Test
+	public void laterFlatMapPublishesOneValueAcrossThreads() throws Exception{
+		ExecutorService ex = Executors.newFixedThreadPool(4);
+		try{
+			for(int run=0;run<200;run++){
+				CountDownLatch start = new CountDownLatch(1);
+				Eval<Object> flat = Eval.later(()->1).flatMap(i->Eval.later(()->new Object()));
+				List<Future<Object>> results = new ArrayList<>();
+				for(int i=0;i<4;i++)
+					results.add(ex.submit(()->{ start.await(); return flat.map(o->o).get(); }));
+				start.countDown();
+				Object value = flat.get();
+				for(Future<Object> next : results)
+					assertSame(value,next.get());
+			}
+		}finally{
+			ex.shutdown();
+		}
+	}
+	@Test
+	public void laterOdd(){
+		assertThat(laterEven(Eval.later(()->200000)).get(),equalTo("done"));
+	}
+	public Eval<String> laterOdd(Eval<Integer> n )  {
+		return n.flatMap(x->laterEven(Eval.later(()->x-1)));
+	}
+	public Eval<String> laterEven(Eval<Integer> n )  {
+		return n.flatMap(x->{
+			return x<=0 ? Eval.later(()->"done") : laterOdd(Eval.later(()->x-1));
+		});
+	}
+	@Test
 	public void always(){
 		assertThat(Eval.always(()->1).map(i->i+2).get(),equalTo(3));
 	}
@@ -0,0 +1,38 @@
+package com.aol.cyclops.control;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class TrampolineTest {
+
+	@Test
+	public void done(){
+		assertTrue(Trampoline.done(10).complete());
+		assertThat(Trampoline.done(10).get(),equalTo(10));
+	}
+	@Test
+	public void more(){
+		Trampoline<Integer> t = Trampoline.more(()->Trampoline.done(10));
+		assertFalse(t.complete());
+		assertThat(t.bounce().get(),equalTo(10));
+		assertThat(t.get(),equalTo(10));
+	}
+	@Test
+	public void millionsOfBounces(){
+		assertThat(count(0,5_000_000).get(),equalTo(5_000_000l));
+	}
+	@Test
+	public void fibonacci(){
+		assertThat(fibonacci(10,1l,0l).get(),equalTo(55l));
+	}
+	Trampoline<Long> count(long acc,int n){
+		return n==0 ? Trampoline.done(acc) : Trampoline.more(()->count(acc+1,n-1));
+	}
+	Trampoline<Long> fibonacci(int n, long a, long b) {
+		return n == 0 ? Trampoline.done(b) : Trampoline.more( ()->fibonacci(n-1, a+b, a));
+	}
+}
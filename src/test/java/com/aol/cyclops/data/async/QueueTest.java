@@ -9,6 +9,7 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
@@ -188,6 +189,60 @@ public class QueueTest {
 		assertThat(dequeued, is(6));
 	}
 
+	@Test
+	public void drainingStream() {
+		Queue<Integer> q = new Queue<>(new LinkedBlockingQueue<>());
+		q.fromStream(Stream.of(1,2,3,4,5));
+		q.offer(null);
+		Stream<Integer> stream = q.streamDraining(2);
+		q.close();
+
+		assertThat(stream.collect(Collectors.toList()), is(Arrays.asList(1,2,3,4,5,null)));
+	}
+	@Test
+	public void drainingStreamWaitsWhenEmpty() {
+		Queue<Integer> q = new Queue<>(new LinkedBlockingQueue<>());
+		Stream<Integer> stream = q.streamDraining(64);
+		new Thread(()->{
+			for(int i=0;i<1000;i++)
+				q.offer(i);
+			q.close();
+		}).start();
+
+		assertThat(stream.collect(Collectors.toList()).size(), is(1000));
+	}
+	@Test
+	public void drainingStreamReoffersOnlyPoisonPills() {
+		Queue<Integer> q = new Queue<>(new LinkedBlockingQueue<>());
+		Stream<Integer> first = q.streamDraining(64);
+		Stream<Integer> second = q.streamDraining(64);
+		q.fromStream(Stream.of(1,2,3));
+		q.close();
+		q.fromStream(Stream.of(4,5));
+
+		assertThat(first.collect(Collectors.toList()), is(Arrays.asList(1,2,3)));
+		assertThat(q.size(), is(1));
+		assertThat(second.collect(Collectors.toList()), is(Arrays.asList()));
+	}
+	@Test
+	public void drainingStreamEmitsDataDrainedWithPoisonPill() {
+		LinkedBlockingQueue<Integer> backing = new LinkedBlockingQueue<>();
+		Queue<Integer> q = new Queue<>(backing);
+		q.offer(1);
+		Stream<Integer> stream = q.streamDraining(64);
+		q.close();
+		backing.add(2);
+
+		assertThat(stream.collect(Collectors.toList()), is(Arrays.asList(1,2)));
+	}
+	@Test
+	public void drainingStreamNonBlocking() {
+		Queue<Integer> q = QueueFactories.<Integer>unboundedNonBlockingQueue().build();
+		q.fromStream(Stream.of(1,2,3,4,5));
+
+		assertThat(q.streamDraining(3).limit(5).collect(Collectors.toList()), is(Arrays.asList(1,2,3,4,5)));
+	}
+
 	volatile int count = 0;
 	volatile int count1 = 10000;
 
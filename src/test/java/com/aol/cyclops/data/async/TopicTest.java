@@ -11,10 +11,12 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ForkJoinPool;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import org.junit.Before;
@@ -284,6 +286,91 @@ public class TopicTest {
 	
 	
 	
+	@Test
+	public void multicastSubscribersGetSameMessages() {
+		Topic<String> topic = new Topic<>(QueueFactories.multicastRingBuffer(16));
+
+		Stream<String> data1 = topic.stream();
+		Stream<String> data2 = topic.stream();
+		topic.fromStream(Stream.of("hello", "world"));
+
+		assertThat(data1.limit(1).findFirst().get(), is("hello"));
+		assertThat(data2.limit(2).reduce("", (acc, next) -> acc + ' ' + next),
+				is(" hello world"));
+	}
+	@Test
+	public void multicastPublisherWaitsForSlowestSubscriber() {
+		Topic<Integer> topic = new Topic<>(QueueFactories.multicastRingBuffer(4));
+		Stream<Integer> data1 = topic.stream();
+		Stream<Integer> data2 = topic.stream();
+		CompletableFuture<Boolean> published = CompletableFuture.supplyAsync(()->topic.fromStream(IntStream.range(0, 100).boxed()));
+		CompletableFuture<List<Integer>> slow = CompletableFuture.supplyAsync(()->data2.limit(100)
+																					.peek(i->sleep(1))
+																					.collect(Collectors.toList()));
+
+		assertThat(data1.limit(100).collect(Collectors.toList()),is(IntStream.range(0, 100).boxed().collect(Collectors.toList())));
+		assertThat(slow.join(),is(IntStream.range(0, 100).boxed().collect(Collectors.toList())));
+		assertThat(published.join(),is(true));
+	}
+	@Test
+	public void multicastDisconnectedSubscriberDoesNotHoldBackPublisher() {
+		Topic<Integer> topic = new Topic<>(QueueFactories.multicastRingBuffer(2));
+		Stream<Integer> data1 = topic.stream();
+		Stream<Integer> data2 = topic.stream();
+		topic.disconnect(data2);
+		topic.fromStream(Stream.of(1,2));
+		CompletableFuture.runAsync(()->topic.fromStream(Stream.of(3,4,5,6)));
+
+		assertThat(data1.limit(6).collect(Collectors.toList()),is(Arrays.asList(1,2,3,4,5,6)));
+	}
+	@Test
+	public void multicastSizeSignal() {
+		Topic<Integer> topic = new Topic<>(QueueFactories.multicastRingBuffer(8));
+		topic.stream();
+		topic.setSizeSignal(0, Signal.queueBackedSignal());
+		topic.fromStream(Stream.of(1,2,3));
+
+		assertThat(topic.getSizeSignal(0).getContinuous().stream().limit(3).collect(Collectors.toList()),is(Arrays.asList(1,2,3)));
+	}
+	@Test
+	public void multicastCloseAfterData() {
+		Topic<Integer> topic = new Topic<>(QueueFactories.multicastRingBuffer(8));
+		Stream<Integer> data = topic.stream();
+		topic.fromStream(Stream.of(1,2,3));
+		topic.close();
+
+		assertThat(data.collect(Collectors.toList()),is(Arrays.asList(1,2,3)));
+	}
+	@Test(timeout=10_000)
+	public void multicastCloseReleasesWaitingPublisher() throws InterruptedException {
+		Topic<Integer> topic = new Topic<>(QueueFactories.multicastRingBuffer(2));
+		topic.stream(); //never read, so the ring fills
+		CompletableFuture<Boolean> published = CompletableFuture.supplyAsync(()->topic.fromStream(Stream.of(1,2,3,4)));
+		Thread.sleep(100);
+		topic.close();
+
+		assertThat(published.handle((r,e)->e.getCause()).join(),instanceOf(Queue.ClosedQueueException.class));
+	}
+	@Test(timeout=10_000)
+	public void multicastIdleSubscriberWakesOnPublish() throws InterruptedException {
+		Topic<Integer> topic = new Topic<>(QueueFactories.multicastRingBuffer(4));
+		Stream<Integer> data = topic.stream();
+		CompletableFuture<List<Integer>> received = CompletableFuture.supplyAsync(()->data.limit(2).collect(Collectors.toList()));
+		Thread.sleep(100); //subscriber is now blocked waiting
+		topic.offer(1);
+		Thread.sleep(50);
+		topic.offer(2);
+
+		assertThat(received.join(),is(Arrays.asList(1,2)));
+	}
+	@Test
+	public void multicastStandaloneQueue() {
+		Queue<Integer> q = QueueFactories.<Integer>multicastRingBuffer(4).build();
+		CompletableFuture.runAsync(()->q.fromStream(IntStream.range(0, 20).boxed()));
+
+		assertThat(q.stream().limit(20).collect(Collectors.toList()),is(IntStream.range(0, 20).boxed().collect(Collectors.toList())));
+	}
+	
 	private Collection<String> extract1(List<Collection<String>> result) {
 		for(Collection next : result){
 			if(next instanceof ArrayList)
@@ -15,6 +15,7 @@ import java.util.Arrays;
 import java.util.Optional;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
@@ -28,6 +29,7 @@ import com.aol.cyclops.control.Matchable;
 import com.aol.cyclops.control.Try;
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.nurkiewicz.asyncretry.AsyncRetryExecutor;
 
 public class FluentFunctionTest {
 
@@ -143,6 +145,23 @@ public class FluentFunctionTest {
 					   .apply("hello"),equalTo("hello world"));
 	}
 	
+	@Test
+	public void retryAsync(){
+		ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+		try{
+			AsyncRetryExecutor retrier = new AsyncRetryExecutor(scheduler)
+														.withExponentialBackoff(10, 2)
+														.withMaxRetries(2);
+			assertThat(FluentFunctions.ofChecked(this::exceptionalFirstTime)
+						   .retryAsync(retrier)
+						   .apply("hello")
+						   .get(),equalTo("hello world"));
+			assertThat(times,equalTo(1));
+		}finally{
+			scheduler.shutdown();
+		}
+	}
+	
 	@Test
 	public void recover(){
 		assertThat(FluentFunctions.ofChecked(this::exceptionalFirstTime)
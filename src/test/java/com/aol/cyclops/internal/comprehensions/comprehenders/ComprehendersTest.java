@@ -0,0 +1,54 @@
+package com.aol.cyclops.internal.comprehensions.comprehenders;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+import com.aol.cyclops.control.Maybe;
+import com.aol.cyclops.control.ReactiveSeq;
+import com.aol.cyclops.data.collections.extensions.standard.ListX;
+import com.aol.cyclops.types.extensability.Comprehender;
+import com.aol.cyclops.util.stream.Streamable;
+
+public class ComprehendersTest {
+
+	Comprehenders comprehenders = new Comprehenders();
+
+	@Test
+	public void registeredComprehenderMatchesFirstAssignable(){
+		for(Class type : Arrays.asList(Optional.class,CompletableFuture.class,ArrayList.class,ListX.class,
+										ReactiveSeq.class,Streamable.class,Maybe.class,Stream.of(1).getClass(),String.class)){
+			Optional<Comprehender> expected = comprehenders.getRegisteredComprehenders().stream()
+														   .filter(e -> e.getKey().isAssignableFrom(type))
+														   .map(Map.Entry::getValue)
+														   .findFirst();
+			assertThat(type.getName(),comprehenders.getRegisteredComprehender(type),equalTo(expected));
+		}
+	}
+	@Test
+	public void indexListsEachProvider() throws Exception{
+		File services = File.createTempFile("comprehenders", ".services");
+		File index = File.createTempFile("comprehenders", ".index");
+		try{
+			Files.write(services.toPath(), Arrays.asList("# comment",OptionalComprehender.class.getName(),"",ListComprehender.class.getName()));
+			ComprehenderIndex.main(new String[]{services.getAbsolutePath(),index.getAbsolutePath()});
+			List<String> lines = Files.readAllLines(index.toPath());
+			assertThat(lines,equalTo(Arrays.asList(new OptionalComprehender().priority() + " java.util.Optional " + OptionalComprehender.class.getName(),
+												   new ListComprehender().priority() + " java.util.List " + ListComprehender.class.getName())));
+		}finally{
+			services.delete();
+			index.delete();
+		}
+	}
+}
@@ -0,0 +1,150 @@
+package com.aol.cyclops.lambda.functions;
+
+import static com.aol.cyclops.util.function.Memoize.memoizeFunction;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.Test;
+
+import com.aol.cyclops.control.LazyReact;
+import com.aol.cyclops.util.function.BoundedCache;
+
+public class BoundedCacheTest {
+
+	AtomicInteger called = new AtomicInteger(0);
+
+	@Test
+	public void memoizeWithBoundedCache(){
+		BoundedCache<Integer> cache = BoundedCache.maximumSize(10);
+		Function<Integer,Integer> fn = memoizeFunction(i->{ called.incrementAndGet(); return i*2;},cache);
+		assertThat(fn.apply(1),equalTo(2));
+		assertThat(fn.apply(1),equalTo(2));
+		assertThat(called.get(),equalTo(1));
+		assertThat(cache.getHitCount(),equalTo(1l));
+		assertThat(cache.getMissCount(),equalTo(1l));
+		assertThat(cache.getHitRate(),equalTo(0.5));
+	}
+	@Test
+	public void sizeBounded(){
+		BoundedCache<Integer> cache = BoundedCache.maximumSize(100);
+		for(int i=0;i<1000;i++)
+			cache.computeIfAbsent(i, k->(Integer)k);
+		assertThat(cache.size(),equalTo(100l));
+		assertThat(cache.getEvictionCount(),equalTo(900l));
+	}
+	@Test
+	public void weightBounded(){
+		BoundedCache<String> cache = BoundedCache.<String>builder()
+												 .maximumWeight(10,(k,v)->v.length())
+												 .build();
+		cache.computeIfAbsent(1, k->"aaaa");
+		cache.computeIfAbsent(2, k->"bbbb");
+		cache.computeIfAbsent(3, k->"cccc");
+		assertThat(cache.getWeightedSize(),equalTo(8l));
+		assertThat(cache.size(),equalTo(2l));
+	}
+	@Test
+	public void frequentlyReadEntriesSurviveScan(){
+		BoundedCache<Integer> cache = BoundedCache.maximumSize(100);
+		for(int r=0;r<100;r++)
+			for(int i=0;i<10;i++)
+				cache.computeIfAbsent(i, k->(Integer)k);
+		for(int i=1000;i<2000;i++)
+			cache.computeIfAbsent(i, k->(Integer)k);
+		long misses = cache.getMissCount();
+		for(int i=0;i<10;i++)
+			cache.computeIfAbsent(i, k->(Integer)k);
+		assertThat(cache.getMissCount(),equalTo(misses));
+	}
+	@Test
+	public void expireAfterWrite() throws InterruptedException{
+		BoundedCache<Integer> cache = BoundedCache.<Integer>builder()
+												  .expireAfterWrite(20, TimeUnit.MILLISECONDS)
+												  .build();
+		assertThat(cache.computeIfAbsent(1, k->1),equalTo(1));
+		Thread.sleep(50);
+		assertThat(cache.computeIfAbsent(1, k->2),equalTo(2));
+		assertThat(cache.getMissCount(),equalTo(2l));
+		assertThat(cache.getEvictionCount(),equalTo(1l));
+	}
+	@Test
+	public void nullsNotCached(){
+		BoundedCache<Integer> cache = BoundedCache.maximumSize(10);
+		cache.computeIfAbsent(1, k->null);
+		assertThat(cache.size(),equalTo(0l));
+	}
+	@Test
+	public void concurrentMissesComputeOnce() throws Exception{
+		BoundedCache<Integer> cache = BoundedCache.maximumSize(10);
+		ExecutorService ex = Executors.newFixedThreadPool(8);
+		try{
+			for(int run=0;run<50;run++){
+				called.set(0);
+				int key = run;
+				CountDownLatch start = new CountDownLatch(1);
+				List<Future<Integer>> results = new ArrayList<>();
+				for(int i=0;i<8;i++)
+					results.add(ex.submit(()->{ 
+						start.await(); 
+						return cache.computeIfAbsent(key, k->{ called.incrementAndGet(); sleep(5); return key*2;}); 
+					}));
+				start.countDown();
+				for(Future<Integer> next : results)
+					assertThat(next.get(),equalTo(key*2));
+				assertThat(called.get(),equalTo(1));
+			}
+		}finally{
+			ex.shutdown();
+		}
+	}
+	@Test
+	public void failedLoadIsNotCached(){
+		BoundedCache<Integer> cache = BoundedCache.maximumSize(10);
+		try{
+			cache.computeIfAbsent(1, k->{ throw new IllegalStateException(); });
+			fail("exception expected");
+		}catch(IllegalStateException e){
+		}
+		assertThat(cache.computeIfAbsent(1, k->2),equalTo(2));
+	}
+	private void sleep(long millis){
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+	@Test
+	public void autoMemoizeWithBoundedCache(){
+		BoundedCache cache = BoundedCache.maximumSize(100);
+		List<Integer> result = new LazyReact().autoMemoizeOn(cache)
+										 .of(1,1,1,1)
+										 .map(i->{ called.incrementAndGet(); return i*2;})
+										 .toList();
+		assertThat(result.size(),equalTo(4));
+		assertThat(called.get(),equalTo(1));
+		assertThat(cache.getHitCount(),greaterThan(0l));
+	}
+	@Test
+	public void autoMemoizeStagesDoNotShareResults(){
+		BoundedCache cache = BoundedCache.maximumSize(100);
+		List<Integer> result = new LazyReact().autoMemoizeOn(cache)
+										 .of(1)
+										 .map(i->i)
+										 .map(i->i+5)
+										 .toList();
+		assertThat(result.get(0),equalTo(6));
+	}
+}
@@ -87,6 +87,37 @@ public class InvokeDynamicProxiesTest {
                .flatMap(i-> AnyM.ofValue(MyStream2.of(null))).unwrap();
        assertThat(res.isPresent(),equalTo(false));
     }
+    @Test
+    public void mapRepeatedly(){
+       AnyM<Integer> res = AnyM.<Integer>ofValue(MyStream.of(0));
+       for(int i=0;i<1000;i++)
+           res = res.map(x->x+1);
+       assertThat(res.<MyStream<Integer>>unwrap().get(),equalTo(1000));
+    }
+    @Test
+    public void mapJavaFunction(){
+       Box<Integer> res = AnyM.<Integer>ofValue(new Box<>(1)).map(i->i+2).unwrap();
+       assertThat(res.getValue(),equalTo(3));
+    }
+    @Test
+    public void flatMapJavaFunction(){
+       Box<Integer> res = AnyM.<Integer>ofValue(new Box<>(1))
+               .flatMap(i-> AnyM.ofValue(new Box<>(i+10))).unwrap();
+       assertThat(res.getValue(),equalTo(11));
+    }
+    @Value
+    public static class Box<T>{
+        T value;
+        public <R> Box<R> map(java.util.function.Function<? super T, ? extends R> fn){
+            return new Box<R>(fn.apply(value));
+        }
+        public <R> Box<R> flatMap(java.util.function.Function<? super T, ? extends Box<R>> fn){
+            return fn.apply(value);
+        }
+        public T get(){
+            return value;
+        }
+    }
     @Value
     static class MyStream2<T>{
         T value;
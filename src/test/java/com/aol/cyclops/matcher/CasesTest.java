@@ -25,6 +25,8 @@ import org.junit.Test;
 
 import com.aol.cyclops.internal.matcher2.Case;
 import com.aol.cyclops.internal.matcher2.Cases;
+import com.aol.cyclops.internal.matcher2.EqualsPredicate;
+import com.aol.cyclops.internal.matcher2.TypedPredicate;
 import com.aol.cyclops.types.Decomposable;
 
 
@@ -131,6 +133,46 @@ public class CasesTest {
 				Case.of((List input) -> input.size()==1, input -> "world"))
 				.unapply(new MyClass(1,"hello")).get(),is("ignored"));
 	}
+	@Test
+	public void compiledMatchesInCaseOrder(){
+		Cases<Object,String> cases = Cases.of(Case.of(i->"general".equals(i), i->"general"),
+				Case.of(TypedPredicate.instanceOf(Number.class).and(i->((Number)i).intValue()>100), i->"big"),
+				Case.of(new EqualsPredicate<>(10), i->"ten"),
+				Case.of(TypedPredicate.instanceOf(Integer.class), i->"integer"),
+				Case.of(new EqualsPredicate<>(null), i->"null"),
+				Case.of(new EqualsPredicate<>("general"), i->"ignored"),
+				Case.of(TypedPredicate.instanceOf(CharSequence.class), i->"text"));
+		for(int i=0;i<3;i++){
+			assertThat(cases.match(10).get(),is("ten"));
+			assertThat(cases.match(1000).get(),is("big"));
+			assertThat(cases.match(5).get(),is("integer"));
+			assertThat(cases.match(5l).isPresent(),is(false));
+			assertThat(cases.match("general").get(),is("general"));
+			assertThat(cases.match("hello").get(),is("text"));
+			assertThat(cases.match((Object)null).get(),is("null"));
+			assertThat(cases.match(new StringBuilder()).get(),is("text"));
+		}
+	}
+	@Test
+	public void compiledManyConstantCases(){
+		Case<Integer,Integer>[] constants = new Case[1000];
+		for(int i=0;i<1000;i++){
+			int value = i;
+			constants[i] = Case.of(new EqualsPredicate<>(value), in->value*2);
+		}
+		Cases<Integer,Integer> cases = Cases.of(constants);
+		for(int r=0;r<2;r++){
+			for(int i=0;i<1000;i++)
+				assertThat(cases.match(i).get(),is(i*2));
+			assertThat(cases.match(1000).isPresent(),is(false));
+		}
+	}
+	@Test
+	public void compiledSkipsEmptyCases(){
+		Cases<Integer,String> cases = Cases.of(Case.empty(),Case.of(i->true, i->"hello"));
+		assertThat(cases.match(1).get(),is("hello"));
+		assertThat(cases.match(1).get(),is("hello"));
+	}
 	@AllArgsConstructor
 	static class MyClass implements Decomposable{
 		int value;
@@ -8,6 +8,7 @@ import java.util.List;
 
 import org.junit.Test;
 
+import com.aol.cyclops.internal.matcher2.Extractors;
 import com.aol.cyclops.types.Decomposable;
 
 import lombok.AllArgsConstructor;
@@ -20,6 +21,60 @@ public class DecomposableTest {
 	public void testDefaultMethod(){
 		assertThat(new DefaultDecomposable(1,"hello",2).unapply(),is(new DecomposableObject(1,"hello",2).unapply()));
 	}
+	@Test
+	public void superClassFieldsFirst(){
+		List<Object> values = new Child(1,"hello",2).unapply();
+		assertThat(values,is(Arrays.asList(1,"hello",2)));
+	}
+	@Test
+	public void repeatedUnapplyReadsCurrentValues(){
+		Mutable m = new Mutable();
+		m.value = 1;
+		List<Object> first = m.unapply();
+		m.value = 2;
+		m.name = "hello";
+		List<Object> second = m.unapply();
+		assertThat(first,is(Arrays.asList(1,null)));
+		assertThat(second,is(Arrays.asList(2,"hello")));
+	}
+	@Test(expected=UnsupportedOperationException.class)
+	public void unapplyIsImmutable(){
+		List<Object> values = new DefaultDecomposable(1,"hello",2).unapply();
+		values.set(0, 10);
+	}
+	@Test
+	public void coercedUsesUnapplyMethod(){
+		Object result = Extractors.decomposeCoerced().apply(new WithUnapply(5));
+		assertThat(result,is(Arrays.asList(5,10)));
+	}
+	@Test
+	public void coercedReadsFields(){
+		Object result = Extractors.decomposeCoerced().apply(new Parent(1,"hello"));
+		assertThat(result,is(Arrays.asList(1,"hello")));
+	}
+	@AllArgsConstructor
+	static class Parent{
+		private final int num;
+		private final String name;
+	}
+	static class Child extends Parent implements Decomposable{
+		private final int num2;
+		Child(int num,String name,int num2){
+			super(num,name);
+			this.num2 = num2;
+		}
+	}
+	static class Mutable implements Decomposable{
+		private int value;
+		private String name;
+	}
+	@AllArgsConstructor
+	static class WithUnapply{
+		private final int value;
+		public List<Integer> unapply(){
+			return Arrays.asList(value,value*2);
+		}
+	}
 	@AllArgsConstructor
 	static class DecomposableObject implements Decomposable{
 		private final int num;
@@ -12,11 +12,16 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Before;
 import org.junit.Test;
 
+import com.aol.cyclops.control.LazyReact;
 import com.aol.cyclops.internal.react.async.future.FastFuture;
 import com.aol.cyclops.internal.react.async.future.FinalPipeline;
 import com.aol.cyclops.internal.react.async.future.PipelineBuilder;
@@ -36,6 +41,58 @@ public class FastFutureTest {
 
 	Throwable failed;
 
+	@Test
+	public void joinWaitsForCompletionOnAnotherThread() throws InterruptedException {
+		FastFuture<String> f = new FastFuture<>(FinalPipeline.empty(),0);
+		CompletableFuture<String> joined = CompletableFuture.supplyAsync(()->f.join());
+		CompletableFuture<Void> awaited = CompletableFuture.runAsync(()->f.await());
+		Thread.sleep(50);
+		assertFalse(joined.isDone());
+		
+		f.set("hello");
+		assertThat(joined.join(),equalTo("hello"));
+		awaited.join();
+	}
+	@Test
+	public void awaitWithSpin() {
+		ExecutorService ex = Executors.newSingleThreadExecutor();
+		try{
+			FastFuture<String> f = future.withSpinBeforePark(100).build();
+			ex.execute(()->f.set("hello"));
+			assertThat(f.join(),equalTo("hello"));
+		}finally{
+			ex.shutdown();
+		}
+	}
+	@Test
+	public void spinBeforeParkPerLazyReact() {
+		assertThat(new LazyReact().withSpinBeforePark(100)
+								.of(1,2,3)
+								.map(i->i+1)
+								.toList()
+								.size(),equalTo(3));
+	}
+	@Test
+	public void joinWhenInterruptedWaitsAndRestoresInterrupt() {
+		ExecutorService ex = Executors.newSingleThreadExecutor();
+		try{
+			FastFuture<String> f = new FastFuture<>(FinalPipeline.empty(),0);
+			ex.execute(()->{
+				try {
+					Thread.sleep(50);
+				} catch (InterruptedException e) {
+					throw new RuntimeException(e);
+				}
+				f.set("hello");
+			});
+			Thread.currentThread().interrupt();
+			assertThat(f.join(),equalTo("hello"));
+			assertTrue(Thread.interrupted());
+		}finally{
+			Thread.interrupted();
+			ex.shutdown();
+		}
+	}
 	@Test
 	public void onFail() {
 		FastFuture f = future.onFail(t -> failed = t).thenApply(v -> {
@@ -221,6 +278,23 @@ public class FastFutureTest {
 		assertTrue(called);
 	}
 
+	@Test
+	public void onComplete_throwingListenerIsolated() {
+		called = false;
+		FastFuture f = future.<Integer, Integer> thenApply(i -> i + 2).build();
+		f.onComplete(event -> {
+			throw new IllegalStateException("listener");
+		});
+		f.onComplete(event -> called = true);
+		try {
+			f.set(10);
+		} catch (IllegalStateException e) {
+			assertThat(e.getMessage(), equalTo("listener"));
+		}
+		assertTrue(f.isDone());
+		assertTrue(called);
+	}
+
 	@Test
 	public void essential_alreadyCompleted() {
 		called = false;
@@ -520,4 +594,56 @@ public class FastFutureTest {
 		
 	}
 
+	@Test
+	public void thenComposeAsyncDoesNotBlockWorker() {
+		ExecutorService single = Executors.newSingleThreadExecutor();
+		List<CompletableFuture<Integer>> inner = new ArrayList<>();
+		AtomicInteger started = new AtomicInteger(0);
+		PipelineBuilder composing = future.<Integer, Integer> thenComposeAsync(i -> {
+			CompletableFuture<Integer> cf = new CompletableFuture<>();
+			synchronized (inner) {
+				inner.add(cf);
+			}
+			started.incrementAndGet();
+			return cf;
+		}, single).<Integer, Integer> thenApply(i -> i * 2);
+		List<FastFuture> futures = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			FastFuture f = composing.build();
+			f.set(i);
+			futures.add(f);
+		}
+		while (started.get() < 10) {
+			Thread.yield();
+		}
+		synchronized (inner) {
+			for (CompletableFuture<Integer> cf : inner)
+				cf.complete(5);
+		}
+		for (FastFuture f : futures)
+			assertThat(f.join(), equalTo(10));
+		single.shutdown();
+	}
+
+	@Test
+	public void thenComposeAsyncFailureRecovered() {
+		FastFuture f = future.<Integer, Integer> thenComposeAsync(i -> {
+			CompletableFuture<Integer> cf = new CompletableFuture<>();
+			cf.completeExceptionally(new IOException());
+			return cf;
+		}, java.util.concurrent.ForkJoinPool.commonPool()).exceptionally(e -> -1).build();
+		f.set(1);
+		assertThat(f.join(), equalTo(-1));
+	}
+
+	@Test
+	public void thenComposeKeepsPreviousStage() {
+		FastFuture f = future.<Integer, Integer> thenApply(i -> i + 1)
+				.<Integer, Integer> thenCompose(i -> CompletableFuture.supplyAsync(() -> i * 10))
+				.<Integer, Integer> thenApply(i -> i + 1)
+				.build();
+		f.set(1);
+		assertThat(f.join(), equalTo(21));
+	}
+
 }
\ No newline at end of file
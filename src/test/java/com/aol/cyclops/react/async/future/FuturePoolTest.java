@@ -0,0 +1,127 @@
+package com.aol.cyclops.react.async.future;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.aol.cyclops.control.LazyReact;
+import com.aol.cyclops.internal.react.async.future.FastFuture;
+import com.aol.cyclops.internal.react.async.future.FuturePool;
+
+public class FuturePoolTest {
+
+	AtomicInteger created = new AtomicInteger(0);
+	FastFuture<Integer> create(){
+		created.incrementAndGet();
+		return new FastFuture<>();
+	}
+	@Test
+	public void reusedOnSameThread(){
+		FuturePool pool = new FuturePool(100);
+		FastFuture<Integer> f = pool.next(this::create);
+		f.set(10);
+		pool.done(f);
+		FastFuture<Integer> next = pool.next(this::create);
+		assertTrue(next==f);
+		assertFalse(next.isDone());
+		assertThat(created.get(),equalTo(1));
+	}
+	@Test
+	public void freeListsKeptPerPoolOnThread(){
+		FuturePool first = new FuturePool(100);
+		FuturePool second = new FuturePool(100);
+		FastFuture<Integer> f = first.next(this::create);
+		first.done(f);
+		FastFuture<Integer> g = second.next(this::create);
+		second.done(g);
+		assertThat(first.stashed(),equalTo(0));
+		assertTrue(first.next(this::create)==f);
+		assertTrue(second.next(this::create)==g);
+		assertThat(created.get(),equalTo(2));
+	}
+	@Test
+	public void freeListsHandedBackWhenManyPoolsUseThread(){
+		FuturePool first = new FuturePool(100);
+		FastFuture<Integer> f = first.next(this::create);
+		first.done(f);
+		for(int i=0;i<16;i++)
+			new FuturePool(100).next(this::create);
+		assertThat(first.stashed(),equalTo(1));
+		assertTrue(first.next(this::create)==f);
+		assertThat(created.get(),equalTo(17));
+	}
+	@Test
+	public void reusedAcrossThreadsViaStash() throws InterruptedException{
+		FuturePool pool = new FuturePool(1000);
+		List<FastFuture<Integer>> futures = new ArrayList<>();
+		for(int i=0;i<64;i++)
+			futures.add(pool.next(this::create));
+		Thread t = new Thread(()->futures.forEach(pool::done));
+		t.start();
+		t.join();
+		assertThat(pool.stashed(),equalTo(64));
+		for(int i=0;i<64;i++)
+			assertTrue(futures.contains(pool.next(this::create)));
+		assertThat(created.get(),equalTo(64));
+		assertThat(pool.stashed(),equalTo(0));
+	}
+	@Test
+	public void stashBounded() throws InterruptedException{
+		FuturePool pool = new FuturePool(32);
+		Thread t = new Thread(()->{
+			for(int i=0;i<320;i++)
+				pool.done(new FastFuture<>());
+		});
+		t.start();
+		t.join();
+		assertThat(pool.stashed(),equalTo(32));
+	}
+	@Test
+	public void concurrentReleaseNoDuplicates() throws InterruptedException{
+		FuturePool pool = new FuturePool(100_000);
+		List<Thread> threads = new ArrayList<>();
+		for(int t=0;t<4;t++){
+			threads.add(new Thread(()->{
+				for(int i=0;i<3200;i++)
+					pool.done(new FastFuture<>());
+			}));
+		}
+		threads.forEach(Thread::start);
+		for(Thread t : threads)
+			t.join();
+		Set<FastFuture> seen = ConcurrentHashMap.newKeySet();
+		for(int i=0;i<4*3200;i++)
+			assertTrue(seen.add(pool.next(this::create)));
+		assertThat(created.get(),equalTo(0));
+	}
+	@Test
+	public void pooledLazyReactToQueue(){
+		for(int i=0;i<10;i++){
+			assertThat(new LazyReact().objectPoolingOn()
+									.range(0,10_000)
+									.map(x->x+1)
+									.toQueue()
+									.stream()
+									.count(),equalTo(10_000l));
+		}
+	}
+	@Test
+	public void allocationDropsInSteadyState(){
+		FuturePool pool = new FuturePool(1000);
+		for(int i=0;i<10_000;i++){
+			FastFuture<Integer> f = pool.next(this::create);
+			pool.done(f);
+		}
+		assertThat(created.get(),lessThan(2));
+	}
+}
@@ -0,0 +1,106 @@
+package com.aol.cyclops.react.async.subscription;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+
+import com.aol.cyclops.control.LazyReact;
+import com.aol.cyclops.data.async.Queue;
+
+public class SubscriptionTest {
+
+	@Test
+	public void closesQueueAtLimit(){
+		Subscription sub = new Subscription();
+		Queue<Integer> q = new Queue<>();
+		sub.addQueue(q);
+		sub.registerLimit(2);
+		sub.closeQueueIfFinished(q);
+		assertThat(q.isOpen(),equalTo(true));
+		sub.closeQueueIfFinished(q);
+		assertThat(q.isOpen(),equalTo(false));
+		assertThat(sub.closed(),equalTo(true));
+	}
+	@Test
+	public void downstreamLimitAppliesUpstream(){
+		Subscription sub = new Subscription();
+		Queue<Integer> q1 = new Queue<>();
+		Queue<Integer> q2 = new Queue<>();
+		sub.addQueue(q1);
+		sub.registerLimit(10);
+		sub.addQueue(q2);
+		sub.registerLimit(1);
+		sub.closeQueueIfFinished(q1);
+		assertThat(q1.isOpen(),equalTo(false));
+		assertThat(q2.isOpen(),equalTo(true));
+	}
+	@Test
+	public void skipExtendsLimit(){
+		Subscription sub = new Subscription();
+		Queue<Integer> q = new Queue<>();
+		sub.addQueue(q);
+		sub.registerLimit(1);
+		sub.registerSkip(1);
+		sub.closeQueueIfFinished(q);
+		assertThat(q.isOpen(),equalTo(true));
+		sub.closeQueueIfFinished(q);
+		assertThat(q.isOpen(),equalTo(false));
+	}
+	@Test
+	public void skipExtendsDownstreamLimit(){
+		Subscription sub = new Subscription();
+		Queue<Integer> q1 = new Queue<>();
+		Queue<Integer> q2 = new Queue<>();
+		sub.addQueue(q1);
+		sub.registerSkip(10);
+		sub.addQueue(q2);
+		sub.registerLimit(5);
+		for(int i=0;i<14;i++){
+			sub.closeQueueIfFinished(q1);
+			sub.closeQueueIfFinished(q2);
+		}
+		assertThat(q1.isOpen(),equalTo(true));
+		assertThat(q2.isOpen(),equalTo(true));
+		sub.closeQueueIfFinished(q1);
+		sub.closeQueueIfFinished(q2);
+		assertThat(q1.isOpen(),equalTo(false));
+		assertThat(q2.isOpen(),equalTo(false));
+	}
+	@Test
+	public void gettersReflectRegistration(){
+		Subscription sub = new Subscription();
+		Queue<Integer> q = new Queue<>();
+		sub.addQueue(q);
+		sub.registerLimit(3);
+		assertThat(sub.getQueues().size(),equalTo(1));
+		assertThat(sub.getLimits().get(q).get(),equalTo(3l));
+	}
+	@Test
+	public void skipOnUnlimitedQueueStaysUnlimited(){
+		Subscription sub = new Subscription();
+		Queue<Integer> q = new Queue<>();
+		sub.addQueue(q);
+		sub.registerSkip(5);
+		for(int i=0;i<100;i++)
+			sub.closeQueueIfFinished(q);
+		assertThat(q.isOpen(),equalTo(true));
+	}
+	@Test
+	public void unregisteredQueueIgnored(){
+		Subscription sub = new Subscription();
+		sub.addQueue(new Queue<>());
+		sub.registerLimit(0);
+		Queue<Integer> other = new Queue<>();
+		sub.closeQueueIfFinished(other);
+		assertThat(other.isOpen(),equalTo(true));
+	}
+	@Test
+	public void limitSkipChain(){
+		assertThat(new LazyReact().range(0,100)
+								.limit(50)
+								.skip(10)
+								.limit(5)
+								.toList().size(),equalTo(5));
+	}
+}
@@ -0,0 +1,103 @@
+package com.aol.cyclops.react.collectors.lazy;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import com.aol.cyclops.control.LazyReact;
+
+public class AdaptiveMaxActiveTest {
+
+	long ms = TimeUnit.MILLISECONDS.toNanos(1);
+
+	@Test
+	public void staticMaxActiveNotAdaptive(){
+		assertFalse(MaxActive.IO.isAdaptive());
+		assertTrue(MaxActive.adaptive().isAdaptive());
+	}
+	@Test
+	public void withMaxActiveStaysAdaptive(){
+		AdaptiveMaxActive max = MaxActive.adaptive(10,1,1000).withMaxActive(50);
+		assertTrue(max.isAdaptive());
+		assertThat(max.getMaxActive(),equalTo(50));
+		assertThat(max.getMinLimit(),equalTo(1));
+		assertThat(max.getMaxLimit(),equalTo(1000));
+	}
+	@Test(expected=UnsupportedOperationException.class)
+	public void withReduceToUnsupported(){
+		MaxActive.adaptive().withReduceTo(5);
+	}
+	@Test
+	public void limitGrowsWhileLatencyStable(){
+		AdaptiveMaxActive max = MaxActive.adaptive(10,1,1000);
+		for(int i=0;i<100;i++){
+			max.sample(10*ms, max.getMaxActive(), false);
+		}
+		assertThat(max.getMaxActive(),greaterThan(10));
+		assertThat(max.getReduceTo(),lessThan(max.getMaxActive()));
+		assertThat(max.getLatency(TimeUnit.MILLISECONDS),equalTo(10l));
+	}
+	@Test
+	public void limitNotGrownWhenUnderused(){
+		AdaptiveMaxActive max = MaxActive.adaptive(10,1,1000);
+		for(int i=0;i<100;i++){
+			max.sample(10*ms, 1, false);
+		}
+		assertThat(max.getMaxActive(),equalTo(10));
+	}
+	@Test
+	public void limitShrinksAsLatencyRises(){
+		AdaptiveMaxActive max = MaxActive.adaptive(100,1,1000);
+		for(int i=0;i<100;i++){
+			max.sample(10*ms, max.getMaxActive(), false);
+		}
+		int peak = max.getMaxActive();
+		for(int i=0;i<100;i++){
+			max.sample(100*ms, max.getMaxActive(), false);
+		}
+		assertThat(max.getMaxActive(),lessThan(peak));
+		assertThat(max.getLatency(TimeUnit.MILLISECONDS),greaterThan(max.getBaselineLatency(TimeUnit.MILLISECONDS)));
+	}
+	@Test
+	public void failuresBackOff(){
+		AdaptiveMaxActive max = MaxActive.adaptive(100,5,1000);
+		max.sample(10*ms, 100, true);
+		assertThat(max.getMaxActive(),equalTo(90));
+		for(int i=0;i<100;i++){
+			max.sample(10*ms, 100, true);
+		}
+		assertThat(max.getMaxActive(),equalTo(5));
+	}
+	@Test
+	public void limitBounded(){
+		AdaptiveMaxActive max = MaxActive.adaptive(10,1,20);
+		for(int i=0;i<1000;i++){
+			max.sample(10*ms, max.getMaxActive(), false);
+		}
+		assertThat(max.getMaxActive(),equalTo(20));
+	}
+	@Test(expected=IllegalArgumentException.class)
+	public void invalidLimits(){
+		MaxActive.adaptive(10,20,30);
+	}
+	@Test
+	public void adaptiveLazyReact(){
+		LazyReact react = new LazyReact().adaptiveMaxActive();
+		assertThat(react.range(0,1000)
+						.map(i->i*2)
+						.toList()
+						.size(),equalTo(1000));
+		react.range(0,1000)
+			 .map(i->i*2)
+			 .forEach(i->{});
+		AdaptiveMaxActive max = (AdaptiveMaxActive)react.getMaxActive();
+		assertThat(max.getMaxActive(),greaterThan(0));
+	}
+}
@@ -1,17 +1,23 @@
 package com.aol.cyclops.react.collectors.lazy;
 
-import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.atLeastOnce;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.times;
-import static org.mockito.Mockito.verify;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.junit.Before;
 import org.junit.Test;
-import org.mockito.Mockito;
 
 import com.aol.cyclops.control.LazyReact;
 import com.aol.cyclops.internal.react.async.future.FastFuture;
@@ -31,67 +37,141 @@ public class BatchingCollectorTest {
 		}
 	}
 	@Test
-	public void testAcceptMock() {
-		FastFuture cf = mock(FastFuture.class);
-		given(cf.isDone()).willReturn(true);
+	public void testAcceptCompleted() {
 		for(int i=0;i<1000;i++){
-			collector.accept(cf);
+			collector.accept(FastFuture.completedFuture(i));
 		}
-		verify(cf,atLeastOnce()).isDone();
+		assertThat(collector.getResults().size(),equalTo(1000));
+		assertThat(collector.getAllResults().size(),equalTo(1000));
 	}
 	@Test
-	public void testAcceptMock495() {
+	public void testAcceptPending495() {
 		collector = new BatchingCollector(new MaxActive(500,5),LazyFutureStream.of(1)).withResults(new ArrayList<>());
-		FastFuture cf = mock(FastFuture.class);
-		given(cf.isDone()).willReturn(true);
-		for(int i=0;i<1000;i++){
-			collector.accept(cf);
-		}
-		verify(cf,times(501)).isDone();
+		List<FastFuture<Integer>> futures = pending(500);
+		futures.forEach(collector::accept);
+		assertThat(collector.getResults().size(),equalTo(0));
+		for(int i=0;i<300;i++)
+			futures.get(i).set(i);
+		assertThat(collector.getResults().size(),equalTo(300));
+		assertThat(collector.getAllResults().size(),equalTo(500));
 	}
 	@Test
-	public void testAcceptMock50() {
+	public void testAcceptAsync50() {
 		collector = new BatchingCollector(new MaxActive(500,450),LazyFutureStream.of(1)).withResults(new ArrayList<>());
-		FastFuture cf = mock(FastFuture.class);
-		given(cf.isDone()).willReturn(true);
-		for(int i=0;i<1000;i++){
-			collector.accept(cf);
-		}
-		verify(cf,times(501)).isDone();
+		assertAllCollected(1000);
 	}
 
 	@Test
 	public void testBuilder() {
 		collector = BatchingCollector.builder().blocking(LazyFutureStream.of(1)).maxActive(new MaxActive(2,1)).results(new ArrayList<>()).build();
-		FastFuture cf = Mockito.mock(FastFuture.class);
-		given(cf.isDone()).willReturn(true);
-		for(int i=0;i<1000;i++){
-			collector.accept(cf);
-		}
-		verify(cf,times(999)).isDone();
+		assertAllCollected(1000);
 	}
 
 	@Test
 	public void testWithMaxActive() {
 		collector = collector.withMaxActive(new MaxActive(10000,5));
-		FastFuture cf = Mockito.mock(FastFuture.class);
-		given(cf.isDone()).willReturn(true);
-		for(int i=0;i<1000;i++){
-			collector.accept(cf);
-		}
-		verify(cf,times(0)).isDone();
+		List<FastFuture<Integer>> futures = pending(1000);
+		futures.forEach(collector::accept);
+		assertThat(collector.getResults().size(),equalTo(0));
+		futures.get(10).set(10);
+		assertThat(collector.getResults().size(),equalTo(1));
+		assertThat(collector.getAllResults().size(),equalTo(1000));
 	}
 
 	@Test
 	public void testBatchingCollectorMaxActive() {
 		collector = new BatchingCollector(new MaxActive(10,5),LazyFutureStream.of(1)).withResults(new HashSet<>());
-		FastFuture cf = Mockito.mock(FastFuture.class);
-		given(cf.isDone()).willReturn(true);
-		for(int i=0;i<1000;i++){
-			collector.accept(cf);
+		assertAllCollected(1000);
+	}
+	@Test
+	public void failedFuturesAreCollected() {
+		collector = new BatchingCollector(new MaxActive(10,5),LazyFutureStream.of(1)).withResults(new ArrayList<>());
+		for(int i=0;i<100;i++)
+			collector.accept(i%10==0 ? FastFuture.failedFuture(new RuntimeException()) : FastFuture.completedFuture(i));
+		Collection<FastFuture> results = collector.getResults();
+		assertThat(results.size(),equalTo(100));
+		assertThat(results.stream().filter(FastFuture::isCompletedExceptionally).count(),equalTo(10l));
+	}
+	
+	private List<FastFuture<Integer>> pending(int size){
+		List<FastFuture<Integer>> futures = new ArrayList<>();
+		for(int i=0;i<size;i++)
+			futures.add(new FastFuture<>());
+		return futures;
+	}
+	/*
+	 * Futures are completed on other threads, so accept parks whenever more than maxActive are in flight
+	 */
+	private void assertAllCollected(int size){
+		ExecutorService ex = Executors.newFixedThreadPool(4);
+		try{
+			for(int i=0;i<size;i++){
+				FastFuture<Integer> f = new FastFuture<>();
+				int value = i;
+				collector.accept(f);
+				ex.execute(()->f.set(value));
+			}
+			Collection<FastFuture<Integer>> results = collector.getAllResults();
+			assertThat(results.size(),equalTo(size));
+			assertThat(results.stream().map(FastFuture::join).collect(Collectors.toSet()),
+						equalTo(IntStream.range(0, size).boxed().collect(Collectors.toSet())));
+		}finally{
+			ex.shutdown();
 		}
-		verify(cf,times(990)).isDone();
 	}
 
+	@Test
+	public void completedFuturesAreCollected() {
+		collector = new BatchingCollector(new MaxActive(2,1),LazyFutureStream.of(1)).withResults(new ArrayList<>());
+		for(int i=0;i<1000;i++){
+			collector.accept(FastFuture.completedFuture(i));
+		}
+		assertThat(collector.getResults().size(),equalTo(1000));
+		List<Integer> values = (List)collector.getAllResults().stream()
+												.map(f->((FastFuture)f).join())
+												.collect(Collectors.toList());
+		assertThat(values.get(0),equalTo(0));
+		assertThat(values.get(999),equalTo(999));
+	}
+	@Test
+	public void activeFuturesIncludedInAllResults() {
+		collector = new BatchingCollector(new MaxActive(10,5),LazyFutureStream.of(1)).withResults(new ArrayList<>());
+		List<FastFuture<Integer>> futures = new ArrayList<>();
+		for(int i=0;i<5;i++){
+			FastFuture<Integer> f = new FastFuture<>();
+			futures.add(f);
+			collector.accept(f);
+		}
+		assertThat(collector.getResults().size(),equalTo(0));
+		futures.get(2).set(2);
+		assertThat(collector.getResults().size(),equalTo(1));
+		assertThat(collector.getAllResults().size(),equalTo(5));
+		futures.get(3).set(3);
+		assertThat(collector.getAllResults().size(),equalTo(5));
+	}
+	@Test
+	public void acceptParksUntilReducedTo() throws InterruptedException {
+		collector = new BatchingCollector(new MaxActive(2,1),LazyFutureStream.of(1)).withResults(new CopyOnWriteArrayList<>());
+		List<FastFuture<Integer>> futures = new CopyOnWriteArrayList<>();
+		AtomicBoolean finished = new AtomicBoolean(false);
+		Thread t = new Thread(()->{
+			for(int i=0;i<3;i++){
+				FastFuture<Integer> f = new FastFuture<>();
+				futures.add(f);
+				collector.accept(f);
+			}
+			finished.set(true);
+		});
+		t.start();
+		while(futures.size()<3)
+			Thread.sleep(1);
+		Thread.sleep(100);
+		assertThat(finished.get(),equalTo(false));
+		futures.get(0).set(0);
+		futures.get(1).set(1);
+		t.join(TimeUnit.SECONDS.toMillis(10));
+		assertTrue(finished.get());
+		assertThat(collector.getAllResults().size(),equalTo(3));
+	}
 
 }
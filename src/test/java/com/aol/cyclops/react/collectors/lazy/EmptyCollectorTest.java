@@ -1,13 +1,16 @@
 package com.aol.cyclops.react.collectors.lazy;
 
 import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
-import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.atLeastOnce;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.times;
-import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -28,33 +31,58 @@ public class EmptyCollectorTest {
 		}
 	}
 	@Test
-	public void testAcceptMock() {
-		FastFuture cf = mock(FastFuture.class);
-		given(cf.isDone()).willReturn(true);
+	public void testAcceptCompleted() {
 		for(int i=0;i<1000;i++){
-			collector.accept(cf);
+			collector.accept(FastFuture.completedFuture(10l));
 		}
-		verify(cf,atLeastOnce()).isDone();
+		assertTrue(collector.hasCapacity(1-MaxActive.IO.getMaxActive())); //nothing in flight
 	}
 	@Test
-	public void testAcceptMock495() {
+	public void testAcceptPending495() {
 		collector = new EmptyCollector<>(new MaxActive(500,5),cf -> cf.join());
-		FastFuture cf = mock(FastFuture.class);
-		given(cf.isDone()).willReturn(true);
-		for(int i=0;i<1000;i++){
-			collector.accept(cf);
+		List<FastFuture<Integer>> futures = new ArrayList<>();
+		for(int i=0;i<500;i++){
+			FastFuture<Integer> f = new FastFuture<>();
+			futures.add(f);
+			collector.accept(f);
 		}
-		verify(cf,times(501)).isDone();
+		assertFalse(collector.hasCapacity(0)); //500 in flight
+		for(int i=0;i<496;i++)
+			futures.get(i).set(i);
+		assertTrue(collector.hasCapacity(-495)); //4 in flight
+		assertFalse(collector.hasCapacity(-496));
 	}
 	@Test
-	public void testAcceptMock50() {
-		collector = new EmptyCollector<>(new MaxActive(500,450),cf -> cf.join());
-		FastFuture cf = mock(FastFuture.class);
-		given(cf.isDone()).willReturn(true);
+	public void testFailedFuturesJoined50() {
+		AtomicInteger joined = new AtomicInteger(0);
+		collector = new EmptyCollector<>(new MaxActive(500,450),cf -> { joined.incrementAndGet(); return null;});
 		for(int i=0;i<1000;i++){
-			collector.accept(cf);
+			collector.accept(i%100==0 ? FastFuture.failedFuture(new RuntimeException()) : FastFuture.completedFuture(i));
 		}
-		verify(cf,times(501)).isDone();
+		assertThat(joined.get(),is(10));
+	}
+	@Test
+	public void testAcceptParksUntilReducedTo() throws InterruptedException {
+		collector = new EmptyCollector<>(new MaxActive(2,1),cf -> cf.join());
+		List<FastFuture<Integer>> futures = new CopyOnWriteArrayList<>();
+		AtomicBoolean finished = new AtomicBoolean(false);
+		Thread t = new Thread(()->{
+			for(int i=0;i<3;i++){
+				FastFuture<Integer> f = new FastFuture<>();
+				futures.add(f);
+				collector.accept(f);
+			}
+			finished.set(true);
+		});
+		t.start();
+		while(futures.size()<3)
+			Thread.sleep(1);
+		Thread.sleep(100);
+		assertFalse(finished.get());
+		futures.get(0).set(0);
+		futures.get(1).set(1);
+		t.join(TimeUnit.SECONDS.toMillis(10));
+		assertTrue(finished.get());
 	}
 
 	@Test
@@ -0,0 +1,112 @@
+package com.aol.cyclops.react.lazy;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.aol.cyclops.control.LazyReact;
+import com.nurkiewicz.asyncretry.AsyncRetryExecutor;
+
+public class LazyRetryTest {
+
+	ExecutorService taskExecutor;
+	ScheduledExecutorService scheduler;
+	Map<Integer,AtomicInteger> attempts;
+	Collection<Throwable> errors;
+
+	@Before
+	public void setup(){
+		taskExecutor = Executors.newSingleThreadExecutor();
+		scheduler = Executors.newSingleThreadScheduledExecutor();
+		attempts = new ConcurrentHashMap<>();
+		errors = Collections.synchronizedCollection(new ArrayList<>());
+	}
+	@After
+	public void tearDown(){
+		taskExecutor.shutdown();
+		scheduler.shutdown();
+	}
+	private int attempt(int value){
+		return attempts.computeIfAbsent(value, k->new AtomicInteger(0)).incrementAndGet();
+	}
+	private LazyReact react(AsyncRetryExecutor retrier){
+		return new LazyReact(taskExecutor).withRetrier(retrier);
+	}
+
+	@Test(timeout=10_000)
+	public void succeedsAfterFailures(){
+		AsyncRetryExecutor retrier = new AsyncRetryExecutor(scheduler).retryOn(Throwable.class)
+																		.withFixedBackoff(5)
+																		.withMaxRetries(5);
+		List<Integer> result = react(retrier).of(1,2,3)
+											.retry(i->{
+												if(attempt(i)<=3)
+													throw new RuntimeException("failed");
+												return i*10;
+											})
+											.toList();
+		Collections.sort(result);
+
+		assertThat(result,equalTo(Arrays.asList(10,20,30)));
+		for(int i=1;i<4;i++)
+			assertThat(attempts.get(i).get(),equalTo(4));
+	}
+	@Test(timeout=10_000)
+	public void finalFailurePropagates(){
+		AsyncRetryExecutor retrier = new AsyncRetryExecutor(scheduler).retryOn(Throwable.class)
+																		.withFixedBackoff(5)
+																		.withMaxRetries(2);
+		List<Integer> result = react(retrier).of(1,2,3)
+											.capture(errors::add)
+											.<Integer>retry(i->{
+												attempt(i);
+												throw new RuntimeException("failed");
+											})
+											.toList();
+
+		assertThat(result.size(),equalTo(0));
+		assertThat(errors.size(),equalTo(3));
+		for(int i=1;i<4;i++)
+			assertThat(attempts.get(i).get(),equalTo(3));
+	}
+	@Test(timeout=10_000)
+	public void taskExecutorFreeWhileRetryPending() throws Exception{
+		AsyncRetryExecutor retrier = new AsyncRetryExecutor(scheduler).retryOn(Throwable.class)
+																		.withFixedBackoff(1_000)
+																		.withMaxRetries(1);
+		CountDownLatch failedOnce = new CountDownLatch(1);
+		CompletableFuture<List<Integer>> result = CompletableFuture.supplyAsync(()->react(retrier).of(1)
+																								.retry(i->{
+																									if(attempt(i)==1){
+																										failedOnce.countDown();
+																										throw new RuntimeException("failed");
+																									}
+																									return i;
+																								})
+																								.toList());
+		failedOnce.await();
+		//the single task executor thread is available before the backoff elapses and the retry runs
+		assertThat(taskExecutor.submit(()->attempts.get(1).get()).get(500,TimeUnit.MILLISECONDS),equalTo(1));
+
+		assertThat(result.get(5,TimeUnit.SECONDS),equalTo(Arrays.asList(1)));
+		assertThat(attempts.get(1).get(),equalTo(2));
+	}
+}
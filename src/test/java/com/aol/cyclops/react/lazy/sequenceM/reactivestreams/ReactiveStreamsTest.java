@@ -30,4 +30,18 @@ public class ReactiveStreamsTest {
 		assertThat(sub.stream().toList(),equalTo(
 				Arrays.asList()));
 	}
+	@Test
+	public void publishAndSubscribePrefetch(){
+		SeqSubscriber<Integer> sub = SeqSubscriber.subscriber(16);
+		ReactiveSeq.range(0,1000).subscribe(sub);
+		assertThat(sub.stream().toList(),equalTo(
+				ReactiveSeq.range(0,1000).toList()));
+	}
+	@Test
+	public void publishAndSubscribePrefetchLimit(){
+		SeqSubscriber<Integer> sub = SeqSubscriber.subscriber(4);
+		ReactiveSeq.of(1,2,3,4,5,6,7,8,9,10).subscribe(sub);
+		assertThat(sub.stream().limit(5).toList(),equalTo(
+				Arrays.asList(1,2,3,4,5)));
+	}
 }
@@ -0,0 +1,57 @@
+package com.aol.cyclops.react.reactivestreams.jdk;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import com.aol.cyclops.control.LazyReact;
+
+public class AsynchronousPublisherTest {
+
+	@Test(timeout=10_000)
+	public void subscribeAsyncSingleThreadedStream() throws InterruptedException{
+		ExecutorService ex = Executors.newSingleThreadExecutor();
+		try{
+			List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+			CountDownLatch complete = new CountDownLatch(1);
+			new LazyReact(ex).async()
+							.of(1,2,3)
+							.map(i->i*2)
+							.subscribeAsync(new Subscriber<Integer>(){
+								@Override
+								public void onSubscribe(Subscription s) {
+									s.request(Long.MAX_VALUE);
+								}
+								@Override
+								public void onNext(Integer t) {
+									received.add(t);
+								}
+								@Override
+								public void onError(Throwable t) {
+									complete.countDown();
+								}
+								@Override
+								public void onComplete() {
+									complete.countDown();
+								}
+							});
+			complete.await();
+			List<Integer> sorted = new ArrayList<>(received);
+			Collections.sort(sorted);
+			assertThat(sorted,equalTo(Arrays.asList(2,4,6)));
+		}finally{
+			ex.shutdown();
+		}
+	}
+}
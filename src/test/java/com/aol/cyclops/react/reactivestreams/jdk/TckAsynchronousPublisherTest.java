@@ -0,0 +1,40 @@
+package com.aol.cyclops.react.reactivestreams.jdk;
+
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.tck.PublisherVerification;
+import org.reactivestreams.tck.TestEnvironment;
+import org.testng.annotations.Test;
+
+import com.aol.cyclops.control.LazyReact;
+import com.aol.cyclops.types.futurestream.LazyFutureStream;
+@Test
+public class TckAsynchronousPublisherTest extends PublisherVerification<Long>{
+
+	static final Executor exec = Executors.newFixedThreadPool(4);
+	
+	public TckAsynchronousPublisherTest(){
+		  super(new TestEnvironment(300L));
+	}
+	
+
+	@Override
+	public Publisher<Long> createPublisher(long elements) {
+		LazyFutureStream<Long> stream = LazyReact.sequentialBuilder()
+												.iterate(0l, i->i+1l)
+												.limit(Math.min(elements,1000));
+		return s->stream.subscribeAsync(s,exec);
+		
+	}
+
+	@Override
+	public Publisher<Long> createFailedPublisher() {
+		return null; //not possible to subscribe to failed Stream
+		
+	}
+	
+
+}
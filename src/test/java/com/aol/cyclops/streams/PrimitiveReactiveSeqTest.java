@@ -0,0 +1,159 @@
+package com.aol.cyclops.streams;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import org.jooq.lambda.tuple.Tuple;
+import org.junit.Test;
+
+import com.aol.cyclops.control.DoubleReactiveSeq;
+import com.aol.cyclops.control.IntReactiveSeq;
+import com.aol.cyclops.control.LongReactiveSeq;
+import com.aol.cyclops.control.ReactiveSeq;
+
+public class PrimitiveReactiveSeqTest {
+
+	@Test
+	public void rangeSum(){
+		assertThat(IntReactiveSeq.range(0,1000).sum(),equalTo(IntStream.range(0,1000).sum()));
+	}
+	@Test
+	public void rangeReversed(){
+		assertArrayEquals(new int[]{4,3,2,1,0},IntReactiveSeq.range(0,5).reverse().toArray());
+	}
+	@Test
+	public void reverseNonRange(){
+		assertArrayEquals(new int[]{3,2,1},IntReactiveSeq.of(1,2,3).reverse().toArray());
+	}
+	@Test
+	public void boxedRetainsReversability(){
+		assertThat(IntReactiveSeq.range(0,3).boxed().reverse().toList(),equalTo(Arrays.asList(2,1,0)));
+	}
+	@Test
+	public void mapToObj(){
+		assertThat(IntReactiveSeq.of(1,2).mapToObj(i->"x"+i).toList(),equalTo(Arrays.asList("x1","x2")));
+	}
+	@Test
+	public void limitWhile(){
+		assertArrayEquals(new int[]{4,3},IntReactiveSeq.of(4,3,6,7).limitWhile(i->i<6).toArray());
+	}
+	@Test
+	public void limitUntil(){
+		assertArrayEquals(new int[]{4,3},IntReactiveSeq.of(4,3,6,7).limitUntil(i->i==6).toArray());
+	}
+	@Test
+	public void skipWhile(){
+		assertArrayEquals(new int[]{6,2},IntReactiveSeq.of(4,3,6,2).skipWhile(i->i<6).toArray());
+	}
+	@Test
+	public void skipUntil(){
+		assertArrayEquals(new int[]{6,2},IntReactiveSeq.of(4,3,6,2).skipUntil(i->i==6).toArray());
+	}
+	@Test
+	public void scanLeft(){
+		assertArrayEquals(new int[]{0,1,3,6},IntReactiveSeq.of(1,2,3).scanLeft(0,(a,b)->a+b).toArray());
+	}
+	@Test
+	public void scanLeftEmpty(){
+		assertArrayEquals(new int[]{0},IntReactiveSeq.of().scanLeft(0,(a,b)->a+b).toArray());
+	}
+	@Test
+	public void slidingMatchesReactiveSeq(){
+		for(int size=1;size<5;size++){
+			for(int increment=1;increment<5;increment++){
+				List<List<Integer>> expected = ReactiveSeq.range(0,7).sliding(size,increment)
+															.map(l->(List<Integer>)l).toList();
+				List<List<Integer>> actual = IntReactiveSeq.range(0,7).sliding(size,increment)
+															.map(a->IntStream.of(a).boxed().collect(Collectors.toList()))
+															.toList();
+				assertThat("size " + size + " increment " + increment,actual,equalTo(expected));
+			}
+		}
+	}
+	@Test
+	public void slidingEmpty(){
+		assertThat(IntReactiveSeq.of().sliding(2).count(),equalTo(0L));
+	}
+	@Test
+	public void grouped(){
+		List<int[]> groups = IntReactiveSeq.of(1,2,3,4,5).grouped(2).toList();
+		assertThat(groups.size(),equalTo(3));
+		assertArrayEquals(new int[]{1,2},groups.get(0));
+		assertArrayEquals(new int[]{3,4},groups.get(1));
+		assertArrayEquals(new int[]{5},groups.get(2));
+	}
+	@Test
+	public void zip(){
+		assertArrayEquals(new int[]{11,22},IntReactiveSeq.of(1,2,3).zip(IntStream.of(10,20),(a,b)->a+b).toArray());
+	}
+	@Test
+	public void zipWithIndex(){
+		assertThat(IntReactiveSeq.of(5,6).zipWithIndex().toList(),
+					equalTo(Arrays.asList(Tuple.tuple(5,0L),Tuple.tuple(6,1L))));
+	}
+	@Test
+	public void onePer(){
+		assertArrayEquals(new int[]{1,2,3},IntReactiveSeq.of(1,2,3).onePer(1, java.util.concurrent.TimeUnit.MILLISECONDS).toArray());
+		assertArrayEquals(new long[]{1,2,3},LongReactiveSeq.of(1,2,3).onePer(1, java.util.concurrent.TimeUnit.MILLISECONDS).toArray());
+		assertArrayEquals(new double[]{1,2,3},DoubleReactiveSeq.of(1,2,3).onePer(1, java.util.concurrent.TimeUnit.MILLISECONDS).toArray(),0);
+	}
+	@Test
+	public void scanLeftLongAndDouble(){
+		assertArrayEquals(new long[]{0,1,3,6},LongReactiveSeq.of(1,2,3).scanLeft(0,(a,b)->a+b).toArray());
+		assertArrayEquals(new double[]{0,1,3,6},DoubleReactiveSeq.of(1,2,3).scanLeft(0,(a,b)->a+b).toArray(),0);
+	}
+	@Test
+	public void slidingAndGroupedLongAndDouble(){
+		List<long[]> windows = LongReactiveSeq.range(0,5).sliding(3,2).toList();
+		assertThat(windows.size(),equalTo(2));
+		assertArrayEquals(new long[]{0,1,2},windows.get(0));
+		assertArrayEquals(new long[]{2,3,4},windows.get(1));
+		List<double[]> groups = DoubleReactiveSeq.of(1,2,3).grouped(2).toList();
+		assertThat(groups.size(),equalTo(2));
+		assertArrayEquals(new double[]{1,2},groups.get(0),0);
+		assertArrayEquals(new double[]{3},groups.get(1),0);
+	}
+	@Test
+	public void reactiveSeqMapToInt(){
+		assertArrayEquals(new int[]{0,1,3,6},ReactiveSeq.of("a","bb","ccc")
+														.mapToInt(String::length)
+														.scanLeft(0,(a,b)->a+b)
+														.toArray());
+	}
+	@Test
+	public void sumAndAvg(){
+		assertThat(ReactiveSeq.of(1,2,3).sumInt(i->i),equalTo(6));
+		assertThat(ReactiveSeq.of(1,2,3).sumLong(i->i),equalTo(6L));
+		assertThat(ReactiveSeq.of(1,2,3).avgInt(i->i),equalTo(2.0));
+		assertThat(ReactiveSeq.<Integer>of().avgInt(i->i),equalTo(0.0));
+	}
+	@Test
+	public void longRange(){
+		assertThat(LongReactiveSeq.range(0,1000).sum(),equalTo(LongStream.range(0,1000).sum()));
+		assertArrayEquals(new long[]{2,1,0},LongReactiveSeq.range(0,3).reverse().toArray());
+	}
+	@Test
+	public void longSliding(){
+		List<long[]> windows = LongReactiveSeq.range(0,4).sliding(2).toList();
+		assertThat(windows.size(),equalTo(3));
+		assertArrayEquals(new long[]{2,3},windows.get(2));
+	}
+	@Test
+	public void longToInt(){
+		assertArrayEquals(new int[]{1,2},LongReactiveSeq.of(1L,2L).mapToInt(l->(int)l).toArray());
+	}
+	@Test
+	public void doubleOps(){
+		assertArrayEquals(new double[]{0.0,1.5,4.0},DoubleReactiveSeq.of(1.5,2.5).scanLeft(0,(a,b)->a+b).toArray(),0.0001);
+		assertArrayEquals(new double[]{2.5,1.5},DoubleReactiveSeq.of(1.5,2.5).reverse().toArray(),0.0001);
+		assertThat(DoubleReactiveSeq.of(1.5,2.5,3.5).limitWhile(d->d<3).count(),equalTo(2L));
+	}
+
+}
@@ -1,13 +1,20 @@
 package com.aol.cyclops.streams;
 
 import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
 
 import org.junit.Test;
 
@@ -162,4 +169,77 @@ public class RangeTest {
 		
 	}
 	
+	@Test
+	public void rangeSplits(){
+		Spliterator<Integer> range = ReactiveSeq.range(0,1000).spliterator();
+		Spliterator<Integer> prefix = range.trySplit();
+		assertFalse(prefix==range);
+		assertThat(prefix.estimateSize(),equalTo(500L));
+		assertThat(range.estimateSize(),equalTo(500L));
+		assertTrue(range.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED));
+	}
+	@Test
+	public void rangeSingleElementDoesNotSplit(){
+		assertNull(ReactiveSeq.range(0,1).spliterator().trySplit());
+	}
+	@Test
+	public void rangeParallel(){
+		assertThat(StreamSupport.stream(ReactiveSeq.range(0,100_000).spliterator(),true)
+								.collect(Collectors.toList()),
+					equalTo(IntStream.range(0,100_000).boxed().collect(Collectors.toList())));
+	}
+	@Test
+	public void rangeReversedParallel(){
+		assertThat(StreamSupport.stream(ReactiveSeq.range(0,100_000).reverse().spliterator(),true)
+								.collect(Collectors.toList()),
+					equalTo(IntStream.range(0,100_000).map(i->99_999-i).boxed().collect(Collectors.toList())));
+	}
+	@Test
+	public void rangeLongParallel(){
+		assertThat(StreamSupport.stream(ReactiveSeq.rangeLong(-50_000,50_000).spliterator(),true)
+								.mapToLong(i->i).sum(),
+					equalTo(LongStream.range(-50_000,50_000).sum()));
+	}
+	@Test
+	public void rangeLongReversedParallel(){
+		assertThat(StreamSupport.stream(ReactiveSeq.rangeLong(0,100_000).reverse().spliterator(),true)
+								.collect(Collectors.toList()),
+					equalTo(LongStream.range(0,100_000).map(i->99_999-i).boxed().collect(Collectors.toList())));
+	}
+	@Test
+	public void rangeLongUnsized(){
+		Spliterator<Long> range = ReactiveSeq.rangeLong(Long.MIN_VALUE,Long.MAX_VALUE).spliterator();
+		assertFalse(range.hasCharacteristics(Spliterator.SIZED));
+		assertThat(range.trySplit().estimateSize(),equalTo(Long.MAX_VALUE));
+	}
+	@Test
+	public void reverseTwice(){
+		assertThat(ReactiveSeq.range(0,5).reverse().reverse().toList(),
+					equalTo(Arrays.asList(0,1,2,3,4)));
+	}
+	@Test
+	public void reversedOfArrayParallel(){
+		Integer[] array = IntStream.range(0,10_000).boxed().toArray(Integer[]::new);
+		assertThat(StreamSupport.stream(ReactiveSeq.reversedOf(array).spliterator(),true)
+								.collect(Collectors.toList()),
+					equalTo(IntStream.range(0,10_000).map(i->9_999-i).boxed().collect(Collectors.toList())));
+	}
+	@Test
+	public void reversedListOfParallel(){
+		List<Integer> list = IntStream.range(0,10_000).boxed().collect(Collectors.toList());
+		Spliterator<Integer> split = ReactiveSeq.reversedListOf(list).spliterator();
+		assertThat(split.estimateSize(),equalTo(10_000L));
+		assertThat(StreamSupport.stream(split,true)
+								.collect(Collectors.toList()),
+					equalTo(IntStream.range(0,10_000).map(i->9_999-i).boxed().collect(Collectors.toList())));
+	}
+	@Test
+	public void reversedLinkedList(){
+		List<Integer> list = new LinkedList<>(Arrays.asList(1,2,3));
+		assertThat(ReactiveSeq.reversedListOf(list).toList(),
+					equalTo(Arrays.asList(3,2,1)));
+		assertThat(ReactiveSeq.fromList(list).toList(),
+					equalTo(Arrays.asList(1,2,3)));
+	}
+
 }
@@ -16,6 +16,7 @@ import org.junit.Test;
 
 import com.aol.cyclops.data.collections.extensions.standard.ListX;
 import com.aol.cyclops.control.ReactiveSeq;
+import com.aol.cyclops.util.stream.StreamUtils;
 import com.aol.cyclops.util.stream.Streamable;
 
 public class WindowingTest {
@@ -194,6 +195,32 @@ public class WindowingTest {
 	
 	}
 
+	@Test
+	public void slidingRetainedWindowsRemainValid() {
+		List<ListX<Integer>> windows = ReactiveSeq.range(0,100).sliding(3,1).toList();
+		assertThat(windows.size(),equalTo(98));
+		for(int i=0;i<windows.size();i++)
+			assertThat(windows.get(i),equalTo(Arrays.asList(i,i+1,i+2)));
+	}
+	@Test
+	public void slidingLargeWindow() {
+		List<ListX<Integer>> windows = ReactiveSeq.range(0,10_000).sliding(1_000,500).toList();
+		assertThat(windows.size(),equalTo(19));
+		assertThat(windows.get(18).size(),equalTo(1_000));
+		assertThat(windows.get(18).get(0),equalTo(9_000));
+		assertThat(windows.get(18).get(999),equalTo(9_999));
+	}
+	@Test(expected=UnsupportedOperationException.class)
+	public void slidingWindowsAreReadOnly() {
+		ReactiveSeq.of(1,2,3).sliding(2).findFirst().get().add(4);
+	}
+	@Test
+	public void windowRetainedWindowsRemainValid() {
+		List<Streamable<Integer>> windows = StreamUtils.window(ReactiveSeq.range(0,50),4,2).collect(Collectors.toList());
+		assertThat(windows.get(0).toList(),equalTo(Arrays.asList(0,1,2,3)));
+		assertThat(windows.get(23).toList(),equalTo(Arrays.asList(46,47,48,49)));
+	}
+
 }
 
 
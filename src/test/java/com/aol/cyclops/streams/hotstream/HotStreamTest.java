@@ -1,10 +1,14 @@
 package com.aol.cyclops.streams.hotstream;
 
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
+import java.util.Iterator;
+import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executor;
@@ -13,11 +17,14 @@ import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 import org.agrona.concurrent.ManyToOneConcurrentArrayQueue;
 import org.junit.Test;
 
 import com.aol.cyclops.control.ReactiveSeq;
+import com.aol.cyclops.types.stream.HotStream;
 import com.aol.cyclops.types.stream.PausableHotStream;
 
 public class HotStreamTest {
@@ -243,5 +250,63 @@ public class HotStreamTest {
 		assertTrue(value!=null);
 		active=false;
 	}
+	@Test
+	public void hotStreamConnectMoreThanTen() throws InterruptedException{
+		active=true;
+		HotStream<Integer> s = ReactiveSeq.range(0,Integer.MAX_VALUE)
+				.limitWhile(i->active)
+				.hotStream(exec);
+		List<ReactiveSeq<Integer>> connected = ReactiveSeq.range(0,25)
+				.map(i->s.connect(new ManyToOneConcurrentArrayQueue<Integer>(100)))
+				.toList();
+		
+		for(ReactiveSeq<Integer> next : connected)
+			assertThat(next.limit(10).collect(Collectors.toList()).size(),equalTo(10));
+		active=false;
+	}
+	@Test(timeout=10_000)
+	public void hotStreamDisconnect() throws InterruptedException{
+		active=true;
+		AtomicInteger published = new AtomicInteger(0);
+		CountDownLatch started = new CountDownLatch(1);
+		HotStream<Integer> s = ReactiveSeq.range(0,Integer.MAX_VALUE)
+				.limitWhile(i->active)
+				.peek(i->published.set(i))
+				.peek(i->started.countDown())
+				.hotStream(exec);
+		Queue<Integer> q1 = new ManyToOneConcurrentArrayQueue<>(100);
+		Queue<Integer> q2 = new ManyToOneConcurrentArrayQueue<>(100);
+		ReactiveSeq<Integer> stream = s.connect(q1);
+		s.connect(q2);
+		started.await();
+		
+		assertTrue(s.disconnect(q2));
+		assertFalse(s.disconnect(q2));
+		int marker = published.get();
+		//elements are published to q1 then q2 in turn, once a later element reaches q1 no publish to q2 is in flight
+		Iterator<Integer> it = stream.iterator();
+		while(it.next()<=marker+1);
+		q2.clear();
+		while(it.next()<=marker+100);
+		
+		assertThat(q2.size(),equalTo(0));
+		active=false;
+	}
+	@Test(timeout=10_000)
+	public void disconnectedStreamCompletes() throws InterruptedException{
+		active=true;
+		CountDownLatch started = new CountDownLatch(1);
+		HotStream<Integer> s = ReactiveSeq.range(0,Integer.MAX_VALUE)
+				.limitWhile(i->active)
+				.peek(i->started.countDown())
+				.hotStream(exec);
+		Queue<Integer> q = new ManyToOneConcurrentArrayQueue<>(100);
+		ReactiveSeq<Integer> stream = s.connect(q);
+		started.await();
+		
+		assertTrue(s.disconnect(q));
+		assertThat(stream.count(),lessThan(101l));
+		active=false;
+	}
 	volatile boolean active;
 }
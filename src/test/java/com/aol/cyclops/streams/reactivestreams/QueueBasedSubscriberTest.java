@@ -0,0 +1,131 @@
+package com.aol.cyclops.streams.reactivestreams;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscription;
+
+import com.aol.cyclops.control.LazyReact;
+import com.aol.cyclops.control.Maybe;
+import com.aol.cyclops.control.ReactiveSeq;
+
+public class QueueBasedSubscriberTest {
+
+    LazyReact react = new LazyReact(4,4);
+
+    private List<Integer> sorted(ReactiveSeq<Integer> stream){
+        return stream.sorted().collect(Collectors.toList());
+    }
+    private List<Integer> range(int start,int end){
+        return ReactiveSeq.range(start, end).toList();
+    }
+    /**
+     * Emits values (fewer than the prefetch size) on the first request and then fails
+     */
+    private Publisher<Integer> failing(Integer... values){
+        return failing(false,values);
+    }
+    /**
+     * As failing, optionally also signalling onComplete after onError (as Value#subscribe does)
+     */
+    private Publisher<Integer> failing(boolean thenComplete,Integer... values){
+        return s -> s.onSubscribe(new Subscription(){
+            boolean done = false;
+            @Override
+            public void request(long n) {
+                if(done)
+                    return;
+                done = true;
+                for(Integer next : values)
+                    s.onNext(next);
+                s.onError(new RuntimeException("boom"));
+                if(thenComplete)
+                    s.onComplete();
+            }
+            @Override
+            public void cancel() {
+                done = true;
+            }
+        });
+    }
+
+    @Test(timeout=30_000)
+    public void mergeMoreThanPrefetchSync(){
+        assertThat(sorted(ReactiveSeq.of(-1)
+                                     .mergePublisher(Arrays.asList(ReactiveSeq.range(0,500),ReactiveSeq.range(500,1000),
+                                                                   ReactiveSeq.range(1000,1500)))),
+                   equalTo(range(-1,1500)));
+    }
+    @Test(timeout=30_000)
+    public void mergeMoreThanPrefetchAsync(){
+        for(int run=0;run<20;run++){
+            assertThat(sorted(ReactiveSeq.of(-1)
+                                         .mergePublisher(Arrays.asList(react.range(0,500),ReactiveSeq.range(500,1000),
+                                                                       react.range(1000,1500)))),
+                       equalTo(range(-1,1500)));
+        }
+    }
+    @Test(timeout=30_000)
+    public void mergeWithFailingPublisherCompletes(){
+        assertThat(sorted(ReactiveSeq.of(-1)
+                                     .mergePublisher(Arrays.asList(ReactiveSeq.range(0,100),failing(100,101),
+                                                                   react.range(102,200)))),
+                   equalTo(range(-1,200)));
+    }
+    @Test(timeout=30_000)
+    public void flatMapMoreThanPrefetch(){
+        assertThat(sorted(ReactiveSeq.range(0,10)
+                                     .flatMapPublisher(i->ReactiveSeq.range(i*100,i*100+100))),
+                   equalTo(range(0,1000)));
+    }
+    @Test(timeout=30_000)
+    public void flatMapMoreThanPrefetchAsync(){
+        for(int run=0;run<20;run++){
+            assertThat(sorted(ReactiveSeq.range(0,10)
+                                         .flatMapPublisher(i->i%2==0 ? react.range(i*100,i*100+100) : ReactiveSeq.range(i*100,i*100+100))),
+                       equalTo(range(0,1000)));
+        }
+    }
+    @Test(timeout=30_000)
+    public void flatMapMorePublishersThanMaxConcurrency(){
+        assertThat(sorted(ReactiveSeq.range(0,50)
+                                     .flatMapPublisher(i->i%2==0 ? react.range(i*100,i*100+100) : ReactiveSeq.range(i*100,i*100+100),2)),
+                   equalTo(range(0,5000)));
+    }
+    @Test(timeout=30_000)
+    public void flatMapWithFailingPublisherCompletes(){
+        assertThat(sorted(ReactiveSeq.range(0,10)
+                                     .flatMapPublisher(i->i==5 ? failing(500,501) : ReactiveSeq.range(i*100,i*100+100),2)),
+                   equalTo(range(0,1000).stream()
+                                        .filter(i->i<502 || i>=600)
+                                        .collect(Collectors.toList())));
+    }
+    @Test(timeout=30_000)
+    public void flatMapEmptyPublishers(){
+        assertThat(ReactiveSeq.of(1,2,3)
+                              .flatMapPublisher(i->Maybe.<Integer>none())
+                              .toList()
+                              .size(),
+                   equalTo(0));
+    }
+    @Test(timeout=30_000)
+    public void flatMapFailingThenCompletingPublisher(){
+        assertThat(sorted(ReactiveSeq.range(0,10)
+                                     .flatMapPublisher(i->i==5 ? failing(true,500,501) : ReactiveSeq.range(i*100,i*100+100),2)),
+                   equalTo(range(0,1000).stream()
+                                        .filter(i->i<502 || i>=600)
+                                        .collect(Collectors.toList())));
+    }
+    @Test(timeout=30_000)
+    public void mergeFailingThenCompletingPublisher(){
+        assertThat(sorted(ReactiveSeq.of(-1)
+                                     .mergePublisher(Arrays.asList(ReactiveSeq.range(0,100),failing(true,100,101)))),
+                   equalTo(range(-1,102)));
+    }
+}